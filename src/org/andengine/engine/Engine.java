@@ -38,6 +38,7 @@ import org.andengine.opengl.shader.ShaderProgramManager;
 import org.andengine.opengl.texture.TextureManager;
 import org.andengine.opengl.texture.atlas.bitmap.BitmapTextureAtlasTextureRegionFactory;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.IGLRecorder;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.util.debug.Debug;
 import org.andengine.util.time.TimeConstants;
@@ -609,13 +610,23 @@ public class Engine implements SensorEventListener, OnTouchListener, ITouchEvent
 		try {
 			engineLock.waitUntilCanDraw();
 
+			final IGLRecorder glRecorder = GLState.getGLRecorder();
+			if(glRecorder != null) {
+				glRecorder.onFrameBegin();
+			}
+
 			this.mVertexBufferObjectManager.updateVertexBufferObjects(pGLState);
 			this.mTextureManager.updateTextures(pGLState);
 			this.mFontManager.updateFonts(pGLState);
+			this.mShaderProgramManager.updateShaderPrograms(pGLState);
 
 			this.onUpdateDrawHandlers(pGLState, this.mCamera);
 			this.onDrawScene(pGLState, this.mCamera);
 
+			if(glRecorder != null) {
+				glRecorder.onFrameEnd();
+			}
+
 			engineLock.notifyCanUpdate();
 		} finally {
 			engineLock.unlock();
@@ -18,6 +18,7 @@ public class RenderOptions {
 
 	private boolean mMultiSampling = false;
 	private boolean mDithering = false;
+	private boolean mDepthSortedDrawing = false;
 
 	// ===========================================================
 	// Constructors
@@ -43,6 +44,19 @@ public class RenderOptions {
 		this.mDithering = pDithering;
 	}
 
+	public boolean isDepthSortedDrawing() {
+		return this.mDepthSortedDrawing;
+	}
+
+	/**
+	 * @param pDepthSortedDrawing when <code>true</code>, a depth buffer is requested and each {@link org.andengine.entity.scene.Scene} is drawn in two passes:
+	 * First the opaque shapes (the ones with blending disabled) front to back with depth testing, so the hardware can skip the pixels hidden behind them,
+	 * then all others back to front, as usual. Saves fill-rate when large opaque shapes, like backgrounds or tiles, overlap.
+	 */
+	public void setDepthSortedDrawing(final boolean pDepthSortedDrawing) {
+		this.mDepthSortedDrawing = pDepthSortedDrawing;
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -0,0 +1,205 @@
+package org.andengine.entity;
+
+import org.andengine.engine.camera.Camera;
+import org.andengine.entity.shape.IShape;
+import org.andengine.entity.sprite.Sprite;
+import org.andengine.opengl.texture.PixelFormat;
+import org.andengine.opengl.texture.region.TextureRegion;
+import org.andengine.opengl.texture.render.RenderTexture;
+import org.andengine.opengl.texture.render.RenderTexturePool;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+
+/**
+ * An {@link Entity} that renders its children once into a {@link RenderTexture} obtained from a {@link RenderTexturePool} and then draws that as a single quad,
+ * until any of its descendants calls {@link IEntity#invalidate()}. Suited for panels that are expensive to draw but rarely change, i.e. HUDs, scoreboards or menus.
+ * <p/>
+ * The children are cached in the area from <code>(0, 0)</code> to <code>(pWidth, pHeight)</code> of this {@link CachedEntity}, one unit per pixel. Anything outside of it is cut off.
+ * As the cache is rendered without a {@link Camera}, culling should not be enabled for the descendants.
+ * <p/>
+ * The {@link RenderTexture} is returned to the {@link RenderTexturePool} with {@link CachedEntity#releaseCache(GLState)}, i.e. before this {@link CachedEntity} is disposed.
+ *
+ * @author agent <agent@local>
+ * @since 06:31:53 - 19.10.2026
+ */
+public class CachedEntity extends Entity {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	protected final int mWidth;
+	protected final int mHeight;
+	protected final PixelFormat mPixelFormat;
+
+	private final RenderTexturePool mRenderTexturePool;
+	private final VertexBufferObjectManager mVertexBufferObjectManager;
+
+	private RenderTexture mRenderTexture;
+	private Sprite mCacheSprite;
+
+	private boolean mCacheEnabled = true;
+	private boolean mCacheDirty = true;
+	private boolean mCacheRendering;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public CachedEntity(final float pX, final float pY, final int pWidth, final int pHeight, final RenderTexturePool pRenderTexturePool, final VertexBufferObjectManager pVertexBufferObjectManager) {
+		this(pX, pY, pWidth, pHeight, PixelFormat.RGBA_8888, pRenderTexturePool, pVertexBufferObjectManager);
+	}
+
+	public CachedEntity(final float pX, final float pY, final int pWidth, final int pHeight, final PixelFormat pPixelFormat, final RenderTexturePool pRenderTexturePool, final VertexBufferObjectManager pVertexBufferObjectManager) {
+		super(pX, pY);
+
+		this.mWidth = pWidth;
+		this.mHeight = pHeight;
+		this.mPixelFormat = pPixelFormat;
+
+		this.mRenderTexturePool = pRenderTexturePool;
+		this.mVertexBufferObjectManager = pVertexBufferObjectManager;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getWidth() {
+		return this.mWidth;
+	}
+
+	public int getHeight() {
+		return this.mHeight;
+	}
+
+	public boolean isCacheEnabled() {
+		return this.mCacheEnabled;
+	}
+
+	/**
+	 * @param pCacheEnabled when <code>false</code>, the children are drawn directly, i.e. while they are animated. The {@link RenderTexture} is kept until {@link CachedEntity#releaseCache(GLState)} is called.
+	 */
+	public void setCacheEnabled(final boolean pCacheEnabled) {
+		this.mCacheEnabled = pCacheEnabled;
+		this.mCacheDirty = true;
+	}
+
+	public boolean isCacheDirty() {
+		return this.mCacheDirty;
+	}
+
+	/**
+	 * Lets the cache be rendered again before the next time it is drawn. Called automatically through {@link IEntity#invalidate()} of the descendants.
+	 */
+	public void setCacheDirty() {
+		this.mCacheDirty = true;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	protected void onApplyTransformations(final GLState pGLState) {
+		/* The children are cached relative to this CachedEntity, its own transformations are applied when the cache is drawn. */
+		if(!this.mCacheRendering) {
+			super.onApplyTransformations(pGLState);
+		}
+	}
+
+	@Override
+	protected void onManagedDraw(final GLState pGLState, final Camera pCamera) {
+		if(!this.mCacheEnabled) {
+			super.onManagedDraw(pGLState, pCamera);
+			return;
+		}
+
+		if(this.mCacheDirty || (this.mRenderTexture == null) || !this.mRenderTexture.isInitialized()) {
+			this.renderCache(pGLState, pCamera);
+		}
+
+		pGLState.pushModelViewGLMatrix();
+		{
+			super.onApplyTransformations(pGLState);
+
+			this.mCacheSprite.onDraw(pGLState, pCamera);
+		}
+		pGLState.popModelViewGLMatrix();
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+
+		if(this.mCacheSprite != null) {
+			this.mCacheSprite.dispose();
+			this.mCacheSprite = null;
+		}
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Returns the {@link RenderTexture} to the {@link RenderTexturePool}. If this {@link CachedEntity} is drawn again afterwards, a new one is obtained.
+	 */
+	public void releaseCache(final GLState pGLState) {
+		if(this.mRenderTexture != null) {
+			this.mRenderTexturePool.recycle(pGLState, this.mRenderTexture);
+			this.mRenderTexture = null;
+		}
+
+		this.mCacheDirty = true;
+	}
+
+	private void renderCache(final GLState pGLState, final Camera pCamera) {
+		/* After the GL context was lost, the RenderTexture can not be reused. */
+		if((this.mRenderTexture != null) && !this.mRenderTexture.isInitialized()) {
+			this.releaseCache(pGLState);
+		}
+
+		if(this.mRenderTexture == null) {
+			this.mRenderTexture = this.mRenderTexturePool.obtain(pGLState, this.mWidth, this.mHeight, this.mPixelFormat);
+
+			if(this.mCacheSprite != null) {
+				this.mCacheSprite.dispose();
+			}
+			this.mCacheSprite = new Sprite(0, 0, this.mWidth, this.mHeight, new TextureRegion(this.mRenderTexture, 0, 0, this.mWidth, this.mHeight), this.mVertexBufferObjectManager, DrawType.STATIC);
+			/* The children are rendered with premultiplied alpha blending (see GLState#setBlendAlphaPremultiplied), so the cache holds premultiplied colors. */
+			this.mCacheSprite.setBlendFunction(IShape.BLENDFUNCTION_SOURCE_PREMULTIPLYALPHA_DEFAULT, IShape.BLENDFUNCTION_DESTINATION_PREMULTIPLYALPHA_DEFAULT);
+		}
+
+		/* Flipped vertically, so that the cache is upright when drawn with the regular texture coordinates. */
+		this.mRenderTexture.begin(pGLState, false, true, 0, 0, 0, 0);
+		{
+			/* The RenderTexture has no depth buffer, so the cache is drawn back to front even in the middle of a depth sorted pass. */
+			final boolean depthTestEnabled = pGLState.isDepthTestEnabled();
+			final DrawPass drawPass = pGLState.setDrawPass(DrawPass.ALL);
+			pGLState.disableDepthTest();
+			/* Blending the alpha channel with the regular blend function into the cleared RenderTexture would store a * a instead of a. */
+			final boolean blendAlphaPremultiplied = pGLState.setBlendAlphaPremultiplied(true);
+
+			this.mCacheRendering = true;
+			super.onManagedDraw(pGLState, pCamera);
+			this.mCacheRendering = false;
+
+			pGLState.setBlendAlphaPremultiplied(blendAlphaPremultiplied);
+			pGLState.setDrawPass(drawPass);
+			pGLState.setDepthTestEnabled(depthTestEnabled);
+		}
+		this.mRenderTexture.end(pGLState);
+
+		this.mCacheDirty = false;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
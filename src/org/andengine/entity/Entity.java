@@ -1,6 +1,8 @@
 package org.andengine.entity;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import org.andengine.engine.camera.Camera;
@@ -10,6 +12,7 @@ import org.andengine.entity.modifier.EntityModifierList;
 import org.andengine.entity.modifier.IEntityModifier;
 import org.andengine.entity.modifier.IEntityModifier.IEntityModifierMatcher;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
 import org.andengine.util.Constants;
 import org.andengine.util.adt.list.SmartList;
 import org.andengine.util.adt.transformation.Transformation;
@@ -32,13 +35,20 @@ public class Entity implements IEntity {
 	private static final int CHILDREN_CAPACITY_DEFAULT = 4;
 	private static final int ENTITYMODIFIERS_CAPACITY_DEFAULT = 4;
 	private static final int UPDATEHANDLERS_CAPACITY_DEFAULT = 4;
+	private static final int UPDATEDIVIDER_DEFAULT = 1;
 
 	private static final float[] VERTICES_SCENE_TO_LOCAL_TMP = new float[2];
 	private static final float[] VERTICES_LOCAL_TO_SCENE_TMP = new float[2];
 
+	private static int sUpdatePhaseCounter = 0;
+
+	/** Whether a subclass overrides any of the apply* transformation methods, per class. */
+	private static final HashMap<Class<?>, Boolean> APPLYTRANSFORMATIONS_OVERRIDDEN = new HashMap<Class<?>, Boolean>();
+
 	private static final ParameterCallable<IEntity> PARAMETERCALLABLE_DETACHCHILD = new ParameterCallable<IEntity>() {
 		@Override
 		public void call(final IEntity pEntity) {
+			Entity.invalidateChildren(pEntity.getParent());
 			pEntity.setParent(null);
 			pEntity.onDetached();
 		}
@@ -60,7 +70,14 @@ public class Entity implements IEntity {
 
 	protected int mZIndex = 0;
 
+	private int mUpdateDivider = Entity.UPDATEDIVIDER_DEFAULT;
+	private int mUpdatePhase;
+	private int mUpdateTick;
+	private float mUpdateSecondsElapsedAccumulated;
+
 	private IEntity mParent;
+	/** The number of {@link CachedEntity}s among the ancestors, so that {@link Entity#invalidate()} can return right away for entities that aren't cached. Maintained when the parent changes. */
+	private int mCachedAncestorCount;
 
 	protected SmartList<IEntity> mChildren;
 	private EntityModifierList mEntityModifiers;
@@ -99,6 +116,9 @@ public class Entity implements IEntity {
 
 	private Object mUserData;
 
+	/** When <code>true</code>, {@link Entity#onApplyTransformations(GLState)} calls the apply* methods one by one, as a subclass overrides at least one of them. */
+	private final boolean mApplyTransformationsOverridden;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -110,6 +130,8 @@ public class Entity implements IEntity {
 	public Entity(final float pX, final float pY) {
 		this.mX = pX;
 		this.mY = pY;
+
+		this.mApplyTransformationsOverridden = Entity.isApplyTransformationsOverridden(this.getClass());
 	}
 
 	// ===========================================================
@@ -137,6 +159,8 @@ public class Entity implements IEntity {
 	@Override
 	public void setVisible(final boolean pVisible) {
 		this.mVisible = pVisible;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -162,6 +186,8 @@ public class Entity implements IEntity {
 	@Override
 	public void setChildrenVisible(final boolean pChildrenVisible) {
 		this.mChildrenVisible = pChildrenVisible;
+
+		Entity.invalidateChildren(this);
 	}
 
 	@Override
@@ -184,6 +210,36 @@ public class Entity implements IEntity {
 		this.mChildrenIgnoreUpdate = pChildrenIgnoreUpdate;
 	}
 
+	@Override
+	public int getUpdateDivider() {
+		return this.mUpdateDivider;
+	}
+
+	@Override
+	public void setUpdateDivider(final int pUpdateDivider) {
+		if(pUpdateDivider < 1) {
+			throw new IllegalArgumentException("pUpdateDivider must be at least 1.");
+		}
+
+		this.setUpdateDivider(pUpdateDivider, (Entity.sUpdatePhaseCounter++ & Integer.MAX_VALUE) % pUpdateDivider);
+	}
+
+	@Override
+	public void setUpdateDivider(final int pUpdateDivider, final int pUpdatePhase) {
+		if(pUpdateDivider < 1) {
+			throw new IllegalArgumentException("pUpdateDivider must be at least 1.");
+		}
+		if((pUpdatePhase < 0) || (pUpdatePhase >= pUpdateDivider)) {
+			throw new IllegalArgumentException("pUpdatePhase must be in [0, " + (pUpdateDivider - 1) + "].");
+		}
+
+		this.mUpdateDivider = pUpdateDivider;
+		this.mUpdatePhase = pUpdatePhase;
+		/* Counting up from the phase, the first update happens after (pUpdateDivider - pUpdatePhase) ticks. */
+		this.mUpdateTick = pUpdatePhase;
+		this.mUpdateSecondsElapsedAccumulated = 0;
+	}
+
 	@Override
 	public boolean hasParent() {
 		return this.mParent != null;
@@ -197,6 +253,8 @@ public class Entity implements IEntity {
 	@Override
 	public void setParent(final IEntity pEntity) {
 		this.mParent = pEntity;
+
+		this.updateCachedAncestorCount();
 	}
 
 	@Override
@@ -235,6 +293,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -243,6 +303,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -257,6 +319,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -275,6 +339,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -293,6 +359,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -301,6 +369,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -310,6 +380,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -333,6 +405,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -341,6 +415,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -350,6 +426,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -359,6 +437,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -377,6 +457,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -385,6 +467,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -394,6 +478,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -417,6 +503,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -425,6 +513,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -434,6 +524,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -443,6 +535,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -461,6 +555,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -469,6 +565,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -478,6 +576,8 @@ public class Entity implements IEntity {
 
 		this.mLocalToParentTransformationDirty = true;
 		this.mParentToLocalTransformationDirty = true;
+
+		this.invalidate();
 	}
 
 	@Override
@@ -515,6 +615,8 @@ public class Entity implements IEntity {
 		this.mColor.set(pColor);
 
 		this.onUpdateColor();
+
+		this.invalidate();
 	}
 
 	/**
@@ -524,6 +626,8 @@ public class Entity implements IEntity {
 	public void setRed(final float pRed) {
 		if(this.mColor.setRedChecking(pRed)) {
 			this.onUpdateColor();
+
+			this.invalidate();
 		}
 	}
 
@@ -534,6 +638,8 @@ public class Entity implements IEntity {
 	public void setGreen(final float pGreen) {
 		if(this.mColor.setGreenChecking(pGreen)) {
 			this.onUpdateColor();
+
+			this.invalidate();
 		}
 	}
 
@@ -544,6 +650,8 @@ public class Entity implements IEntity {
 	public void setBlue(final float pBlue) {
 		if(this.mColor.setBlueChecking(pBlue)) {
 			this.onUpdateColor();
+
+			this.invalidate();
 		}
 	}
 
@@ -554,6 +662,8 @@ public class Entity implements IEntity {
 	public void setAlpha(final float pAlpha) {
 		if(this.mColor.setAlphaChecking(pAlpha)) {
 			this.onUpdateColor();
+
+			this.invalidate();
 		}
 	}
 
@@ -566,6 +676,8 @@ public class Entity implements IEntity {
 	public void setColor(final float pRed, final float pGreen, final float pBlue) {
 		if(this.mColor.setChecking(pRed, pGreen, pBlue)) { // TODO Is this check worth it?
 			this.onUpdateColor();
+
+			this.invalidate();
 		}
 	}
 
@@ -579,6 +691,8 @@ public class Entity implements IEntity {
 	public void setColor(final float pRed, final float pGreen, final float pBlue, final float pAlpha) {
 		if(this.mColor.setChecking(pRed, pGreen, pBlue, pAlpha)) { // TODO Is this check worth it?
 			this.onUpdateColor();
+
+			this.invalidate();
 		}
 	}
 
@@ -729,6 +843,8 @@ public class Entity implements IEntity {
 		this.mChildren.add(pEntity);
 		pEntity.setParent(this);
 		pEntity.onAttached();
+
+		Entity.invalidateChildren(this);
 	}
 
 	@Override
@@ -746,6 +862,8 @@ public class Entity implements IEntity {
 		} else {
 			this.mChildrenSortPending = true;
 		}
+
+		Entity.invalidateChildren(this);
 	}
 
 	@Override
@@ -754,6 +872,8 @@ public class Entity implements IEntity {
 			return;
 		}
 		ZIndexSorter.getInstance().sort(this.mChildren, pEntityComparator);
+
+		Entity.invalidateChildren(this);
 	}
 
 	@Override
@@ -1154,6 +1274,22 @@ public class Entity implements IEntity {
 		this.mUserData = pUserData;
 	}
 
+	/**
+	 * Returns right away when there is no {@link CachedEntity} among the ancestors.
+	 */
+	@Override
+	public void invalidate() {
+		int cachedAncestorCount = this.mCachedAncestorCount;
+		IEntity ancestor = this.mParent;
+		while((cachedAncestorCount > 0) && (ancestor != null)) {
+			if(ancestor instanceof CachedEntity) {
+				((CachedEntity)ancestor).setCacheDirty();
+				cachedAncestorCount--;
+			}
+			ancestor = ancestor.getParent();
+		}
+	}
+
 	@Override
 	public final void onDraw(final GLState pGLState, final Camera pCamera) {
 		if(this.mVisible && !(this.mCullingEnabled && this.isCulled(pCamera))) {
@@ -1164,7 +1300,18 @@ public class Entity implements IEntity {
 	@Override
 	public final void onUpdate(final float pSecondsElapsed) {
 		if(!this.mIgnoreUpdate) {
-			this.onManagedUpdate(pSecondsElapsed);
+			if(this.mUpdateDivider == Entity.UPDATEDIVIDER_DEFAULT) {
+				this.onManagedUpdate(pSecondsElapsed);
+			} else {
+				this.mUpdateSecondsElapsedAccumulated += pSecondsElapsed;
+				this.mUpdateTick++;
+				if(this.mUpdateTick >= this.mUpdateDivider) {
+					final float secondsElapsed = this.mUpdateSecondsElapsedAccumulated;
+					this.mUpdateTick = 0;
+					this.mUpdateSecondsElapsedAccumulated = 0;
+					this.onManagedUpdate(secondsElapsed);
+				}
+			}
 		}
 	}
 
@@ -1176,6 +1323,10 @@ public class Entity implements IEntity {
 		this.mChildrenVisible = true;
 		this.mChildrenIgnoreUpdate = false;
 
+		/* Keep the divider and its phase, but drop the ticks and seconds accumulated before the reset. */
+		this.mUpdateTick = this.mUpdatePhase;
+		this.mUpdateSecondsElapsedAccumulated = 0;
+
 		this.mRotation = 0;
 		this.mScaleX = 1;
 		this.mScaleY = 1;
@@ -1242,6 +1393,49 @@ public class Entity implements IEntity {
 	// Methods
 	// ===========================================================
 
+	/**
+	 * Same as {@link IEntity#invalidate()}, but also marks <code>pEntity</code> itself, as its children changed.
+	 */
+	private static void invalidateChildren(final IEntity pEntity) {
+		if(pEntity instanceof CachedEntity) {
+			((CachedEntity)pEntity).setCacheDirty();
+		}
+		pEntity.invalidate();
+	}
+
+	private void updateCachedAncestorCount() {
+		final int cachedAncestorCount = Entity.getCachedEntityCount(this.mParent);
+		if(cachedAncestorCount != this.mCachedAncestorCount) {
+			this.mCachedAncestorCount = cachedAncestorCount;
+
+			final SmartList<IEntity> children = this.mChildren;
+			if(children != null) {
+				for(int i = children.size() - 1; i >= 0; i--) {
+					final IEntity child = children.get(i);
+					if(child instanceof Entity) {
+						((Entity)child).updateCachedAncestorCount();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of {@link CachedEntity}s among <code>pEntity</code> and its ancestors.
+	 */
+	private static int getCachedEntityCount(final IEntity pEntity) {
+		if(pEntity == null) {
+			return 0;
+		}
+
+		final int selfCount = (pEntity instanceof CachedEntity) ? 1 : 0;
+		if(pEntity instanceof Entity) {
+			return selfCount + ((Entity)pEntity).mCachedAncestorCount;
+		} else {
+			return selfCount + Entity.getCachedEntityCount(pEntity.getParent());
+		}
+	}
+
 	/**
 	 * @param pGLState the currently active {@link GLState} i.e. to apply transformations to.
 	 * @param pCamera the currently active {@link Camera} i.e. to be used for culling.
@@ -1250,6 +1444,13 @@ public class Entity implements IEntity {
 
 	}
 
+	/**
+	 * @return whether this {@link Entity} covers everything behind it where it draws, so that it can be drawn front to back in {@link DrawPass#OPAQUE}.
+	 */
+	protected boolean isOpaque() {
+		return false;
+	}
+
 	/**
 	 * @param pGLState the currently active {@link GLState} i.e. to apply transformations to.
 	 * @param pCamera the currently active {@link Camera} i.e. to be used for culling.
@@ -1279,17 +1480,22 @@ public class Entity implements IEntity {
 	}
 
 	protected void onApplyTransformations(final GLState pGLState) {
-		/* Translation. */
-		this.applyTranslation(pGLState);
+		if(this.mApplyTransformationsOverridden) {
+			/* Translation. */
+			this.applyTranslation(pGLState);
 
-		/* Rotation. */
-		this.applyRotation(pGLState);
+			/* Rotation. */
+			this.applyRotation(pGLState);
 
-		/* Skew. */
-		this.applySkew(pGLState);
+			/* Skew. */
+			this.applySkew(pGLState);
 
-		/* Scale. */
-		this.applyScale(pGLState);
+			/* Scale. */
+			this.applyScale(pGLState);
+		} else {
+			/* Translation, rotation, skew and scale, all in a single matrix multiplication. */
+			pGLState.transformModelViewGLMatrixf(this.mX, this.mY, this.mRotation, this.mRotationCenterX, this.mRotationCenterY, this.mSkewX, this.mSkewY, this.mSkewCenterX, this.mSkewCenterY, this.mScaleX, this.mScaleY, this.mScaleCenterX, this.mScaleCenterY);
+		}
 	}
 
 	protected void applyTranslation(final GLState pGLState) {
@@ -1341,6 +1547,32 @@ public class Entity implements IEntity {
 		}
 	}
 
+	/**
+	 * @return whether any class from <code>pClass</code> up to (excluding) {@link Entity} declares {@link Entity#applyTranslation(GLState)}, {@link Entity#applyRotation(GLState)}, {@link Entity#applySkew(GLState)} or {@link Entity#applyScale(GLState)}.
+	 */
+	private static boolean isApplyTransformationsOverridden(final Class<?> pClass) {
+		synchronized(Entity.APPLYTRANSFORMATIONS_OVERRIDDEN) {
+			Boolean applyTransformationsOverridden = Entity.APPLYTRANSFORMATIONS_OVERRIDDEN.get(pClass);
+			if(applyTransformationsOverridden == null) {
+				applyTransformationsOverridden = Boolean.FALSE;
+				for(Class<?> clazz = pClass; (clazz != Entity.class) && (applyTransformationsOverridden == Boolean.FALSE); clazz = clazz.getSuperclass()) {
+					for(final Method method : clazz.getDeclaredMethods()) {
+						final String name = method.getName();
+						if(name.equals("applyTranslation") || name.equals("applyRotation") || name.equals("applySkew") || name.equals("applyScale")) {
+							final Class<?>[] parameterTypes = method.getParameterTypes();
+							if((parameterTypes.length == 1) && (parameterTypes[0] == GLState.class)) {
+								applyTransformationsOverridden = Boolean.TRUE;
+								break;
+							}
+						}
+					}
+				}
+				Entity.APPLYTRANSFORMATIONS_OVERRIDDEN.put(pClass, applyTransformationsOverridden);
+			}
+			return applyTransformationsOverridden.booleanValue();
+		}
+	}
+
 	protected void onManagedDraw(final GLState pGLState, final Camera pCamera) {
 		pGLState.pushModelViewGLMatrix();
 		{
@@ -1349,9 +1581,7 @@ public class Entity implements IEntity {
 			final SmartList<IEntity> children = this.mChildren;
 			if((children == null) || !this.mChildrenVisible) {
 				/* Draw only self. */
-				this.preDraw(pGLState, pCamera);
-				this.draw(pGLState, pCamera);
-				this.postDraw(pGLState, pCamera);
+				this.onDrawSelf(pGLState, pCamera);
 			} else {
 				if(this.mChildrenSortPending) {
 					ZIndexSorter.getInstance().sort(this.mChildren);
@@ -1359,34 +1589,59 @@ public class Entity implements IEntity {
 				}
 
 				final int childCount = children.size();
-				int i = 0;
-
-				{ /* Draw children behind this Entity. */
-					for(; i < childCount; i++) {
-						final IEntity child = children.get(i);
-						if(child.getZIndex() < 0) {
-							child.onDraw(pGLState, pCamera);
-						} else {
-							break;
-						}
+
+				if(pGLState.getDrawPass() == DrawPass.OPAQUE) {
+					/* Front to back, exactly the reverse of the other passes, see GLState.onDrawPassEntity. */
+					int behindCount = 0;
+					while((behindCount < childCount) && (children.get(behindCount).getZIndex() < 0)) {
+						behindCount++;
+					}
+
+					for(int i = childCount - 1; i >= behindCount; i--) {
+						children.get(i).onDraw(pGLState, pCamera);
 					}
-				}
 
-				/* Draw self. */
-				this.preDraw(pGLState, pCamera);
-				this.draw(pGLState, pCamera);
-				this.postDraw(pGLState, pCamera);
+					this.onDrawSelf(pGLState, pCamera);
 
-				{ /* Draw children in front of this Entity. */
-					for(; i < childCount; i++) {
+					for(int i = behindCount - 1; i >= 0; i--) {
 						children.get(i).onDraw(pGLState, pCamera);
 					}
+				} else {
+					int i = 0;
+
+					{ /* Draw children behind this Entity. */
+						for(; i < childCount; i++) {
+							final IEntity child = children.get(i);
+							if(child.getZIndex() < 0) {
+								child.onDraw(pGLState, pCamera);
+							} else {
+								break;
+							}
+						}
+					}
+
+					/* Draw self. */
+					this.onDrawSelf(pGLState, pCamera);
+
+					{ /* Draw children in front of this Entity. */
+						for(; i < childCount; i++) {
+							children.get(i).onDraw(pGLState, pCamera);
+						}
+					}
 				}
 			}
 		}
 		pGLState.popModelViewGLMatrix();
 	}
 
+	private void onDrawSelf(final GLState pGLState, final Camera pCamera) {
+		if(pGLState.onDrawPassEntity(this.isOpaque())) {
+			this.preDraw(pGLState, pCamera);
+			this.draw(pGLState, pCamera);
+			this.postDraw(pGLState, pCamera);
+		}
+	}
+
 	protected void onManagedUpdate(final float pSecondsElapsed) {
 		if(this.mEntityModifiers != null) {
 			this.mEntityModifiers.onUpdate(pSecondsElapsed);
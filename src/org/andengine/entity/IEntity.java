@@ -47,6 +47,21 @@ public interface IEntity extends IDrawHandler, IUpdateHandler, IDisposable {
 	public boolean isChildrenIgnoreUpdate();
 	public void setChildrenIgnoreUpdate(boolean pChildrenIgnoreUpdate);
 
+	public int getUpdateDivider();
+	/**
+	 * Throttles the updates of this {@link IEntity} and all of its children, so they are only updated every <code>pUpdateDivider</code>th time this {@link IEntity} itself is updated.
+	 * The time elapsed in between is accumulated, so the subtree receives the same total time, just at a slower cadence.
+	 * Throttled {@link IEntity}s are staggered automatically, so that multiple throttled subtrees don't end up being updated on the same tick.
+	 *
+	 * @param pUpdateDivider <code>1</code> to update at the regular rate.
+	 */
+	public void setUpdateDivider(final int pUpdateDivider);
+	/**
+	 * @param pUpdateDivider <code>1</code> to update at the regular rate.
+	 * @param pUpdatePhase [0, pUpdateDivider - 1] the tick on which this {@link IEntity} is updated.
+	 */
+	public void setUpdateDivider(final int pUpdateDivider, final int pUpdatePhase);
+
 	public int getTag();
 	public void setTag(final int pTag);
 
@@ -314,6 +329,12 @@ public interface IEntity extends IDrawHandler, IUpdateHandler, IDisposable {
 	 */
 	public boolean isCulled(final Camera pCamera);
 
+	/**
+	 * Notifies the ancestors of this {@link IEntity} that it looks different now, so that any {@link CachedEntity} among them re-renders its cache.
+	 * Changes of the transformation, color, visibility and children are reported automatically. Other changes, i.e. swapping the {@link org.andengine.opengl.texture.region.ITextureRegion} of a sprite, need to call this manually.
+	 */
+	public void invalidate();
+
 	public void setUserData(final Object pUserData);
 	public Object getUserData();
 
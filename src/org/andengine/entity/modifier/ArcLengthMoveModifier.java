@@ -0,0 +1,100 @@
+package org.andengine.entity.modifier;
+
+import org.andengine.entity.IEntity;
+import org.andengine.util.Constants;
+import org.andengine.util.modifier.ease.EaseLinear;
+import org.andengine.util.modifier.ease.IEaseFunction;
+
+/**
+ * Moves an {@link IEntity} along an {@link ArcLengthTable} at constant speed (modulated only by the {@link IEaseFunction}).
+ * As opposed to {@link CardinalSplineMoveModifier}, {@link CubicBezierCurveMoveModifier} and {@link PathModifier},
+ * the curve is not evaluated per frame, but looked up in the precomputed {@link ArcLengthTable}, which can be shared by any number of {@link ArcLengthMoveModifier}s.
+ *
+ * @author agent <agent@local>
+ * @since 06:01:16 - 19.10.2026
+ */
+public class ArcLengthMoveModifier extends DurationEntityModifier {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final float[] POSITION_TMP = new float[2];
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final ArcLengthTable mArcLengthTable;
+
+	private final IEaseFunction mEaseFunction;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ArcLengthMoveModifier(final float pDuration, final ArcLengthTable pArcLengthTable) {
+		this(pDuration, pArcLengthTable, null, EaseLinear.getInstance());
+	}
+
+	public ArcLengthMoveModifier(final float pDuration, final ArcLengthTable pArcLengthTable, final IEaseFunction pEaseFunction) {
+		this(pDuration, pArcLengthTable, null, pEaseFunction);
+	}
+
+	public ArcLengthMoveModifier(final float pDuration, final ArcLengthTable pArcLengthTable, final IEntityModifierListener pEntityModifierListener) {
+		this(pDuration, pArcLengthTable, pEntityModifierListener, EaseLinear.getInstance());
+	}
+
+	public ArcLengthMoveModifier(final float pDuration, final ArcLengthTable pArcLengthTable, final IEntityModifierListener pEntityModifierListener, final IEaseFunction pEaseFunction) {
+		super(pDuration, pEntityModifierListener);
+
+		this.mArcLengthTable = pArcLengthTable;
+		this.mEaseFunction = pEaseFunction;
+	}
+
+	protected ArcLengthMoveModifier(final ArcLengthMoveModifier pArcLengthMoveModifier) {
+		super(pArcLengthMoveModifier);
+
+		this.mArcLengthTable = pArcLengthMoveModifier.mArcLengthTable;
+		this.mEaseFunction = pArcLengthMoveModifier.mEaseFunction;
+	}
+
+	@Override
+	public ArcLengthMoveModifier deepCopy() {
+		/* The ArcLengthTable is immutable and therefore doesn't need to be copied. */
+		return new ArcLengthMoveModifier(this);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public ArcLengthTable getArcLengthTable() {
+		return this.mArcLengthTable;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	protected void onManagedInitialize(final IEntity pEntity) {
+
+	}
+
+	@Override
+	protected void onManagedUpdate(final float pSecondsElapsed, final IEntity pEntity) {
+		final float percentageDone = this.mEaseFunction.getPercentage(this.getSecondsElapsed(), this.mDuration);
+
+		final float[] position = this.mArcLengthTable.getPosition(percentageDone, ArcLengthMoveModifier.POSITION_TMP);
+
+		pEntity.setPosition(position[Constants.VERTEX_INDEX_X], position[Constants.VERTEX_INDEX_Y]);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -0,0 +1,235 @@
+package org.andengine.entity.modifier;
+
+import org.andengine.entity.modifier.CardinalSplineMoveModifier.CardinalSplineMoveModifierConfig;
+import org.andengine.entity.modifier.PathModifier.Path;
+import org.andengine.util.Constants;
+import org.andengine.util.math.MathUtils;
+
+import android.util.FloatMath;
+
+/**
+ * An immutable, arc-length parameterized polyline approximation of a curve.
+ * The curve is sampled once and the cumulative length at each sample is stored,
+ * so that a position at a given distance along the curve can be looked up in O(log n).
+ *
+ * Since an {@link ArcLengthTable} is never modified after construction, a single instance
+ * can (and should) be shared by all {@link ArcLengthMoveModifier}s following the same curve.
+ *
+ * @author agent <agent@local>
+ * @since 06:01:16 - 19.10.2026
+ */
+public class ArcLengthTable {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int SAMPLES_PER_SEGMENT_DEFAULT = 16;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final float[] mXs;
+	private final float[] mYs;
+	private final float[] mLengths;
+
+	private final int mSampleCount;
+	private final float mLength;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pXs the x coordinates of the samples. Will not be copied!
+	 * @param pYs the y coordinates of the samples. Will not be copied!
+	 */
+	public ArcLengthTable(final float[] pXs, final float[] pYs) throws IllegalArgumentException {
+		if(pXs.length != pYs.length) {
+			throw new IllegalArgumentException("Coordinate-Arrays must have the same length.");
+		}
+		if(pXs.length < 2) {
+			throw new IllegalArgumentException("An " + ArcLengthTable.class.getSimpleName() + " needs at least 2 samples.");
+		}
+
+		this.mXs = pXs;
+		this.mYs = pYs;
+		this.mSampleCount = pXs.length;
+
+		final float[] lengths = new float[this.mSampleCount];
+		float length = 0;
+		for(int i = 1; i < this.mSampleCount; i++) {
+			final float dX = pXs[i] - pXs[i - 1];
+			final float dY = pYs[i] - pYs[i - 1];
+			length += FloatMath.sqrt((dX * dX) + (dY * dY));
+			lengths[i] = length;
+		}
+		this.mLengths = lengths;
+		this.mLength = length;
+	}
+
+	public static ArcLengthTable create(final Path pPath) {
+		final int size = pPath.getSize();
+
+		final float[] xs = new float[size];
+		final float[] ys = new float[size];
+		System.arraycopy(pPath.getCoordinatesX(), 0, xs, 0, size);
+		System.arraycopy(pPath.getCoordinatesY(), 0, ys, 0, size);
+
+		return new ArcLengthTable(xs, ys);
+	}
+
+	public static ArcLengthTable create(final CardinalSplineMoveModifierConfig pCardinalSplineMoveModifierConfig) {
+		return ArcLengthTable.create(pCardinalSplineMoveModifierConfig, ArcLengthTable.SAMPLES_PER_SEGMENT_DEFAULT);
+	}
+
+	public static ArcLengthTable create(final CardinalSplineMoveModifierConfig pCardinalSplineMoveModifierConfig, final int pSamplesPerSegment) {
+		final int controlSegmentCount = pCardinalSplineMoveModifierConfig.getControlPointCount() - 1;
+		final float tension = pCardinalSplineMoveModifierConfig.getTension();
+
+		final int sampleCount = (controlSegmentCount * pSamplesPerSegment) + 1;
+		final float[] xs = new float[sampleCount];
+		final float[] ys = new float[sampleCount];
+
+		int sample = 0;
+		for(int p = 0; p < controlSegmentCount; p++) {
+			final int p0 = MathUtils.bringToBounds(0, controlSegmentCount, p - 1);
+			final int p1 = p;
+			final int p2 = MathUtils.bringToBounds(0, controlSegmentCount, p + 1);
+			final int p3 = MathUtils.bringToBounds(0, controlSegmentCount, p + 2);
+
+			final float pX0 = pCardinalSplineMoveModifierConfig.getControlPointX(p0);
+			final float pY0 = pCardinalSplineMoveModifierConfig.getControlPointY(p0);
+			final float pX1 = pCardinalSplineMoveModifierConfig.getControlPointX(p1);
+			final float pY1 = pCardinalSplineMoveModifierConfig.getControlPointY(p1);
+			final float pX2 = pCardinalSplineMoveModifierConfig.getControlPointX(p2);
+			final float pY2 = pCardinalSplineMoveModifierConfig.getControlPointY(p2);
+			final float pX3 = pCardinalSplineMoveModifierConfig.getControlPointX(p3);
+			final float pY3 = pCardinalSplineMoveModifierConfig.getControlPointY(p3);
+
+			for(int s = 0; s < pSamplesPerSegment; s++) {
+				final float t = (float)s / pSamplesPerSegment;
+				xs[sample] = CardinalSplineMoveModifier.cardinalSplineX(pX0, pX1, pX2, pX3, t, tension);
+				ys[sample] = CardinalSplineMoveModifier.cardinalSplineY(pY0, pY1, pY2, pY3, t, tension);
+				sample++;
+			}
+		}
+		xs[sample] = pCardinalSplineMoveModifierConfig.getControlPointX(controlSegmentCount);
+		ys[sample] = pCardinalSplineMoveModifierConfig.getControlPointY(controlSegmentCount);
+
+		return new ArcLengthTable(xs, ys);
+	}
+
+	/**
+	 * @param pX1 x coordinate of the start point.
+	 * @param pY1 y coordinate of the start point.
+	 * @param pX2 x coordinate of the first control point.
+	 * @param pY2 y coordinate of the first control point.
+	 * @param pX3 x coordinate of the second control point.
+	 * @param pY3 y coordinate of the second control point.
+	 * @param pX4 x coordinate of the end point.
+	 * @param pY4 y coordinate of the end point.
+	 * @param pSampleCount
+	 */
+	public static ArcLengthTable createCubicBezierCurve(final float pX1, final float pY1, final float pX2, final float pY2, final float pX3, final float pY3, final float pX4, final float pY4, final int pSampleCount) {
+		final float[] xs = new float[pSampleCount];
+		final float[] ys = new float[pSampleCount];
+
+		final int lastSample = pSampleCount - 1;
+		for(int i = 0; i < pSampleCount; i++) {
+			final float t = (float)i / lastSample;
+			final float u = 1 - t;
+			final float tt = t * t;
+			final float uu = u * u;
+			final float uuu = uu * u;
+			final float ttt = tt * t;
+
+			final float ut3 = 3 * uu * t;
+			final float utt3 = 3 * u * tt;
+
+			xs[i] = (uuu * pX1) + (ut3 * pX2) + (utt3 * pX3) + (ttt * pX4);
+			ys[i] = (uuu * pY1) + (ut3 * pY2) + (utt3 * pY3) + (ttt * pY4);
+		}
+
+		return new ArcLengthTable(xs, ys);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public float getLength() {
+		return this.mLength;
+	}
+
+	public int getSampleCount() {
+		return this.mSampleCount;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @param pPercentage [0, 1]
+	 * @param pReuse must be of length 2. Will be filled with the x and y coordinate at the given percentage of the total length.
+	 * @return <code>pReuse</code> as a convenience.
+	 */
+	public float[] getPosition(final float pPercentage, final float[] pReuse) {
+		return this.getPositionAtDistance(pPercentage * this.mLength, pReuse);
+	}
+
+	/**
+	 * @param pDistance [0, {@link ArcLengthTable#getLength()}]
+	 * @param pReuse must be of length 2. Will be filled with the x and y coordinate at the given distance along the curve.
+	 * @return <code>pReuse</code> as a convenience.
+	 */
+	public float[] getPositionAtDistance(final float pDistance, final float[] pReuse) {
+		final int sample = this.getSampleIndex(pDistance);
+
+		if(sample == this.mSampleCount - 1) {
+			pReuse[Constants.VERTEX_INDEX_X] = this.mXs[sample];
+			pReuse[Constants.VERTEX_INDEX_Y] = this.mYs[sample];
+		} else {
+			final float sampleLength = this.mLengths[sample + 1] - this.mLengths[sample];
+			final float t = (sampleLength > 0) ? (pDistance - this.mLengths[sample]) / sampleLength : 0;
+
+			pReuse[Constants.VERTEX_INDEX_X] = this.mXs[sample] + (t * (this.mXs[sample + 1] - this.mXs[sample]));
+			pReuse[Constants.VERTEX_INDEX_Y] = this.mYs[sample] + (t * (this.mYs[sample + 1] - this.mYs[sample]));
+		}
+
+		return pReuse;
+	}
+
+	/**
+	 * @return the index of the last sample whose cumulative length is smaller or equal to <code>pDistance</code>.
+	 */
+	private int getSampleIndex(final float pDistance) {
+		final float[] lengths = this.mLengths;
+
+		int low = 0;
+		int high = this.mSampleCount - 1;
+
+		if(pDistance >= lengths[high]) {
+			return high;
+		}
+
+		while(low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			if(lengths[mid] <= pDistance) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -243,6 +243,10 @@ public class CardinalSplineMoveModifier extends DurationEntityModifier {
 			return this.mControlPointYs[pIndex];
 		}
 
+		public float getTension() {
+			return this.mTension;
+		}
+
 		// ===========================================================
 		// Methods for/from SuperClass/Interfaces
 		// ===========================================================
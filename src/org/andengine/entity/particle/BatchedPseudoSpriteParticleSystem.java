@@ -7,6 +7,8 @@ import org.andengine.entity.particle.emitter.IParticleEmitter;
 import org.andengine.entity.sprite.batch.SpriteBatch;
 import org.andengine.opengl.texture.region.ITextureRegion;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
+import org.andengine.opengl.vbo.DrawType;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.util.color.ColorUtils;
 
@@ -36,7 +38,18 @@ public class BatchedPseudoSpriteParticleSystem extends BlendFunctionParticleSyst
 		this(0, 0, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum, pTextureRegion, pVertexBufferObjectManager);
 	}
 
+	public BatchedPseudoSpriteParticleSystem(final IParticleEmitter pParticleEmitter, final float pRateMinimum, final float pRateMaximum, final int pParticlesMaximum, final ITextureRegion pTextureRegion, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType) {
+		this(0, 0, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum, pTextureRegion, pVertexBufferObjectManager, pDrawType);
+	}
+
 	public BatchedPseudoSpriteParticleSystem(final float pX, final float pY, final IParticleEmitter pParticleEmitter, final float pRateMinimum, final float pRateMaximum, final int pParticlesMaximum, final ITextureRegion pTextureRegion, final VertexBufferObjectManager pVertexBufferObjectManager) {
+		this(pX, pY, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum, pTextureRegion, pVertexBufferObjectManager, DrawType.DYNAMIC);
+	}
+
+	/**
+	 * @param pDrawType {@link DrawType#STREAM} lets the {@link SpriteBatch} rotate through several hardware buffers, instead of updating a single one the GPU may still be reading from.
+	 */
+	public BatchedPseudoSpriteParticleSystem(final float pX, final float pY, final IParticleEmitter pParticleEmitter, final float pRateMinimum, final float pRateMaximum, final int pParticlesMaximum, final ITextureRegion pTextureRegion, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType) {
 		super(pX, pY, new IEntityFactory<Entity>() {
 			@Override
 			public Entity create(final float pX, final float pY) {
@@ -46,7 +59,7 @@ public class BatchedPseudoSpriteParticleSystem extends BlendFunctionParticleSyst
 
 		this.mTextureRegion = pTextureRegion;
 
-		this.mSpriteBatch = new SpriteBatch(pTextureRegion.getTexture(), pParticlesMaximum, pVertexBufferObjectManager);
+		this.mSpriteBatch = new SpriteBatch(pTextureRegion.getTexture(), pParticlesMaximum, pVertexBufferObjectManager, pDrawType);
 	}
 
 	// ===========================================================
@@ -59,21 +72,27 @@ public class BatchedPseudoSpriteParticleSystem extends BlendFunctionParticleSyst
 
 	@Override
 	protected void onManagedDraw(final GLState pGLState, final Camera pCamera) {
-		this.mSpriteBatch.setIndex(0);
+		/* Within depth sorted passes this is called once per DrawPass, but the particles only need to be batched in the first one. */
+		if(pGLState.getDrawPass() != DrawPass.TRANSPARENT) {
+			this.mSpriteBatch.setBlendingEnabled(this.mBlendingEnabled);
+
+			this.mSpriteBatch.setIndex(0);
 
-		final Particle<Entity>[] particles = this.mParticles;
-		for(int i = this.mParticlesAlive - 1; i >= 0; i--) {
-			final Entity entity = particles[i].getEntity();
+			final Particle<Entity>[] particles = this.mParticles;
+			for(int i = this.mParticlesAlive - 1; i >= 0; i--) {
+				final Entity entity = particles[i].getEntity();
 
-			/* In order to support alpha changes of the sprites inside the spritebatch,
-			 * we have to 'premultiply' the RGB channels of the sprite with its alpha channel. */
-			final float alpha = entity.getAlpha();
-			final float colorABGRPackedInt = ColorUtils.convertRGBAToABGRPackedFloat(entity.getRed() * alpha, entity.getGreen() * alpha, entity.getBlue() * alpha, alpha);
+				/* In order to support alpha changes of the sprites inside the spritebatch,
+				 * we have to 'premultiply' the RGB channels of the sprite with its alpha channel. */
+				final float alpha = entity.getAlpha();
+				final float colorABGRPackedInt = ColorUtils.convertRGBAToABGRPackedFloat(entity.getRed() * alpha, entity.getGreen() * alpha, entity.getBlue() * alpha, alpha);
 
-			this.mSpriteBatch.drawWithoutChecks(this.mTextureRegion, entity, this.mTextureRegion.getWidth(), this.mTextureRegion.getHeight(), colorABGRPackedInt);
+				this.mSpriteBatch.drawWithoutChecks(this.mTextureRegion, entity, this.mTextureRegion.getWidth(), this.mTextureRegion.getHeight(), colorABGRPackedInt);
+			}
+			this.mSpriteBatch.submit();
 		}
-		this.mSpriteBatch.submit();
 
+		/* The SpriteBatch follows the blend state of this ParticleSystem, so it is drawn only in the DrawPass matching it. */
 		this.mSpriteBatch.onDraw(pGLState, pCamera);
 	}
 
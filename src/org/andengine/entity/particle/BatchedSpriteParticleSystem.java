@@ -8,6 +8,8 @@ import org.andengine.entity.sprite.UncoloredSprite;
 import org.andengine.entity.sprite.batch.SpriteBatch;
 import org.andengine.opengl.texture.region.ITextureRegion;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
+import org.andengine.opengl.vbo.DrawType;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.util.color.ColorUtils;
 
@@ -36,7 +38,18 @@ public class BatchedSpriteParticleSystem extends BlendFunctionParticleSystem<Unc
 		this(0, 0, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum, pTextureRegion, pVertexBufferObjectManager); 
 	}
 
+	public BatchedSpriteParticleSystem(final IParticleEmitter pParticleEmitter, final float pRateMinimum, final float pRateMaximum, final int pParticlesMaximum, final ITextureRegion pTextureRegion, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType) {
+		this(0, 0, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum, pTextureRegion, pVertexBufferObjectManager, pDrawType);
+	}
+
 	public BatchedSpriteParticleSystem(final float pX, final float pY, final IParticleEmitter pParticleEmitter, final float pRateMinimum, final float pRateMaximum, final int pParticlesMaximum, final ITextureRegion pTextureRegion, final VertexBufferObjectManager pVertexBufferObjectManager) {
+		this(pX, pY, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum, pTextureRegion, pVertexBufferObjectManager, DrawType.DYNAMIC);
+	}
+
+	/**
+	 * @param pDrawType {@link DrawType#STREAM} lets the {@link SpriteBatch} rotate through several hardware buffers, instead of updating a single one the GPU may still be reading from.
+	 */
+	public BatchedSpriteParticleSystem(final float pX, final float pY, final IParticleEmitter pParticleEmitter, final float pRateMinimum, final float pRateMaximum, final int pParticlesMaximum, final ITextureRegion pTextureRegion, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType) {
 		super(pX, pY, new IEntityFactory<UncoloredSprite>() {
 			@Override
 			public UncoloredSprite create(final float pX, final float pY) {
@@ -45,7 +58,7 @@ public class BatchedSpriteParticleSystem extends BlendFunctionParticleSystem<Unc
 			}
 		}, pParticleEmitter, pRateMinimum, pRateMaximum, pParticlesMaximum);
 
-		this.mSpriteBatch = new SpriteBatch(pTextureRegion.getTexture(), pParticlesMaximum, pVertexBufferObjectManager);
+		this.mSpriteBatch = new SpriteBatch(pTextureRegion.getTexture(), pParticlesMaximum, pVertexBufferObjectManager, pDrawType);
 	}
 
 	// ===========================================================
@@ -58,21 +71,27 @@ public class BatchedSpriteParticleSystem extends BlendFunctionParticleSystem<Unc
 
 	@Override
 	protected void onManagedDraw(final GLState pGLState, final Camera pCamera) {
-		this.mSpriteBatch.setIndex(0);
+		/* Within depth sorted passes this is called once per DrawPass, but the particles only need to be batched in the first one. */
+		if(pGLState.getDrawPass() != DrawPass.TRANSPARENT) {
+			this.mSpriteBatch.setBlendingEnabled(this.mBlendingEnabled);
+
+			this.mSpriteBatch.setIndex(0);
 
-		final Particle<UncoloredSprite>[] particles = this.mParticles;
-		for(int i = this.mParticlesAlive - 1; i >= 0; i--) {
-			final Sprite sprite = particles[i].getEntity();
+			final Particle<UncoloredSprite>[] particles = this.mParticles;
+			for(int i = this.mParticlesAlive - 1; i >= 0; i--) {
+				final Sprite sprite = particles[i].getEntity();
 
-			/* In order to support alpha changes of the sprites inside the spritebatch,
-			 * we have to 'premultiply' the RGB channels of the sprite with its alpha channel. */
-			final float alpha = sprite.getAlpha();
-			final float colorABGRPackedInt = ColorUtils.convertRGBAToABGRPackedFloat(sprite.getRed() * alpha, sprite.getGreen() * alpha, sprite.getBlue() * alpha, alpha);
+				/* In order to support alpha changes of the sprites inside the spritebatch,
+				 * we have to 'premultiply' the RGB channels of the sprite with its alpha channel. */
+				final float alpha = sprite.getAlpha();
+				final float colorABGRPackedInt = ColorUtils.convertRGBAToABGRPackedFloat(sprite.getRed() * alpha, sprite.getGreen() * alpha, sprite.getBlue() * alpha, alpha);
 
-			this.mSpriteBatch.drawWithoutChecks(sprite, colorABGRPackedInt);
+				this.mSpriteBatch.drawWithoutChecks(sprite, colorABGRPackedInt);
+			}
+			this.mSpriteBatch.submit();
 		}
-		this.mSpriteBatch.submit();
 
+		/* The SpriteBatch follows the blend state of this ParticleSystem, so it is drawn only in the DrawPass matching it. */
 		this.mSpriteBatch.onDraw(pGLState, pCamera);
 	}
 
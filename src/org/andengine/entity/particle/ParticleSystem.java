@@ -10,6 +10,7 @@ import org.andengine.entity.particle.emitter.IParticleEmitter;
 import org.andengine.entity.particle.initializer.IParticleInitializer;
 import org.andengine.entity.particle.modifier.IParticleModifier;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
 import org.andengine.util.Constants;
 import org.andengine.util.math.MathUtils;
 
@@ -106,8 +107,15 @@ public class ParticleSystem<T extends IEntity> extends Entity {
 
 	@Override
 	protected void onManagedDraw(final GLState pGLState, final Camera pCamera) {
-		for(int i = this.mParticlesAlive - 1; i >= 0; i--) {
-			this.mParticles[i].onDraw(pGLState, pCamera);
+		if(pGLState.getDrawPass() == DrawPass.OPAQUE) {
+			/* Front to back. */
+			for(int i = 0; i < this.mParticlesAlive; i++) {
+				this.mParticles[i].onDraw(pGLState, pCamera);
+			}
+		} else {
+			for(int i = this.mParticlesAlive - 1; i >= 0; i--) {
+				this.mParticles[i].onDraw(pGLState, pCamera);
+			}
 		}
 	}
 
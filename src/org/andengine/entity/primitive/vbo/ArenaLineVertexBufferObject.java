@@ -0,0 +1,61 @@
+package org.andengine.entity.primitive.vbo;
+
+import org.andengine.entity.primitive.Line;
+import org.andengine.opengl.vbo.ArenaVertexBufferObject;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+/**
+ * Opt in by passing an instance to the constructor of the entity, so it shares a {@link org.andengine.opengl.vbo.VertexBufferObjectArena} with all other entities of its kind.
+ *
+ * @author agent <agent@local>
+ * @since 07:19:58 - 19.10.2026
+ */
+public class ArenaLineVertexBufferObject extends ArenaVertexBufferObject implements ILineVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ArenaLineVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdateColor(final Line pLine) {
+		HighPerformanceLineVertexBufferObject.updateColor(this.mBufferData, pLine);
+
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateVertices(final Line pLine) {
+		HighPerformanceLineVertexBufferObject.updateVertices(this.mBufferData, pLine);
+
+		this.setDirtyOnHardware();
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
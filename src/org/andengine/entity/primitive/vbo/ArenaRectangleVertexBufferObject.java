@@ -0,0 +1,61 @@
+package org.andengine.entity.primitive.vbo;
+
+import org.andengine.entity.primitive.Rectangle;
+import org.andengine.opengl.vbo.ArenaVertexBufferObject;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+/**
+ * Opt in by passing an instance to the constructor of the entity, so it shares a {@link org.andengine.opengl.vbo.VertexBufferObjectArena} with all other entities of its kind.
+ *
+ * @author agent <agent@local>
+ * @since 06:12:28 - 19.10.2026
+ */
+public class ArenaRectangleVertexBufferObject extends ArenaVertexBufferObject implements IRectangleVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ArenaRectangleVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdateColor(final Rectangle pRectangle) {
+		HighPerformanceRectangleVertexBufferObject.updateColor(this.mBufferData, pRectangle);
+
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateVertices(final Rectangle pRectangle) {
+		HighPerformanceRectangleVertexBufferObject.updateVertices(this.mBufferData, pRectangle);
+
+		this.setDirtyOnHardware();
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
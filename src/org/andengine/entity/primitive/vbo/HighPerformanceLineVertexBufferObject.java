@@ -39,25 +39,14 @@ public class HighPerformanceLineVertexBufferObject extends HighPerformanceVertex
 
 	@Override
 	public void onUpdateColor(final Line pLine) {
-		final float[] bufferData = this.mBufferData;
-
-		final float packedColor = pLine.getColor().getABGRPackedFloat();
-
-		bufferData[0 * Line.VERTEX_SIZE + Line.COLOR_INDEX] = packedColor;
-		bufferData[1 * Line.VERTEX_SIZE + Line.COLOR_INDEX] = packedColor;
+		HighPerformanceLineVertexBufferObject.updateColor(this.mBufferData, pLine);
 
 		this.setDirtyOnHardware();
 	}
 
 	@Override
 	public void onUpdateVertices(final Line pLine) {
-		final float[] bufferData = this.mBufferData;
-
-		bufferData[0 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_X] = 0;
-		bufferData[0 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_Y] = 0;
-
-		bufferData[1 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_X] = pLine.getX2() - pLine.getX1();
-		bufferData[1 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_Y] = pLine.getY2() - pLine.getY1();
+		HighPerformanceLineVertexBufferObject.updateVertices(this.mBufferData, pLine);
 
 		this.setDirtyOnHardware();
 	}
@@ -66,6 +55,24 @@ public class HighPerformanceLineVertexBufferObject extends HighPerformanceVertex
 	// Methods
 	// ===========================================================
 
+	/**
+	 * Also used by {@link ArenaLineVertexBufferObject}, which keeps its buffer data in a <code>float[]</code> as well.
+	 */
+	static void updateColor(final float[] pBufferData, final Line pLine) {
+		final float packedColor = pLine.getColor().getABGRPackedFloat();
+
+		pBufferData[0 * Line.VERTEX_SIZE + Line.COLOR_INDEX] = packedColor;
+		pBufferData[1 * Line.VERTEX_SIZE + Line.COLOR_INDEX] = packedColor;
+	}
+
+	static void updateVertices(final float[] pBufferData, final Line pLine) {
+		pBufferData[0 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_X] = 0;
+		pBufferData[0 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_Y] = 0;
+
+		pBufferData[1 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_X] = pLine.getX2() - pLine.getX1();
+		pBufferData[1 * Line.VERTEX_SIZE + Line.VERTEX_INDEX_Y] = pLine.getY2() - pLine.getY1();
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
@@ -39,46 +39,53 @@ public class HighPerformanceRectangleVertexBufferObject extends HighPerformanceV
 
 	@Override
 	public void onUpdateColor(final Rectangle pRectangle) {
-		final float[] bufferData = this.mBufferData;
-
-		final float packedColor = pRectangle.getColor().getABGRPackedFloat();
-
-		bufferData[0 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
-		bufferData[1 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
-		bufferData[2 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
-		bufferData[3 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
+		HighPerformanceRectangleVertexBufferObject.updateColor(this.mBufferData, pRectangle);
 
 		this.setDirtyOnHardware();
 	}
 
 	@Override
 	public void onUpdateVertices(final Rectangle pRectangle) {
-		final float[] bufferData = this.mBufferData;
+		HighPerformanceRectangleVertexBufferObject.updateVertices(this.mBufferData, pRectangle);
+
+		this.setDirtyOnHardware();
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
 
+	/**
+	 * Also used by {@link ArenaRectangleVertexBufferObject}, which keeps its buffer data in a <code>float[]</code> as well.
+	 */
+	static void updateColor(final float[] pBufferData, final Rectangle pRectangle) {
+		final float packedColor = pRectangle.getColor().getABGRPackedFloat();
+
+		pBufferData[0 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
+		pBufferData[1 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
+		pBufferData[2 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
+		pBufferData[3 * Rectangle.VERTEX_SIZE + Rectangle.COLOR_INDEX] = packedColor;
+	}
+
+	static void updateVertices(final float[] pBufferData, final Rectangle pRectangle) {
 		final float x = 0;
 		final float y = 0;
 		final float x2 = pRectangle.getWidth(); // TODO Optimize with field access?
 		final float y2 = pRectangle.getHeight(); // TODO Optimize with field access?
 
-		bufferData[0 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x;
-		bufferData[0 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y;
-
-		bufferData[1 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x;
-		bufferData[1 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y2;
+		pBufferData[0 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x;
+		pBufferData[0 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y;
 
-		bufferData[2 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x2;
-		bufferData[2 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y;
+		pBufferData[1 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x;
+		pBufferData[1 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y2;
 
-		bufferData[3 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x2;
-		bufferData[3 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y2;
+		pBufferData[2 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x2;
+		pBufferData[2 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y;
 
-		this.setDirtyOnHardware();
+		pBufferData[3 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_X] = x2;
+		pBufferData[3 * Rectangle.VERTEX_SIZE + Rectangle.VERTEX_INDEX_Y] = y2;
 	}
 
-	// ===========================================================
-	// Methods
-	// ===========================================================
-
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
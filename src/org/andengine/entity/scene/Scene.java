@@ -11,6 +11,7 @@ import org.andengine.entity.shape.IShape;
 import org.andengine.entity.shape.Shape;
 import org.andengine.input.touch.TouchEvent;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
 import org.andengine.util.Constants;
 import org.andengine.util.adt.list.SmartList;
 import org.andengine.util.color.Color;
@@ -240,31 +241,56 @@ public class Scene extends Entity {
 		final Scene childScene = this.mChildScene;
 
 		if(childScene == null || !this.mChildSceneModalDraw) {
-			if(this.mBackgroundEnabled) {
-				pGLState.pushProjectionGLMatrix();
+			final DrawPass drawPass = pGLState.getDrawPass();
+			if(this.mBackgroundEnabled && ((drawPass == DrawPass.OPAQUE) || (drawPass == DrawPass.TRANSPARENT))) {
+				/* Attached as a regular child within depth sorted passes. The background has to be drawn exactly once and behind the children,
+				 * so everything is drawn back to front in DrawPass.TRANSPARENT only. A Background color still clears the whole screen. */
+				if(pGLState.onDrawPassEntity(false)) {
+					pGLState.setDrawPass(DrawPass.FLATTENED);
+					this.onDrawScene(pGLState, pCamera);
+					pGLState.setDrawPass(drawPass);
+				}
+			} else {
+				this.onDrawScene(pGLState, pCamera);
+			}
+		}
 
-				pCamera.onApplySceneBackgroundMatrix(pGLState);
-				pGLState.loadModelViewGLMatrixIdentity();
+		if(childScene != null) {
+			childScene.onDraw(pGLState, pCamera);
+		}
+	}
 
-				this.mBackground.onDraw(pGLState, pCamera);
+	private void onDrawScene(final GLState pGLState, final Camera pCamera) {
+		if(this.mBackgroundEnabled) {
+			pGLState.pushProjectionGLMatrix();
 
-				pGLState.popProjectionGLMatrix();
-			}
+			pCamera.onApplySceneBackgroundMatrix(pGLState);
+			pGLState.loadModelViewGLMatrixIdentity();
 
-			{
-				pGLState.pushProjectionGLMatrix();
+			this.mBackground.onDraw(pGLState, pCamera);
 
-				this.onApplyMatrix(pGLState, pCamera);
-				pGLState.loadModelViewGLMatrixIdentity();
+			pGLState.popProjectionGLMatrix();
+		}
 
+		{
+			pGLState.pushProjectionGLMatrix();
+
+			this.onApplyMatrix(pGLState, pCamera);
+			pGLState.loadModelViewGLMatrixIdentity();
+
+			if(pGLState.isDepthSortedDrawing() && (pGLState.getDrawPass() == DrawPass.ALL)) {
+				pGLState.beginOpaqueDrawPass();
 				super.onManagedDraw(pGLState, pCamera);
 
-				pGLState.popProjectionGLMatrix();
+				pGLState.beginTransparentDrawPass();
+				super.onManagedDraw(pGLState, pCamera);
+
+				pGLState.endDrawPasses();
+			} else {
+				super.onManagedDraw(pGLState, pCamera);
 			}
-		}
 
-		if(childScene != null) {
-			childScene.onDraw(pGLState, pCamera);
+			pGLState.popProjectionGLMatrix();
 		}
 	}
 
@@ -769,11 +769,31 @@ public abstract class BaseMenuItemDecorator implements IMenuItem {
 		this.mMenuItem.setChildrenIgnoreUpdate(pChildrenIgnoreUpdate);
 	}
 
+	@Override
+	public int getUpdateDivider() {
+		return this.mMenuItem.getUpdateDivider();
+	}
+
+	@Override
+	public void setUpdateDivider(final int pUpdateDivider) {
+		this.mMenuItem.setUpdateDivider(pUpdateDivider);
+	}
+
+	@Override
+	public void setUpdateDivider(final int pUpdateDivider, final int pUpdatePhase) {
+		this.mMenuItem.setUpdateDivider(pUpdateDivider, pUpdatePhase);
+	}
+
 	@Override
 	public void setUserData(final Object pUserData) {
 		this.mMenuItem.setUserData(pUserData);
 	}
 
+	@Override
+	public void invalidate() {
+		this.mMenuItem.invalidate();
+	}
+
 	@Override
 	public Object getUserData() {
 		return this.mMenuItem.getUserData();
@@ -3,6 +3,7 @@ package org.andengine.entity.shape;
 import org.andengine.engine.camera.Camera;
 import org.andengine.entity.primitive.Line;
 import org.andengine.opengl.shader.ShaderProgram;
+import org.andengine.opengl.util.GLState;
 import org.andengine.util.algorithm.collision.RectangularShapeCollisionChecker;
 
 /**
@@ -91,6 +92,13 @@ public abstract class RectangularShape extends Shape implements IAreaShape {
 		return !RectangularShapeCollisionChecker.isVisible(pCamera, this);
 	}
 
+	@Override
+	protected void preDraw(final GLState pGLState, final Camera pCamera) {
+		super.preDraw(pGLState, pCamera);
+
+		pGLState.recordDrawArea(this.mWidth, this.mHeight, this.isOpaque());
+	}
+
 	@Override
 	public void reset() {
 		super.reset();
@@ -113,6 +113,11 @@ public abstract class Shape extends Entity implements IShape {
 		}
 	}
 
+	@Override
+	protected boolean isOpaque() {
+		return !this.mBlendingEnabled;
+	}
+
 	@Override
 	protected void postDraw(final GLState pGLState, final Camera pCamera) {
 		if(this.mBlendingEnabled) {
@@ -0,0 +1,220 @@
+package org.andengine.entity.sprite;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.andengine.engine.handler.IUpdateHandler;
+import org.andengine.util.time.TimeConstants;
+
+/**
+ * A central clock that drives the animations of any number of {@link TiledSprite}s.
+ *
+ * All {@link TiledSprite}s that are registered with the same {@link IAnimationData} form a {@link TimingGroup},
+ * which is advanced only once per update. The {@link TiledSprite}s of a {@link TimingGroup} are only touched when the frame of the {@link TimingGroup} actually changed.
+ * Since {@link TiledSprite}s keep the texture coordinates of all of their tiles in their {@link org.andengine.entity.sprite.vbo.ITiledSpriteVertexBufferObject},
+ * changing the frame is a mere index change and doesn't require any buffer to be updated.
+ *
+ * All {@link TiledSprite}s of a {@link TimingGroup} run in sync. Use {@link AnimatedSprite} for animations that need to be started individually or need an {@link AnimatedSprite.IAnimationListener}.
+ *
+ * Register the {@link AnimationClock} as an {@link IUpdateHandler} with the {@link org.andengine.engine.Engine} or a {@link org.andengine.entity.scene.Scene}.
+ *
+ * @author agent <agent@local>
+ * @since 06:02:06 - 19.10.2026
+ */
+public class AnimationClock implements IUpdateHandler {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final ArrayList<TimingGroup> mTimingGroups = new ArrayList<TimingGroup>();
+	private final HashMap<IAnimationData, TimingGroup> mTimingGroupMap = new HashMap<IAnimationData, TimingGroup>();
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getTimingGroupCount() {
+		return this.mTimingGroups.size();
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdate(final float pSecondsElapsed) {
+		final long nanoSecondsElapsed = (long) (pSecondsElapsed * TimeConstants.NANOSECONDS_PER_SECOND);
+
+		final ArrayList<TimingGroup> timingGroups = this.mTimingGroups;
+		for(int i = timingGroups.size() - 1; i >= 0; i--) {
+			timingGroups.get(i).onUpdate(nanoSecondsElapsed);
+		}
+	}
+
+	@Override
+	public void reset() {
+		final ArrayList<TimingGroup> timingGroups = this.mTimingGroups;
+		for(int i = timingGroups.size() - 1; i >= 0; i--) {
+			timingGroups.get(i).reset();
+		}
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @param pAnimationData must not be modified while it is registered. Pass the same instance for all {@link TiledSprite}s that should share a {@link TimingGroup}.
+	 * @param pTiledSprite
+	 */
+	public void register(final IAnimationData pAnimationData, final TiledSprite pTiledSprite) {
+		TimingGroup timingGroup = this.mTimingGroupMap.get(pAnimationData);
+		if(timingGroup == null) {
+			timingGroup = new TimingGroup(pAnimationData);
+			this.mTimingGroupMap.put(pAnimationData, timingGroup);
+			this.mTimingGroups.add(timingGroup);
+		}
+		timingGroup.add(pTiledSprite);
+	}
+
+	public boolean unregister(final IAnimationData pAnimationData, final TiledSprite pTiledSprite) {
+		final TimingGroup timingGroup = this.mTimingGroupMap.get(pAnimationData);
+		if(timingGroup == null) {
+			return false;
+		}
+
+		final boolean removed = timingGroup.remove(pTiledSprite);
+		if(timingGroup.isEmpty()) {
+			this.mTimingGroupMap.remove(pAnimationData);
+			this.mTimingGroups.remove(timingGroup);
+		}
+		return removed;
+	}
+
+	public void clear() {
+		this.mTimingGroupMap.clear();
+		this.mTimingGroups.clear();
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	private static class TimingGroup {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private final IAnimationData mAnimationData;
+		private final ArrayList<TiledSprite> mTiledSprites = new ArrayList<TiledSprite>();
+
+		private long mAnimationProgress;
+		private int mCurrentTileIndex;
+		private boolean mFinished;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public TimingGroup(final IAnimationData pAnimationData) {
+			this.mAnimationData = pAnimationData;
+
+			this.reset();
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		public boolean isEmpty() {
+			return this.mTiledSprites.isEmpty();
+		}
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		public void add(final TiledSprite pTiledSprite) {
+			this.mTiledSprites.add(pTiledSprite);
+			pTiledSprite.setCurrentTileIndex(this.mCurrentTileIndex);
+		}
+
+		public boolean remove(final TiledSprite pTiledSprite) {
+			return this.mTiledSprites.remove(pTiledSprite);
+		}
+
+		public void reset() {
+			this.mAnimationProgress = 0;
+			this.mFinished = false;
+			this.updateTileIndex(this.calculateTileIndex(0));
+		}
+
+		public void onUpdate(final long pNanoSecondsElapsed) {
+			if(this.mFinished) {
+				return;
+			}
+
+			final IAnimationData animationData = this.mAnimationData;
+			final long animationDuration = animationData.getAnimationDuration();
+			final int loopCount = animationData.getLoopCount();
+
+			this.mAnimationProgress += pNanoSecondsElapsed;
+
+			final int frameIndex;
+			if(loopCount == IAnimationData.LOOP_CONTINUOUS) {
+				if(this.mAnimationProgress > animationDuration) {
+					this.mAnimationProgress %= animationDuration;
+				}
+				frameIndex = animationData.calculateCurrentFrameIndex(this.mAnimationProgress);
+			} else if(this.mAnimationProgress > animationDuration * (loopCount + 1)) {
+				this.mFinished = true;
+				frameIndex = animationData.getFrameCount() - 1;
+			} else {
+				frameIndex = animationData.calculateCurrentFrameIndex(this.mAnimationProgress % animationDuration);
+			}
+
+			final int tileIndex = this.calculateTileIndex(frameIndex);
+			if(tileIndex != this.mCurrentTileIndex) {
+				this.updateTileIndex(tileIndex);
+			}
+		}
+
+		private int calculateTileIndex(final int pFrameIndex) {
+			final int[] frames = this.mAnimationData.getFrames();
+			if(frames == null) {
+				return this.mAnimationData.getFirstFrameIndex() + pFrameIndex;
+			} else {
+				return frames[pFrameIndex];
+			}
+		}
+
+		private void updateTileIndex(final int pTileIndex) {
+			this.mCurrentTileIndex = pTileIndex;
+
+			final ArrayList<TiledSprite> tiledSprites = this.mTiledSprites;
+			for(int i = tiledSprites.size() - 1; i >= 0; i--) {
+				tiledSprites.get(i).setCurrentTileIndex(pTileIndex);
+			}
+		}
+
+		// ===========================================================
+		// Inner and Anonymous Classes
+		// ===========================================================
+	}
+}
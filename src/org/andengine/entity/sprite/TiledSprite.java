@@ -141,7 +141,11 @@ public class TiledSprite extends Sprite {
 	}
 
 	public void setCurrentTileIndex(final int pCurrentTileIndex) {
-		this.mCurrentTileIndex = pCurrentTileIndex;
+		if(this.mCurrentTileIndex != pCurrentTileIndex) {
+			this.mCurrentTileIndex = pCurrentTileIndex;
+
+			this.invalidate();
+		}
 	}
 
 	public int getTileCount() {
@@ -0,0 +1,302 @@
+package org.andengine.entity.sprite.batch;
+
+import java.util.ArrayList;
+
+import org.andengine.engine.camera.Camera;
+import org.andengine.entity.sprite.batch.vbo.MultiTextureSpriteBatchVertexBufferObject;
+import org.andengine.opengl.shader.PositionColorTextureCoordinatesTextureIndexShaderProgram;
+import org.andengine.opengl.shader.constants.ShaderProgramConstants;
+import org.andengine.opengl.texture.ITexture;
+import org.andengine.opengl.texture.region.ITextureRegion;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.QuadIndexBuffer;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributesBuilder;
+
+import android.opengl.GLES20;
+
+/**
+ * A {@link SpriteBatch} that accepts {@link ITextureRegion}s of multiple {@link ITexture}s.
+ * Each {@link ITexture} is assigned to one of the texture units, and every vertex carries the index of the texture unit it samples from,
+ * see {@link PositionColorTextureCoordinatesTextureIndexShaderProgram}.
+ * <p/>
+ * As long as no more than <code>pTextureUnitCount</code> different {@link ITexture}s are used, all sprites are drawn with a single draw call.
+ * Otherwise the sprites are split into segments of at most <code>pTextureUnitCount</code> different {@link ITexture}s each, and every segment is drawn with its own draw call.
+ * So the order in which the sprites are drawn is always kept.
+ * <p/>
+ * All {@link ITexture}s have to agree on {@link org.andengine.opengl.texture.TextureOptions#mPreMultiplyAlpha} with the {@link ITexture} this {@link MultiTextureSpriteBatch} was created with, as they share one blend function.
+ * <p/>
+ * The <code>drawWithoutChecks</code> methods skip the texture unit assignment, so they use the {@link ITexture} of the previous <code>draw</code> call.
+ *
+ * @author agent <agent@local>
+ * @since 06:24:36 - 19.10.2026
+ */
+public class MultiTextureSpriteBatch extends SpriteBatch {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int TEXTUREINDEX_INDEX = SpriteBatch.TEXTURECOORDINATES_INDEX_V + 1;
+
+	public static final int VERTEX_SIZE = 2 + 1 + 2 + 1;
+	public static final int SPRITE_SIZE = MultiTextureSpriteBatch.VERTEX_SIZE * SpriteBatch.VERTICES_PER_SPRITE;
+
+	/**
+	 * OpenGL ES 2.0 guarantees at least this many texture units in the fragment shader, so there is no need to check {@link GLState#getMaximumTextureUnits()}.
+	 */
+	public static final int TEXTURE_UNIT_COUNT_DEFAULT = PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM;
+
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_DEFAULT = new VertexBufferObjectAttributesBuilder(4)
+		.add(ShaderProgramConstants.ATTRIBUTE_POSITION_LOCATION, ShaderProgramConstants.ATTRIBUTE_POSITION, 2, GLES20.GL_FLOAT, false)
+		.add(ShaderProgramConstants.ATTRIBUTE_COLOR_LOCATION, ShaderProgramConstants.ATTRIBUTE_COLOR, 4, GLES20.GL_UNSIGNED_BYTE, true)
+		.add(ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES, 2, GLES20.GL_FLOAT, false)
+		.add(ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX, 1, GLES20.GL_FLOAT, false)
+		.build();
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	protected final MultiTextureSpriteBatchVertexBufferObject mMultiTextureSpriteBatchVertexBufferObject;
+	protected final int mTextureUnitCount;
+
+	private ArrayList<TextureSegment> mRecordingTextureSegments = new ArrayList<TextureSegment>();
+	private int mRecordingTextureSegmentCount;
+	private ArrayList<TextureSegment> mSubmittedTextureSegments = new ArrayList<TextureSegment>();
+	private int mSubmittedTextureSegmentCount;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public MultiTextureSpriteBatch(final ITexture pTexture, final int pCapacity, final VertexBufferObjectManager pVertexBufferObjectManager) {
+		this(0, 0, pTexture, pCapacity, pVertexBufferObjectManager, DrawType.STATIC);
+	}
+
+	public MultiTextureSpriteBatch(final float pX, final float pY, final ITexture pTexture, final int pCapacity, final VertexBufferObjectManager pVertexBufferObjectManager) {
+		this(pX, pY, pTexture, pCapacity, pVertexBufferObjectManager, DrawType.STATIC);
+	}
+
+	public MultiTextureSpriteBatch(final ITexture pTexture, final int pCapacity, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType) {
+		this(0, 0, pTexture, pCapacity, pVertexBufferObjectManager, pDrawType);
+	}
+
+	public MultiTextureSpriteBatch(final float pX, final float pY, final ITexture pTexture, final int pCapacity, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType) {
+		this(pX, pY, pTexture, pCapacity, pVertexBufferObjectManager, pDrawType, MultiTextureSpriteBatch.TEXTURE_UNIT_COUNT_DEFAULT);
+	}
+
+	/**
+	 * @param pTextureUnitCount the number of texture units to use, from <code>1</code> to {@link MultiTextureSpriteBatch#TEXTURE_UNIT_COUNT_DEFAULT}.
+	 */
+	public MultiTextureSpriteBatch(final float pX, final float pY, final ITexture pTexture, final int pCapacity, final VertexBufferObjectManager pVertexBufferObjectManager, final DrawType pDrawType, final int pTextureUnitCount) {
+		this(pX, pY, pTexture, pCapacity, new MultiTextureSpriteBatchVertexBufferObject(pVertexBufferObjectManager, pCapacity * MultiTextureSpriteBatch.SPRITE_SIZE, pDrawType, true, MultiTextureSpriteBatch.VERTEXBUFFEROBJECTATTRIBUTES_DEFAULT), pTextureUnitCount);
+	}
+
+	/**
+	 * @param pTextureUnitCount the number of texture units to use, from <code>1</code> to {@link MultiTextureSpriteBatch#TEXTURE_UNIT_COUNT_DEFAULT}.
+	 */
+	public MultiTextureSpriteBatch(final float pX, final float pY, final ITexture pTexture, final int pCapacity, final MultiTextureSpriteBatchVertexBufferObject pMultiTextureSpriteBatchVertexBufferObject, final int pTextureUnitCount) {
+		super(pX, pY, pTexture, pCapacity, pMultiTextureSpriteBatchVertexBufferObject, PositionColorTextureCoordinatesTextureIndexShaderProgram.getInstance());
+
+		if((pTextureUnitCount < 1) || (pTextureUnitCount > PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM)) {
+			throw new IllegalArgumentException("pTextureUnitCount must be between 1 and " + PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM + ".");
+		}
+
+		this.mMultiTextureSpriteBatchVertexBufferObject = pMultiTextureSpriteBatchVertexBufferObject;
+		this.mTextureUnitCount = pTextureUnitCount;
+
+		this.startTextureSegment(0);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getTextureUnitCount() {
+		return this.mTextureUnitCount;
+	}
+
+	/**
+	 * @return the number of draw calls needed for the submitted sprites.
+	 */
+	public int getSubmittedTextureSegmentCount() {
+		return this.mSubmittedTextureSegmentCount;
+	}
+
+	/**
+	 * Only jumping back is supported: the sprites that would be skipped by jumping forward hold texture indices of an earlier texture unit assignment, so they would sample the wrong {@link ITexture}.
+	 *
+	 * @throws IllegalArgumentException when <code>pIndex</code> is greater than the current index.
+	 */
+	@Override
+	public void setIndex(final int pIndex) {
+		if(pIndex > this.mIndex) {
+			throw new IllegalArgumentException("This supplied pIndex: '" + pIndex + "' is ahead of the current index: '" + this.mIndex + "' of this " + this.getClass().getSimpleName() + "!");
+		}
+
+		super.setIndex(pIndex);
+
+		/* Discard the segments that would be overwritten entirely. */
+		while((this.mRecordingTextureSegmentCount > 1) && (this.mRecordingTextureSegments.get(this.mRecordingTextureSegmentCount - 1).mSpriteOffset >= pIndex)) {
+			this.mRecordingTextureSegmentCount--;
+		}
+
+		if(pIndex == 0) {
+			this.mRecordingTextureSegments.get(0).reset(0);
+		}
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	protected void draw(final GLState pGLState, final Camera pCamera) {
+		this.begin();
+
+		final VertexBufferObjectAttributes vertexBufferObjectAttributes = this.mSpriteBatchVertexBufferObject.getVertexBufferObjectAttributes();
+		final QuadIndexBuffer quadIndexBuffer = QuadIndexBuffer.getInstance();
+
+		final ArrayList<TextureSegment> textureSegments = this.mSubmittedTextureSegments;
+		final int textureSegmentCount = this.mSubmittedTextureSegmentCount;
+		for(int i = 0; i < textureSegmentCount; i++) {
+			final TextureSegment textureSegment = textureSegments.get(i);
+			if(textureSegment.mSpriteCount > 0) {
+				final ITexture[] textures = textureSegment.mTextures;
+				for(int j = textureSegment.mTextureCount - 1; j >= 0; j--) {
+					textures[j].bind(pGLState, GLES20.GL_TEXTURE0 + j);
+				}
+
+				quadIndexBuffer.draw(pGLState, vertexBufferObjectAttributes, textureSegment.mSpriteOffset, textureSegment.mSpriteCount);
+			}
+		}
+
+		/* Everything else expects the first texture unit to be active. */
+		pGLState.activeTexture(GLES20.GL_TEXTURE0);
+
+		this.end();
+	}
+
+	@Override
+	protected void onSubmit() {
+		final ArrayList<TextureSegment> recordingTextureSegments = this.mRecordingTextureSegments;
+		final int recordingTextureSegmentCount = this.mRecordingTextureSegmentCount;
+		for(int i = 0; i < recordingTextureSegmentCount; i++) {
+			final TextureSegment textureSegment = recordingTextureSegments.get(i);
+			final int spriteEnd = (i < recordingTextureSegmentCount - 1) ? recordingTextureSegments.get(i + 1).mSpriteOffset : this.mIndex;
+			textureSegment.mSpriteCount = Math.max(0, spriteEnd - textureSegment.mSpriteOffset);
+		}
+
+		/* Swap, so the submitted segments stay untouched until the next submit. */
+		this.mRecordingTextureSegments = this.mSubmittedTextureSegments;
+		this.mSubmittedTextureSegments = recordingTextureSegments;
+		this.mSubmittedTextureSegmentCount = recordingTextureSegmentCount;
+
+		this.mRecordingTextureSegmentCount = 0;
+		this.startTextureSegment(0);
+
+		super.onSubmit();
+	}
+
+	/**
+	 * Instead of rejecting {@link ITextureRegion}s of other {@link ITexture}s, assigns their {@link ITexture} to a texture unit.
+	 */
+	@Override
+	protected void assertTexture(final ITextureRegion pTextureRegion) {
+		final ITexture texture = pTextureRegion.getTexture();
+		if(texture.getTextureOptions().mPreMultiplyAlpha != this.mTexture.getTextureOptions().mPreMultiplyAlpha) {
+			throw new IllegalArgumentException("The supplied Texture does not match the premultiplied alpha setting of the Texture of this MultiTextureSpriteBatch!");
+		}
+
+		TextureSegment textureSegment = this.mRecordingTextureSegments.get(this.mRecordingTextureSegmentCount - 1);
+		int textureIndex = textureSegment.indexOf(texture);
+		if(textureIndex == TextureSegment.INDEX_INVALID) {
+			if(textureSegment.mTextureCount == this.mTextureUnitCount) {
+				/* All texture units are taken, so the following sprites need a draw call of their own. */
+				textureSegment = this.startTextureSegment(this.mIndex);
+			}
+			textureIndex = textureSegment.add(texture);
+		}
+
+		this.mMultiTextureSpriteBatchVertexBufferObject.setTextureIndex(textureIndex);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	private TextureSegment startTextureSegment(final int pSpriteOffset) {
+		final ArrayList<TextureSegment> textureSegments = this.mRecordingTextureSegments;
+
+		final TextureSegment textureSegment;
+		if(this.mRecordingTextureSegmentCount < textureSegments.size()) {
+			textureSegment = textureSegments.get(this.mRecordingTextureSegmentCount);
+		} else {
+			textureSegment = new TextureSegment(this.mTextureUnitCount);
+			textureSegments.add(textureSegment);
+		}
+		this.mRecordingTextureSegmentCount++;
+
+		textureSegment.reset(pSpriteOffset);
+		return textureSegment;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	private static class TextureSegment {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		private static final int INDEX_INVALID = -1;
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private final ITexture[] mTextures;
+		private int mTextureCount;
+
+		private int mSpriteOffset;
+		private int mSpriteCount;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public TextureSegment(final int pTextureUnitCount) {
+			this.mTextures = new ITexture[pTextureUnitCount];
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		public void reset(final int pSpriteOffset) {
+			for(int i = this.mTextureCount - 1; i >= 0; i--) {
+				this.mTextures[i] = null;
+			}
+			this.mTextureCount = 0;
+			this.mSpriteOffset = pSpriteOffset;
+			this.mSpriteCount = 0;
+		}
+
+		public int indexOf(final ITexture pTexture) {
+			for(int i = this.mTextureCount - 1; i >= 0; i--) {
+				if(this.mTextures[i] == pTexture) {
+					return i;
+				}
+			}
+			return TextureSegment.INDEX_INVALID;
+		}
+
+		public int add(final ITexture pTexture) {
+			this.mTextures[this.mTextureCount] = pTexture;
+			return this.mTextureCount++;
+		}
+	}
+}
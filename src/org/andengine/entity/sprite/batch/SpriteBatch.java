@@ -5,6 +5,7 @@ import org.andengine.entity.IEntity;
 import org.andengine.entity.shape.IShape;
 import org.andengine.entity.shape.Shape;
 import org.andengine.entity.sprite.Sprite;
+import org.andengine.entity.sprite.batch.vbo.CompactSpriteBatchVertexBufferObject;
 import org.andengine.entity.sprite.batch.vbo.HighPerformanceSpriteBatchVertexBufferObject;
 import org.andengine.entity.sprite.batch.vbo.ISpriteBatchVertexBufferObject;
 import org.andengine.opengl.shader.PositionColorTextureCoordinatesShaderProgram;
@@ -13,10 +14,13 @@ import org.andengine.opengl.shader.constants.ShaderProgramConstants;
 import org.andengine.opengl.texture.ITexture;
 import org.andengine.opengl.texture.region.ITextureRegion;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.CompactVertexBufferObject;
 import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.QuadIndexBuffer;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributesBuilder;
+import org.andengine.util.adt.DataConstants;
 import org.andengine.util.adt.transformation.Transformation;
 import org.andengine.util.color.ColorUtils;
 
@@ -48,7 +52,7 @@ public class SpriteBatch extends Shape {
 	public static final int TEXTURECOORDINATES_INDEX_V = SpriteBatch.TEXTURECOORDINATES_INDEX_U + 1;
 
 	public static final int VERTEX_SIZE = 2 + 1 + 2;
-	public static final int VERTICES_PER_SPRITE = 6;
+	public static final int VERTICES_PER_SPRITE = QuadIndexBuffer.VERTICES_PER_QUAD;
 	public static final int SPRITE_SIZE = SpriteBatch.VERTEX_SIZE * SpriteBatch.VERTICES_PER_SPRITE;
 
 	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_DEFAULT = new VertexBufferObjectAttributesBuilder(3)
@@ -57,6 +61,13 @@ public class SpriteBatch extends Shape {
 		.add(ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES, 2, GLES20.GL_FLOAT, false)
 		.build();
 
+	/** @see CompactSpriteBatchVertexBufferObject */
+	public static final int COMPACT_VERTEX_SIZE = CompactVertexBufferObject.VERTEX_SIZE;
+	public static final int COMPACT_SPRITE_SIZE = SpriteBatch.COMPACT_VERTEX_SIZE * SpriteBatch.VERTICES_PER_SPRITE;
+
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_COMPACT = CompactVertexBufferObject.VERTEXBUFFEROBJECTATTRIBUTES_SHORT_POSITION;
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_COMPACT_HALF_FLOAT = CompactVertexBufferObject.VERTEXBUFFEROBJECTATTRIBUTES_HALF_FLOAT_POSITION;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -64,9 +75,13 @@ public class SpriteBatch extends Shape {
 	protected ITexture mTexture;
 	protected final int mCapacity;
 	protected final ISpriteBatchVertexBufferObject mSpriteBatchVertexBufferObject;
+	/** In <code>float</code>s, depends on the {@link VertexBufferObjectAttributes} of {@link SpriteBatch#mSpriteBatchVertexBufferObject}. */
+	protected final int mVertexSize;
 
 	protected int mIndex;
 	protected int mVertices;
+	/** The index the sprites drawn since the last {@link SpriteBatch#setIndex(int)} or {@link SpriteBatch#submit()} started at. Only these sprites need to be updated on the hardware. */
+	private int mDirtyIndexStart;
 
 	// ===========================================================
 	// Constructors
@@ -122,6 +137,7 @@ public class SpriteBatch extends Shape {
 		this.mTexture = pTexture;
 		this.mCapacity = pCapacity;
 		this.mSpriteBatchVertexBufferObject = pSpriteBatchVertexBufferObject;
+		this.mVertexSize = pSpriteBatchVertexBufferObject.getVertexBufferObjectAttributes().getStride() / DataConstants.BYTES_PER_FLOAT;
 
 		this.setBlendingEnabled(true);
 		this.initBlendFunction(this.mTexture);
@@ -146,9 +162,12 @@ public class SpriteBatch extends Shape {
 	public void setIndex(final int pIndex) {
 		this.assertCapacity(pIndex);
 
+		this.setDirtyOnHardware(this.mDirtyIndexStart, this.mIndex);
+
 		this.mIndex = pIndex;
+		this.mDirtyIndexStart = pIndex;
 
-		final int bufferDataOffset = pIndex * SpriteBatch.SPRITE_SIZE;
+		final int bufferDataOffset = pIndex * SpriteBatch.VERTICES_PER_SPRITE * this.mVertexSize;
 
 		this.mSpriteBatchVertexBufferObject.setBufferDataOffset(bufferDataOffset);
 	}
@@ -195,7 +214,7 @@ public class SpriteBatch extends Shape {
 	protected void draw(final GLState pGLState, final Camera pCamera) {
 		this.begin();
 
-		this.mSpriteBatchVertexBufferObject.draw(GLES20.GL_TRIANGLES, this.mVertices);
+		QuadIndexBuffer.getInstance().draw(pGLState, this.mSpriteBatchVertexBufferObject.getVertexBufferObjectAttributes(), this.mVertices / SpriteBatch.VERTICES_PER_SPRITE);
 
 		this.end();
 	}
@@ -460,12 +479,26 @@ public class SpriteBatch extends Shape {
 	protected void onSubmit() {
 		this.mVertices = this.mIndex * SpriteBatch.VERTICES_PER_SPRITE;
 
-		this.mSpriteBatchVertexBufferObject.setDirtyOnHardware();
+		this.setDirtyOnHardware(this.mDirtyIndexStart, this.mIndex);
 
 		this.mIndex = 0;
+		this.mDirtyIndexStart = 0;
 		this.mSpriteBatchVertexBufferObject.setBufferDataOffset(0);
 	}
 
+	/**
+	 * Only the sprites that were actually drawn need to be updated on the hardware.
+	 *
+	 * @param pIndexStart inclusive.
+	 * @param pIndexEnd exclusive.
+	 */
+	private void setDirtyOnHardware(final int pIndexStart, final int pIndexEnd) {
+		if(pIndexEnd > pIndexStart) {
+			final int spriteSize = SpriteBatch.VERTICES_PER_SPRITE * this.mVertexSize;
+			this.mSpriteBatchVertexBufferObject.setDirtyOnHardware(pIndexStart * spriteSize, (pIndexEnd - pIndexStart) * spriteSize);
+		}
+	}
+
 	private void assertCapacity(final int pIndex) {
 		if(pIndex >= this.mCapacity) {
 			throw new IllegalStateException("This supplied pIndex: '" + pIndex + "' is exceeding the capacity: '" + this.mCapacity + "' of this SpriteBatch!");
@@ -0,0 +1,120 @@
+package org.andengine.entity.sprite.batch.vbo;
+
+import org.andengine.entity.sprite.batch.SpriteBatch;
+import org.andengine.opengl.texture.region.ITextureRegion;
+import org.andengine.opengl.vbo.CompactVertexBufferObject;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+/**
+ * Uses 12 instead of 20 bytes per vertex, see {@link CompactVertexBufferObject}.
+ * The capacity needs to be based on {@link SpriteBatch#COMPACT_SPRITE_SIZE}, and {@link SpriteBatch#VERTEXBUFFEROBJECTATTRIBUTES_COMPACT} or {@link SpriteBatch#VERTEXBUFFEROBJECTATTRIBUTES_COMPACT_HALF_FLOAT} need to be used.
+ *
+ * @author agent <agent@local>
+ * @since 06:21:27 - 19.10.2026
+ */
+public class CompactSpriteBatchVertexBufferObject extends CompactVertexBufferObject implements ISpriteBatchVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	/** In <code>float</code>s, as with the other {@link ISpriteBatchVertexBufferObject}s. */
+	protected int mBufferDataOffset;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public CompactSpriteBatchVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	@Override
+	public int getBufferDataOffset() {
+		return this.mBufferDataOffset;
+	}
+
+	@Override
+	public void setBufferDataOffset(final int pBufferDataOffset) {
+		this.mBufferDataOffset = pBufferDataOffset;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	/**
+	 * 1-3
+	 * |X|
+	 * 2-4
+	 */
+	@Override
+	public void addWithPackedColor(final ITextureRegion pTextureRegion, final float pX1, final float pY1, final float pX2, final float pY2, final float pX3, final float pY3, final float pX4, final float pY4, final float pColorABGRPackedInt) {
+		final int vertexIndex = this.mBufferDataOffset / SpriteBatch.COMPACT_VERTEX_SIZE;
+
+		final float u = pTextureRegion.getU();
+		final float v = pTextureRegion.getV();
+		final float u2 = pTextureRegion.getU2();
+		final float v2 = pTextureRegion.getV2();
+
+		if(pTextureRegion.isRotated()) {
+			this.putVertex(vertexIndex + 0, pX1, pY1, pColorABGRPackedInt, u2, v);
+			this.putVertex(vertexIndex + 1, pX2, pY2, pColorABGRPackedInt, u, v);
+			this.putVertex(vertexIndex + 2, pX3, pY3, pColorABGRPackedInt, u2, v2);
+			this.putVertex(vertexIndex + 3, pX4, pY4, pColorABGRPackedInt, u, v2);
+		} else {
+			this.putVertex(vertexIndex + 0, pX1, pY1, pColorABGRPackedInt, u, v);
+			this.putVertex(vertexIndex + 1, pX2, pY2, pColorABGRPackedInt, u, v2);
+			this.putVertex(vertexIndex + 2, pX3, pY3, pColorABGRPackedInt, u2, v);
+			this.putVertex(vertexIndex + 3, pX4, pY4, pColorABGRPackedInt, u2, v2);
+		}
+
+		this.mBufferDataOffset += SpriteBatch.COMPACT_SPRITE_SIZE;
+	}
+
+	/**
+	 * 1-+
+	 * |X|
+	 * +-2
+	 */
+	@Override
+	public void addWithPackedColor(final ITextureRegion pTextureRegion, final float pX1, final float pY1, final float pX2, final float pY2, final float pColorABGRPackedInt) {
+		final int vertexIndex = this.mBufferDataOffset / SpriteBatch.COMPACT_VERTEX_SIZE;
+
+		final float u = pTextureRegion.getU();
+		final float v = pTextureRegion.getV();
+		final float u2 = pTextureRegion.getU2();
+		final float v2 = pTextureRegion.getV2();
+
+		if(pTextureRegion.isRotated()) {
+			this.putVertex(vertexIndex + 0, pX1, pY1, pColorABGRPackedInt, u2, v);
+			this.putVertex(vertexIndex + 1, pX1, pY2, pColorABGRPackedInt, u, v);
+			this.putVertex(vertexIndex + 2, pX2, pY1, pColorABGRPackedInt, u2, v2);
+			this.putVertex(vertexIndex + 3, pX2, pY2, pColorABGRPackedInt, u, v2);
+		} else {
+			this.putVertex(vertexIndex + 0, pX1, pY1, pColorABGRPackedInt, u, v);
+			this.putVertex(vertexIndex + 1, pX1, pY2, pColorABGRPackedInt, u, v2);
+			this.putVertex(vertexIndex + 2, pX2, pY1, pColorABGRPackedInt, u2, v);
+			this.putVertex(vertexIndex + 3, pX2, pY2, pColorABGRPackedInt, u2, v2);
+		}
+
+		this.mBufferDataOffset += SpriteBatch.COMPACT_SPRITE_SIZE;
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
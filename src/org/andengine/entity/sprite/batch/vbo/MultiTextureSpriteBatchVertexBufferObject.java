@@ -0,0 +1,141 @@
+package org.andengine.entity.sprite.batch.vbo;
+
+import org.andengine.entity.sprite.batch.MultiTextureSpriteBatch;
+import org.andengine.opengl.texture.region.ITextureRegion;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.HighPerformanceVertexBufferObject;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+/**
+ * Writes the vertices of {@link MultiTextureSpriteBatch}es, which additionally carry the index of the texture unit their texture is bound to.
+ *
+ * @author agent <agent@local>
+ * @since 06:24:36 - 19.10.2026
+ */
+public class MultiTextureSpriteBatchVertexBufferObject extends HighPerformanceVertexBufferObject implements ISpriteBatchVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	protected int mBufferDataOffset;
+	protected float mTextureIndex;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public MultiTextureSpriteBatchVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	@Override
+	public int getBufferDataOffset() {
+		return this.mBufferDataOffset;
+	}
+
+	@Override
+	public void setBufferDataOffset(final int pBufferDataOffset) {
+		this.mBufferDataOffset = pBufferDataOffset;
+	}
+
+	public int getTextureIndex() {
+		return (int)this.mTextureIndex;
+	}
+
+	/**
+	 * @param pTextureIndex the texture unit (relative to <code>GL_TEXTURE0</code>) used by all following sprites.
+	 */
+	public void setTextureIndex(final int pTextureIndex) {
+		this.mTextureIndex = pTextureIndex;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	/**
+	 * 1-3
+	 * |X|
+	 * 2-4
+	 */
+	@Override
+	public void addWithPackedColor(final ITextureRegion pTextureRegion, final float pX1, final float pY1, final float pX2, final float pY2, final float pX3, final float pY3, final float pX4, final float pY4, final float pColorABGRPackedInt) {
+		final int bufferDataOffset = this.mBufferDataOffset;
+
+		final float u = pTextureRegion.getU();
+		final float v = pTextureRegion.getV();
+		final float u2 = pTextureRegion.getU2();
+		final float v2 = pTextureRegion.getV2();
+
+		if(pTextureRegion.isRotated()) {
+			this.putVertex(bufferDataOffset + 0 * MultiTextureSpriteBatch.VERTEX_SIZE, pX1, pY1, pColorABGRPackedInt, u2, v);
+			this.putVertex(bufferDataOffset + 1 * MultiTextureSpriteBatch.VERTEX_SIZE, pX2, pY2, pColorABGRPackedInt, u, v);
+			this.putVertex(bufferDataOffset + 2 * MultiTextureSpriteBatch.VERTEX_SIZE, pX3, pY3, pColorABGRPackedInt, u2, v2);
+			this.putVertex(bufferDataOffset + 3 * MultiTextureSpriteBatch.VERTEX_SIZE, pX4, pY4, pColorABGRPackedInt, u, v2);
+		} else {
+			this.putVertex(bufferDataOffset + 0 * MultiTextureSpriteBatch.VERTEX_SIZE, pX1, pY1, pColorABGRPackedInt, u, v);
+			this.putVertex(bufferDataOffset + 1 * MultiTextureSpriteBatch.VERTEX_SIZE, pX2, pY2, pColorABGRPackedInt, u, v2);
+			this.putVertex(bufferDataOffset + 2 * MultiTextureSpriteBatch.VERTEX_SIZE, pX3, pY3, pColorABGRPackedInt, u2, v);
+			this.putVertex(bufferDataOffset + 3 * MultiTextureSpriteBatch.VERTEX_SIZE, pX4, pY4, pColorABGRPackedInt, u2, v2);
+		}
+
+		this.mBufferDataOffset += MultiTextureSpriteBatch.SPRITE_SIZE;
+	}
+
+	/**
+	 * 1-+
+	 * |X|
+	 * +-2
+	 */
+	@Override
+	public void addWithPackedColor(final ITextureRegion pTextureRegion, final float pX1, final float pY1, final float pX2, final float pY2, final float pColorABGRPackedInt) {
+		final int bufferDataOffset = this.mBufferDataOffset;
+
+		final float u = pTextureRegion.getU();
+		final float v = pTextureRegion.getV();
+		final float u2 = pTextureRegion.getU2();
+		final float v2 = pTextureRegion.getV2();
+
+		if(pTextureRegion.isRotated()) {
+			this.putVertex(bufferDataOffset + 0 * MultiTextureSpriteBatch.VERTEX_SIZE, pX1, pY1, pColorABGRPackedInt, u2, v);
+			this.putVertex(bufferDataOffset + 1 * MultiTextureSpriteBatch.VERTEX_SIZE, pX1, pY2, pColorABGRPackedInt, u, v);
+			this.putVertex(bufferDataOffset + 2 * MultiTextureSpriteBatch.VERTEX_SIZE, pX2, pY1, pColorABGRPackedInt, u2, v2);
+			this.putVertex(bufferDataOffset + 3 * MultiTextureSpriteBatch.VERTEX_SIZE, pX2, pY2, pColorABGRPackedInt, u, v2);
+		} else {
+			this.putVertex(bufferDataOffset + 0 * MultiTextureSpriteBatch.VERTEX_SIZE, pX1, pY1, pColorABGRPackedInt, u, v);
+			this.putVertex(bufferDataOffset + 1 * MultiTextureSpriteBatch.VERTEX_SIZE, pX1, pY2, pColorABGRPackedInt, u, v2);
+			this.putVertex(bufferDataOffset + 2 * MultiTextureSpriteBatch.VERTEX_SIZE, pX2, pY1, pColorABGRPackedInt, u2, v);
+			this.putVertex(bufferDataOffset + 3 * MultiTextureSpriteBatch.VERTEX_SIZE, pX2, pY2, pColorABGRPackedInt, u2, v2);
+		}
+
+		this.mBufferDataOffset += MultiTextureSpriteBatch.SPRITE_SIZE;
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	private void putVertex(final int pBufferDataOffset, final float pX, final float pY, final float pColorABGRPackedInt, final float pU, final float pV) {
+		final float[] bufferData = this.mBufferData;
+
+		bufferData[pBufferDataOffset + MultiTextureSpriteBatch.VERTEX_INDEX_X] = pX;
+		bufferData[pBufferDataOffset + MultiTextureSpriteBatch.VERTEX_INDEX_Y] = pY;
+		bufferData[pBufferDataOffset + MultiTextureSpriteBatch.COLOR_INDEX] = pColorABGRPackedInt;
+		bufferData[pBufferDataOffset + MultiTextureSpriteBatch.TEXTURECOORDINATES_INDEX_U] = pU;
+		bufferData[pBufferDataOffset + MultiTextureSpriteBatch.TEXTURECOORDINATES_INDEX_V] = pV;
+		bufferData[pBufferDataOffset + MultiTextureSpriteBatch.TEXTUREINDEX_INDEX] = this.mTextureIndex;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
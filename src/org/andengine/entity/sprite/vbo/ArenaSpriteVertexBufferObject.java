@@ -0,0 +1,68 @@
+package org.andengine.entity.sprite.vbo;
+
+import org.andengine.entity.sprite.Sprite;
+import org.andengine.opengl.vbo.ArenaVertexBufferObject;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+/**
+ * Opt in by passing an instance to the constructor of the entity, so it shares a {@link org.andengine.opengl.vbo.VertexBufferObjectArena} with all other entities of its kind.
+ *
+ * @author agent <agent@local>
+ * @since 06:12:28 - 19.10.2026
+ */
+public class ArenaSpriteVertexBufferObject extends ArenaVertexBufferObject implements ISpriteVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ArenaSpriteVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdateColor(final Sprite pSprite) {
+		HighPerformanceSpriteVertexBufferObject.updateColor(this.mBufferData, pSprite);
+
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateVertices(final Sprite pSprite) {
+		HighPerformanceSpriteVertexBufferObject.updateVertices(this.mBufferData, pSprite);
+
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateTextureCoordinates(final Sprite pSprite) {
+		HighPerformanceSpriteVertexBufferObject.updateTextureCoordinates(this.mBufferData, pSprite);
+
+		this.setDirtyOnHardware();
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
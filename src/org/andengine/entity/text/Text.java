@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import org.andengine.engine.camera.Camera;
 import org.andengine.entity.shape.RectangularShape;
 import org.andengine.entity.text.exception.OutOfCharactersException;
+import org.andengine.entity.text.vbo.CompactTextVertexBufferObject;
 import org.andengine.entity.text.vbo.HighPerformanceTextVertexBufferObject;
 import org.andengine.entity.text.vbo.ITextVertexBufferObject;
 import org.andengine.opengl.font.FontUtils;
@@ -13,7 +14,9 @@ import org.andengine.opengl.shader.PositionColorTextureCoordinatesShaderProgram;
 import org.andengine.opengl.shader.ShaderProgram;
 import org.andengine.opengl.shader.constants.ShaderProgramConstants;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.CompactVertexBufferObject;
 import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.QuadIndexBuffer;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributesBuilder;
@@ -47,7 +50,7 @@ public class Text extends RectangularShape {
 	public static final int TEXTURECOORDINATES_INDEX_V = Text.TEXTURECOORDINATES_INDEX_U + 1;
 
 	public static final int VERTEX_SIZE = 2 + 1 + 2;
-	public static final int VERTICES_PER_LETTER = 6;
+	public static final int VERTICES_PER_LETTER = QuadIndexBuffer.VERTICES_PER_QUAD;
 	public static final int LETTER_SIZE = Text.VERTEX_SIZE * Text.VERTICES_PER_LETTER;
 	public static final int VERTEX_STRIDE = Text.VERTEX_SIZE * DataConstants.BYTES_PER_FLOAT;
 
@@ -57,6 +60,13 @@ public class Text extends RectangularShape {
 		.add(ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES, 2, GLES20.GL_FLOAT, false)
 		.build();
 
+	/** @see CompactTextVertexBufferObject */
+	public static final int COMPACT_VERTEX_SIZE = CompactVertexBufferObject.VERTEX_SIZE;
+	public static final int COMPACT_LETTER_SIZE = Text.COMPACT_VERTEX_SIZE * Text.VERTICES_PER_LETTER;
+
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_COMPACT = CompactVertexBufferObject.VERTEXBUFFEROBJECTATTRIBUTES_SHORT_POSITION;
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_COMPACT_HALF_FLOAT = CompactVertexBufferObject.VERTEXBUFFEROBJECTATTRIBUTES_HALF_FLOAT_POSITION;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -221,6 +231,8 @@ public class Text extends RectangularShape {
 		this.mScaleCenterY = this.mRotationCenterY;
 
 		this.onUpdateVertices();
+
+		this.invalidate();
 	}
 
 	public ArrayList<CharSequence> getLines() {
@@ -315,7 +327,7 @@ public class Text extends RectangularShape {
 
 	@Override
 	protected void draw(final GLState pGLState, final Camera pCamera) {
-		this.mTextVertexBufferObject.draw(GLES20.GL_TRIANGLES, this.mVertexCountToDraw);
+		QuadIndexBuffer.getInstance().draw(pGLState, this.mTextVertexBufferObject.getVertexBufferObjectAttributes(), this.mCharactersToDraw);
 	}
 
 	@Override
@@ -4,11 +4,10 @@ import org.andengine.engine.camera.Camera;
 import org.andengine.entity.text.exception.OutOfCharactersException;
 import org.andengine.opengl.font.IFont;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.QuadIndexBuffer;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.util.HorizontalAlign;
 
-import android.opengl.GLES20;
-
 /**
  * (c) 2010 Nicolas Gramlich
  * (c) 2011 Zynga Inc.
@@ -107,7 +106,7 @@ public class TickerText extends Text {
 
 	@Override
 	protected void draw(final GLState pGLState, final Camera pCamera) {
-		this.mTextVertexBufferObject.draw(GLES20.GL_TRIANGLES, this.mCharactersVisible * Text.VERTICES_PER_LETTER);
+		QuadIndexBuffer.getInstance().draw(pGLState, this.mTextVertexBufferObject.getVertexBufferObjectAttributes(), this.mCharactersVisible);
 	}
 
 	@Override
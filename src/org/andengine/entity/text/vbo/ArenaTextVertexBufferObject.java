@@ -0,0 +1,77 @@
+package org.andengine.entity.text.vbo;
+
+import org.andengine.entity.text.Text;
+import org.andengine.opengl.shader.ShaderProgram;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.ArenaVertexBufferObject;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.QuadIndexBuffer;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+/**
+ * Opt in by passing an instance to the constructor of the entity, so it shares a {@link org.andengine.opengl.vbo.VertexBufferObjectArena} with all other entities of its kind.
+ * As {@link Text} draws indexed through the {@link QuadIndexBuffer}, the vertex attributes are pointed at the vertices of this {@link ArenaTextVertexBufferObject} when it is bound.
+ *
+ * @author agent <agent@local>
+ * @since 07:35:46 - 19.10.2026
+ */
+public class ArenaTextVertexBufferObject extends ArenaVertexBufferObject implements ITextVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pCapacity must not exceed {@link QuadIndexBuffer#QUADS_MAXIMUM} letters, as the {@link QuadIndexBuffer} would otherwise move the vertex attributes back to the start of the shared hardware buffer.
+	 */
+	public ArenaTextVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+
+		if(pCapacity > QuadIndexBuffer.QUADS_MAXIMUM * Text.LETTER_SIZE) {
+			throw new IllegalArgumentException("pCapacity must not exceed: '" + (QuadIndexBuffer.QUADS_MAXIMUM * Text.LETTER_SIZE) + "'.");
+		}
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void bind(final GLState pGLState, final ShaderProgram pShaderProgram) {
+		super.bind(pGLState, pShaderProgram);
+
+		this.mArena.glVertexAttribPointers(this.mAllocation);
+	}
+
+	@Override
+	public void onUpdateColor(final Text pText) {
+		HighPerformanceTextVertexBufferObject.updateColor(this.mBufferData, pText);
+
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateVertices(final Text pText) {
+		HighPerformanceTextVertexBufferObject.updateVertices(this.mBufferData, pText, this);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -0,0 +1,152 @@
+package org.andengine.entity.text.vbo;
+
+import java.util.ArrayList;
+
+import org.andengine.entity.text.Text;
+import org.andengine.opengl.font.IFont;
+import org.andengine.opengl.font.Letter;
+import org.andengine.opengl.vbo.CompactVertexBufferObject;
+import org.andengine.opengl.vbo.DrawType;
+import org.andengine.opengl.vbo.VertexBufferObjectManager;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.util.adt.list.IFloatList;
+
+/**
+ * Uses 12 instead of 20 bytes per vertex, see {@link CompactVertexBufferObject}.
+ * The capacity needs to be based on {@link Text#COMPACT_LETTER_SIZE}, and {@link Text#VERTEXBUFFEROBJECTATTRIBUTES_COMPACT} or {@link Text#VERTEXBUFFEROBJECTATTRIBUTES_COMPACT_HALF_FLOAT} need to be used.
+ * As glyph positions usually have fractions, {@link Text#VERTEXBUFFEROBJECTATTRIBUTES_COMPACT} is best suited for pixel-aligned bitmap fonts.
+ *
+ * @author agent <agent@local>
+ * @since 06:21:27 - 19.10.2026
+ */
+public class CompactTextVertexBufferObject extends CompactVertexBufferObject implements ITextVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public CompactTextVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdateColor(final Text pText) {
+		final float packedColor = pText.getColor().getABGRPackedFloat();
+
+		final int vertexCount = pText.getCharactersMaximum() * Text.VERTICES_PER_LETTER;
+		for(int i = 0; i < vertexCount; i++) {
+			this.putColor(i, packedColor);
+		}
+
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateVertices(final Text pText) {
+		// TODO Optimize with field access?
+		final IFont font = pText.getFont();
+		final ArrayList<CharSequence> lines = pText.getLines();
+		final float lineHeight = font.getLineHeight();
+		final IFloatList lineWidths = pText.getLineWidths();
+
+		final float lineAlignmentWidth = pText.getLineAlignmentWidth();
+
+		int charactersToDraw = 0;
+		int vertexIndex = 0;
+		/* The first letter of the current run of changed letters, or -1. */
+		int dirtyCharacterStart = -1;
+
+		final int lineCount = lines.size();
+		for (int row = 0; row < lineCount; row++) {
+			final CharSequence line = lines.get(row);
+
+			float xBase;
+			switch(pText.getHorizontalAlign()) {
+				case RIGHT:
+					xBase = lineAlignmentWidth - lineWidths.get(row);
+					break;
+				case CENTER:
+					xBase = (lineAlignmentWidth - lineWidths.get(row)) * 0.5f;
+					break;
+				case LEFT:
+				default:
+					xBase = 0;
+			}
+
+			final float yBase = row * (lineHeight + pText.getLeading());
+
+			final int lineLength = line.length();
+			Letter previousLetter = null;
+			for(int i = 0; i < lineLength; i++) {
+				final Letter letter = font.getLetter(line.charAt(i));
+				if(previousLetter != null) {
+					xBase += previousLetter.getKerning(letter.mCharacter);
+				}
+
+				if(!letter.isWhitespace()) {
+					final float x = xBase + letter.mOffsetX;
+					final float y = yBase + letter.mOffsetY;
+
+					final float y2 = y + letter.mHeight;
+					final float x2 = x + letter.mWidth;
+
+					final float u = letter.mU;
+					final float v = letter.mV;
+					final float u2 = letter.mU2;
+					final float v2 = letter.mV2;
+
+					/* Not short-circuited, as every vertex needs to be written. */
+					final boolean letterChanged = this.updateVertex(vertexIndex + 0, x, y, u, v)
+							| this.updateVertex(vertexIndex + 1, x, y2, u, v2)
+							| this.updateVertex(vertexIndex + 2, x2, y, u2, v)
+							| this.updateVertex(vertexIndex + 3, x2, y2, u2, v2);
+
+					if(letterChanged) {
+						if(dirtyCharacterStart == -1) {
+							dirtyCharacterStart = charactersToDraw;
+						}
+					} else if(dirtyCharacterStart != -1) {
+						this.setDirtyOnHardware(dirtyCharacterStart * Text.COMPACT_LETTER_SIZE, (charactersToDraw - dirtyCharacterStart) * Text.COMPACT_LETTER_SIZE);
+						dirtyCharacterStart = -1;
+					}
+
+					vertexIndex += Text.VERTICES_PER_LETTER;
+					charactersToDraw++;
+				}
+
+				xBase += letter.mAdvance;
+
+				previousLetter = letter;
+			}
+		}
+		pText.setCharactersToDraw(charactersToDraw);
+
+		/* Only the letters that changed need to be updated on the hardware. */
+		if(dirtyCharacterStart != -1) {
+			this.setDirtyOnHardware(dirtyCharacterStart * Text.COMPACT_LETTER_SIZE, (charactersToDraw - dirtyCharacterStart) * Text.COMPACT_LETTER_SIZE);
+		}
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
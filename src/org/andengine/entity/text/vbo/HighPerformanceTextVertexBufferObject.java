@@ -7,6 +7,7 @@ import org.andengine.opengl.font.IFont;
 import org.andengine.opengl.font.Letter;
 import org.andengine.opengl.vbo.DrawType;
 import org.andengine.opengl.vbo.HighPerformanceVertexBufferObject;
+import org.andengine.opengl.vbo.IVertexBufferObject;
 import org.andengine.opengl.vbo.VertexBufferObjectManager;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
 import org.andengine.util.adt.list.IFloatList;
@@ -44,30 +45,43 @@ public class HighPerformanceTextVertexBufferObject extends HighPerformanceVertex
 
 	@Override
 	public void onUpdateColor(final Text pText) {
-		final float[] bufferData = this.mBufferData;
+		HighPerformanceTextVertexBufferObject.updateColor(this.mBufferData, pText);
 
+		this.setDirtyOnHardware();
+	}
+
+	@Override
+	public void onUpdateVertices(final Text pText) {
+		HighPerformanceTextVertexBufferObject.updateVertices(this.mBufferData, pText, this);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Also used by {@link ArenaTextVertexBufferObject}, which keeps its buffer data in a <code>float[]</code> as well.
+	 */
+	static void updateColor(final float[] pBufferData, final Text pText) {
 		final float packedColor = pText.getColor().getABGRPackedFloat();
 
 		int bufferDataOffset = 0;
 		final int charactersMaximum = pText.getCharactersMaximum();
 		for(int i = 0; i < charactersMaximum; i++) {
-			bufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
-			bufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
-			bufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
-			bufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
-			bufferData[bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
-			bufferData[bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
+			pBufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
+			pBufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
+			pBufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
+			pBufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.COLOR_INDEX] = packedColor;
 
 			bufferDataOffset += Text.LETTER_SIZE;
 		}
 
-		this.setDirtyOnHardware();
 	}
 
-	@Override
-	public void onUpdateVertices(final Text pText) {
-		final float[] bufferData = this.mBufferData;
-
+	/**
+	 * @param pVertexBufferObject the changed letters are marked dirty on.
+	 */
+	static void updateVertices(final float[] pBufferData, final Text pText, final IVertexBufferObject pVertexBufferObject) {
 		// TODO Optimize with field access?
 		final IFont font = pText.getFont();
 		final ArrayList<CharSequence> lines = pText.getLines();
@@ -78,6 +92,8 @@ public class HighPerformanceTextVertexBufferObject extends HighPerformanceVertex
 
 		int charactersToDraw = 0;
 		int bufferDataOffset = 0;
+		/* The first letter of the current run of changed letters, or -1. */
+		int dirtyCharacterStart = -1;
 
 		final int lineCount = lines.size();
 		for (int row = 0; row < lineCount; row++) {
@@ -118,35 +134,36 @@ public class HighPerformanceTextVertexBufferObject extends HighPerformanceVertex
 					final float u2 = letter.mU2;
 					final float v2 = letter.mV2;
 
-					bufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x;
-					bufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y;
-					bufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u;
-					bufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v;
-
-					bufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x;
-					bufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y2;
-					bufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u;
-					bufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v2;
-
-					bufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x2;
-					bufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y2;
-					bufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u2;
-					bufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v2;
-
-					bufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x2;
-					bufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y2;
-					bufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u2;
-					bufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v2;
-
-					bufferData[bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x2;
-					bufferData[bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y;
-					bufferData[bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u2;
-					bufferData[bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v;
-
-					bufferData[bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x;
-					bufferData[bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y;
-					bufferData[bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u;
-					bufferData[bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v;
+					final boolean letterChanged = HighPerformanceTextVertexBufferObject.isLetterChanged(pBufferData, bufferDataOffset, x, y, u, v, x2, y2, u2, v2);
+
+					if(letterChanged) {
+						pBufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x;
+						pBufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y;
+						pBufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u;
+						pBufferData[bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v;
+
+						pBufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x;
+						pBufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y2;
+						pBufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u;
+						pBufferData[bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v2;
+
+						pBufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x2;
+						pBufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y;
+						pBufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u2;
+						pBufferData[bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v;
+
+						pBufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] = x2;
+						pBufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] = y2;
+						pBufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] = u2;
+						pBufferData[bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] = v2;
+
+						if(dirtyCharacterStart == -1) {
+							dirtyCharacterStart = charactersToDraw;
+						}
+					} else if(dirtyCharacterStart != -1) {
+						pVertexBufferObject.setDirtyOnHardware(dirtyCharacterStart * Text.LETTER_SIZE, (charactersToDraw - dirtyCharacterStart) * Text.LETTER_SIZE);
+						dirtyCharacterStart = -1;
+					}
 
 					bufferDataOffset += Text.LETTER_SIZE;
 					charactersToDraw++;
@@ -159,12 +176,19 @@ public class HighPerformanceTextVertexBufferObject extends HighPerformanceVertex
 		}
 		pText.setCharactersToDraw(charactersToDraw);
 
-		this.setDirtyOnHardware();
+		/* Only the letters that changed need to be updated on the hardware. */
+		if(dirtyCharacterStart != -1) {
+			pVertexBufferObject.setDirtyOnHardware(dirtyCharacterStart * Text.LETTER_SIZE, (charactersToDraw - dirtyCharacterStart) * Text.LETTER_SIZE);
+		}
 	}
 
-	// ===========================================================
-	// Methods
-	// ===========================================================
+	/**
+	 * @return whether the letter at <code>pBufferDataOffset</code> differs from the given one. The first and the last vertex hold all values of a letter.
+	 */
+	private static boolean isLetterChanged(final float[] pBufferData, final int pBufferDataOffset, final float pX, final float pY, final float pU, final float pV, final float pX2, final float pY2, final float pU2, final float pV2) {
+		return (pBufferData[pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] != pX) || (pBufferData[pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] != pY) || (pBufferData[pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] != pU) || (pBufferData[pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] != pV)
+				|| (pBufferData[pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X] != pX2) || (pBufferData[pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y] != pY2) || (pBufferData[pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U] != pU2) || (pBufferData[pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V] != pV2);
+	}
 
 	// ===========================================================
 	// Inner and Anonymous Classes
@@ -56,8 +56,6 @@ public class LowMemoryTextVertexBufferObject extends LowMemoryVertexBufferObject
 			bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.COLOR_INDEX, packedColor);
 			bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.COLOR_INDEX, packedColor);
 			bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.COLOR_INDEX, packedColor);
-			bufferData.put(bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.COLOR_INDEX, packedColor);
-			bufferData.put(bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.COLOR_INDEX, packedColor);
 
 			bufferDataOffset += Text.LETTER_SIZE;
 		}
@@ -79,6 +77,8 @@ public class LowMemoryTextVertexBufferObject extends LowMemoryVertexBufferObject
 
 		int charactersToDraw = 0;
 		int bufferDataOffset = 0;
+		/* The first letter of the current run of changed letters, or -1. */
+		int dirtyCharacterStart = -1;
 
 		final int lineCount = lines.size();
 		for (int i = 0; i < lineCount; i++) {
@@ -120,35 +120,36 @@ public class LowMemoryTextVertexBufferObject extends LowMemoryVertexBufferObject
 					final float u2 = letter.mU2;
 					final float v2 = letter.mV2;
 
-					bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x);
-					bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y);
-					bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u);
-					bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v);
-
-					bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x);
-					bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y2);
-					bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u);
-					bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v2);
-
-					bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x2);
-					bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y2);
-					bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u2);
-					bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v2);
-
-					bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x2);
-					bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y2);
-					bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u2);
-					bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v2);
-
-					bufferData.put(bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x2);
-					bufferData.put(bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y);
-					bufferData.put(bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u2);
-					bufferData.put(bufferDataOffset + 4 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v);
-
-					bufferData.put(bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x);
-					bufferData.put(bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y);
-					bufferData.put(bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u);
-					bufferData.put(bufferDataOffset + 5 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v);
+					final boolean letterChanged = LowMemoryTextVertexBufferObject.isLetterChanged(bufferData, bufferDataOffset, x, y, u, v, x2, y2, u2, v2);
+
+					if(letterChanged) {
+						bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x);
+						bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y);
+						bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u);
+						bufferData.put(bufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v);
+
+						bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x);
+						bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y2);
+						bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u);
+						bufferData.put(bufferDataOffset + 1 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v2);
+
+						bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x2);
+						bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y);
+						bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u2);
+						bufferData.put(bufferDataOffset + 2 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v);
+
+						bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X, x2);
+						bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y, y2);
+						bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U, u2);
+						bufferData.put(bufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V, v2);
+
+						if(dirtyCharacterStart == -1) {
+							dirtyCharacterStart = charactersToDraw;
+						}
+					} else if(dirtyCharacterStart != -1) {
+						this.setDirtyOnHardware(dirtyCharacterStart * Text.LETTER_SIZE, (charactersToDraw - dirtyCharacterStart) * Text.LETTER_SIZE);
+						dirtyCharacterStart = -1;
+					}
 
 					bufferDataOffset += Text.LETTER_SIZE;
 					charactersToDraw++;
@@ -161,13 +162,24 @@ public class LowMemoryTextVertexBufferObject extends LowMemoryVertexBufferObject
 		}
 		pText.setCharactersToDraw(charactersToDraw);
 
-		this.setDirtyOnHardware();
+		/* Only the letters that changed need to be updated on the hardware. */
+		if(dirtyCharacterStart != -1) {
+			this.setDirtyOnHardware(dirtyCharacterStart * Text.LETTER_SIZE, (charactersToDraw - dirtyCharacterStart) * Text.LETTER_SIZE);
+		}
 	}
 
 	// ===========================================================
 	// Methods
 	// ===========================================================
 
+	/**
+	 * @return whether the letter at <code>pBufferDataOffset</code> differs from the given one. The first and the last vertex hold all values of a letter.
+	 */
+	private static boolean isLetterChanged(final FloatBuffer pBufferData, final int pBufferDataOffset, final float pX, final float pY, final float pU, final float pV, final float pX2, final float pY2, final float pU2, final float pV2) {
+		return (pBufferData.get(pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X) != pX) || (pBufferData.get(pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y) != pY) || (pBufferData.get(pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U) != pU) || (pBufferData.get(pBufferDataOffset + 0 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V) != pV)
+				|| (pBufferData.get(pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_X) != pX2) || (pBufferData.get(pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.VERTEX_INDEX_Y) != pY2) || (pBufferData.get(pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_U) != pU2) || (pBufferData.get(pBufferDataOffset + 3 * Text.VERTEX_SIZE + Text.TEXTURECOORDINATES_INDEX_V) != pV2);
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
@@ -5,6 +5,7 @@ import java.nio.IntBuffer;
 import org.andengine.engine.camera.Camera;
 import org.andengine.entity.Entity;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.util.GLState.DrawPass;
 
 import android.graphics.Bitmap;
 import android.graphics.Bitmap.Config;
@@ -48,7 +49,8 @@ public class ScreenGrabber extends Entity {
 
 	@Override
 	protected void onManagedDraw(final GLState pGLState, final Camera pCamera) {
-		if(this.mScreenGrabPending) {
+		/* During a depth sorted DrawPass.OPAQUE, the transparent shapes are still missing. */
+		if(this.mScreenGrabPending && (pGLState.getDrawPass() != DrawPass.OPAQUE)) {
 			try {
 				final Bitmap screenGrab = ScreenGrabber.grab(this.mGrabX, this.mGrabY, this.mGrabWidth, this.mGrabHeight);
 
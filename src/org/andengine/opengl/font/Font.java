@@ -72,6 +72,8 @@ public class Font implements IFont {
 	public Font(final FontManager pFontManager, final ITexture pTexture, final Typeface pTypeface, final float pSize, final boolean pAntiAlias, final int pColorARGBPackedInt) {
 		this.mFontManager = pFontManager;
 		this.mTexture = pTexture;
+		/* The Letters are drawn into the Texture at runtime, so it can't be reloaded. */
+		this.mTexture.setEvictable(false);
 		this.mTextureWidth = pTexture.getWidth();
 		this.mTextureHeight = pTexture.getHeight();
 
@@ -273,6 +275,7 @@ public class Font implements IFont {
 
 						if(preMultipyAlpha) {
 							GLUtils.texSubImage2D(GLES20.GL_TEXTURE_2D, 0, letter.mTextureX, letter.mTextureY, bitmap);
+							GLState.recordTextureUpload(bitmap.getWidth(), bitmap.getHeight(), pixelFormat);
 						} else {
 							pGLState.glTexSubImage2D(GLES20.GL_TEXTURE_2D, 0, letter.mTextureX, letter.mTextureY, bitmap, pixelFormat);
 						}
@@ -286,8 +289,6 @@ public class Font implements IFont {
 					}
 				}
 				lettersPendingToBeDrawnToTexture.clear();
-
-				System.gc();
 			}
 		}
 	}
@@ -0,0 +1,89 @@
+package org.andengine.opengl.shader;
+
+import org.andengine.opengl.shader.constants.ShaderProgramConstants;
+
+import android.opengl.GLES20;
+
+/**
+ * An attribute of a {@link ShaderProgram}, whose location is resolved once every time the {@link ShaderProgram} is linked (i.e. also after the GL context was lost),
+ * so using it doesn't require a lookup by name.
+ *
+ * Obtain instances through {@link ShaderProgram#getAttributeHandle(String)} or {@link ShaderProgram#getAttributeHandleOptional(String)}.
+ *
+ * @author agent <agent@local>
+ * @since 06:07:33 - 19.10.2026
+ */
+public class AttributeHandle {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final String mName;
+	private final boolean mOptional;
+
+	private int mLocation = ShaderProgramConstants.LOCATION_INVALID;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/* package */ AttributeHandle(final String pName, final boolean pOptional) {
+		this.mName = pName;
+		this.mOptional = pOptional;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public String getName() {
+		return this.mName;
+	}
+
+	public boolean isOptional() {
+		return this.mOptional;
+	}
+
+	public int getLocation() {
+		return this.mLocation;
+	}
+
+	/* package */ void setLocation(final int pLocation) {
+		this.mLocation = pLocation;
+	}
+
+	/**
+	 * @return <code>false</code> if the {@link ShaderProgram} wasn't linked yet, or if this optional attribute doesn't exist in the {@link ShaderProgram}.
+	 */
+	public boolean isValid() {
+		return this.mLocation != ShaderProgramConstants.LOCATION_INVALID;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public void enable() {
+		if(this.isValid()) {
+			GLES20.glEnableVertexAttribArray(this.mLocation);
+		}
+	}
+
+	public void disable() {
+		if(this.isValid()) {
+			GLES20.glDisableVertexAttribArray(this.mLocation);
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -82,7 +82,7 @@ public class PositionColorShaderProgram extends ShaderProgram {
 
 		super.bind(pGLState, pVertexBufferObjectAttributes);
 
-		GLES20.glUniformMatrix4fv(PositionColorShaderProgram.sUniformModelViewPositionMatrixLocation, 1, false, pGLState.getModelViewProjectionGLMatrix(), 0);
+		this.setModelViewProjectionGLMatrixUniform(pGLState, PositionColorShaderProgram.sUniformModelViewPositionMatrixLocation);
 	}
 
 	@Override
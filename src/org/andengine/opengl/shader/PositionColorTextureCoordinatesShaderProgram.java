@@ -88,7 +88,13 @@ public class PositionColorTextureCoordinatesShaderProgram extends ShaderProgram
 	public void bind(final GLState pGLState, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
 		super.bind(pGLState, pVertexBufferObjectAttributes);
 
-		GLES20.glUniformMatrix4fv(PositionColorTextureCoordinatesShaderProgram.sUniformModelViewPositionMatrixLocation, 1, false, pGLState.getModelViewProjectionGLMatrix(), 0);
+		this.setModelViewProjectionGLMatrixUniform(pGLState, PositionColorTextureCoordinatesShaderProgram.sUniformModelViewPositionMatrixLocation);
+	}
+
+	@Override
+	protected void onInitializeUniforms(final GLState pGLState) {
+		super.onInitializeUniforms(pGLState);
+
 		GLES20.glUniform1i(PositionColorTextureCoordinatesShaderProgram.sUniformTexture0Location, 0);
 	}
 
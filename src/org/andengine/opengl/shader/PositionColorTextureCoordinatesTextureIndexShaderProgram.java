@@ -0,0 +1,170 @@
+package org.andengine.opengl.shader;
+
+import org.andengine.opengl.shader.constants.ShaderProgramConstants;
+import org.andengine.opengl.shader.exception.ShaderProgramLinkException;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+
+import android.opengl.GLES20;
+
+/**
+ * Like the {@link PositionColorTextureCoordinatesShaderProgram}, but samples from one of up to {@link PositionColorTextureCoordinatesTextureIndexShaderProgram#TEXTURE_UNITS_MAXIMUM} textures,
+ * selected per vertex by the {@link ShaderProgramConstants#ATTRIBUTE_TEXTUREINDEX} attribute. The texture with index <code>n</code> needs to be bound to <code>GL_TEXTURE0 + n</code>.
+ *
+ * As GLSL ES 1.0 doesn't allow indexing a sampler array with a non-constant expression, the texture is selected with a chain of comparisons.
+ *
+ * @author agent <agent@local>
+ * @since 06:24:36 - 19.10.2026
+ */
+public class PositionColorTextureCoordinatesTextureIndexShaderProgram extends ShaderProgram {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	/** The minimum of <code>GL_MAX_TEXTURE_IMAGE_UNITS</code> guaranteed by OpenGL ES 2.0. */
+	public static final int TEXTURE_UNITS_MAXIMUM = 8;
+
+	private static final String[] UNIFORM_TEXTURES = new String[] {
+		ShaderProgramConstants.UNIFORM_TEXTURE_0,
+		ShaderProgramConstants.UNIFORM_TEXTURE_1,
+		ShaderProgramConstants.UNIFORM_TEXTURE_2,
+		ShaderProgramConstants.UNIFORM_TEXTURE_3,
+		ShaderProgramConstants.UNIFORM_TEXTURE_4,
+		ShaderProgramConstants.UNIFORM_TEXTURE_5,
+		ShaderProgramConstants.UNIFORM_TEXTURE_6,
+		ShaderProgramConstants.UNIFORM_TEXTURE_7
+	};
+
+	private static PositionColorTextureCoordinatesTextureIndexShaderProgram INSTANCE;
+
+	public static final String VERTEXSHADER =
+			"uniform mat4 " + ShaderProgramConstants.UNIFORM_MODELVIEWPROJECTIONMATRIX + ";\n" +
+			"attribute vec4 " + ShaderProgramConstants.ATTRIBUTE_POSITION + ";\n" +
+			"attribute vec4 " + ShaderProgramConstants.ATTRIBUTE_COLOR + ";\n" +
+			"attribute vec2 " + ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES + ";\n" +
+			"attribute float " + ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX + ";\n" +
+			"varying vec4 " + ShaderProgramConstants.VARYING_COLOR + ";\n" +
+			"varying vec2 " + ShaderProgramConstants.VARYING_TEXTURECOORDINATES + ";\n" +
+			"varying float " + ShaderProgramConstants.VARYING_TEXTUREINDEX + ";\n" +
+			"void main() {\n" +
+			"	" + ShaderProgramConstants.VARYING_COLOR + " = " + ShaderProgramConstants.ATTRIBUTE_COLOR + ";\n" +
+			"	" + ShaderProgramConstants.VARYING_TEXTURECOORDINATES + " = " + ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES + ";\n" +
+			"	" + ShaderProgramConstants.VARYING_TEXTUREINDEX + " = " + ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX + ";\n" +
+			"	gl_Position = " + ShaderProgramConstants.UNIFORM_MODELVIEWPROJECTIONMATRIX + " * " + ShaderProgramConstants.ATTRIBUTE_POSITION + ";\n" +
+			"}";
+
+	public static final String FRAGMENTSHADER = PositionColorTextureCoordinatesTextureIndexShaderProgram.buildFragmentShader();
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	public static int sUniformModelViewPositionMatrixLocation = ShaderProgramConstants.LOCATION_INVALID;
+	public static final int[] sUniformTextureLocations = new int[PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM];
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	private PositionColorTextureCoordinatesTextureIndexShaderProgram() {
+		super(PositionColorTextureCoordinatesTextureIndexShaderProgram.VERTEXSHADER, PositionColorTextureCoordinatesTextureIndexShaderProgram.FRAGMENTSHADER);
+	}
+
+	public static PositionColorTextureCoordinatesTextureIndexShaderProgram getInstance() {
+		if(PositionColorTextureCoordinatesTextureIndexShaderProgram.INSTANCE == null) {
+			PositionColorTextureCoordinatesTextureIndexShaderProgram.INSTANCE = new PositionColorTextureCoordinatesTextureIndexShaderProgram();
+		}
+		return PositionColorTextureCoordinatesTextureIndexShaderProgram.INSTANCE;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	protected void link(final GLState pGLState) throws ShaderProgramLinkException {
+		GLES20.glBindAttribLocation(this.mProgramID, ShaderProgramConstants.ATTRIBUTE_POSITION_LOCATION, ShaderProgramConstants.ATTRIBUTE_POSITION);
+		GLES20.glBindAttribLocation(this.mProgramID, ShaderProgramConstants.ATTRIBUTE_COLOR_LOCATION, ShaderProgramConstants.ATTRIBUTE_COLOR);
+		GLES20.glBindAttribLocation(this.mProgramID, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES);
+		GLES20.glBindAttribLocation(this.mProgramID, ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX);
+
+		super.link(pGLState);
+
+		PositionColorTextureCoordinatesTextureIndexShaderProgram.sUniformModelViewPositionMatrixLocation = this.getUniformLocation(ShaderProgramConstants.UNIFORM_MODELVIEWPROJECTIONMATRIX);
+		for(int i = 0; i < PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM; i++) {
+			PositionColorTextureCoordinatesTextureIndexShaderProgram.sUniformTextureLocations[i] = this.getUniformLocation(PositionColorTextureCoordinatesTextureIndexShaderProgram.UNIFORM_TEXTURES[i]);
+		}
+	}
+
+	@Override
+	public void bind(final GLState pGLState, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		GLES20.glEnableVertexAttribArray(ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX_LOCATION);
+
+		super.bind(pGLState, pVertexBufferObjectAttributes);
+
+		this.setModelViewProjectionGLMatrixUniform(pGLState, PositionColorTextureCoordinatesTextureIndexShaderProgram.sUniformModelViewPositionMatrixLocation);
+	}
+
+	@Override
+	protected void onInitializeUniforms(final GLState pGLState) {
+		super.onInitializeUniforms(pGLState);
+
+		for(int i = 0; i < PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM; i++) {
+			GLES20.glUniform1i(PositionColorTextureCoordinatesTextureIndexShaderProgram.sUniformTextureLocations[i], i);
+		}
+	}
+
+	@Override
+	public void unbind(final GLState pGLState) {
+		GLES20.glDisableVertexAttribArray(ShaderProgramConstants.ATTRIBUTE_TEXTUREINDEX_LOCATION);
+
+		super.unbind(pGLState);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	private static String buildFragmentShader() {
+		final StringBuilder fragmentShader = new StringBuilder();
+
+		fragmentShader.append("precision lowp float;\n");
+		for(int i = 0; i < PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM; i++) {
+			fragmentShader.append("uniform sampler2D ").append(PositionColorTextureCoordinatesTextureIndexShaderProgram.UNIFORM_TEXTURES[i]).append(";\n");
+		}
+		fragmentShader.append("varying lowp vec4 ").append(ShaderProgramConstants.VARYING_COLOR).append(";\n");
+		fragmentShader.append("varying mediump vec2 ").append(ShaderProgramConstants.VARYING_TEXTURECOORDINATES).append(";\n");
+		fragmentShader.append("varying mediump float ").append(ShaderProgramConstants.VARYING_TEXTUREINDEX).append(";\n");
+		fragmentShader.append("void main() {\n");
+		fragmentShader.append("	lowp vec4 textureColor;\n");
+		final int last = PositionColorTextureCoordinatesTextureIndexShaderProgram.TEXTURE_UNITS_MAXIMUM - 1;
+		for(int i = 0; i <= last; i++) {
+			if(i == 0) {
+				fragmentShader.append("	if(");
+			} else if(i < last) {
+				fragmentShader.append(" else if(");
+			} else {
+				fragmentShader.append(" else {\n");
+			}
+			if(i < last) {
+				/* Compare against the middle between two indices, as the interpolated index is not necessarily exact. */
+				fragmentShader.append(ShaderProgramConstants.VARYING_TEXTUREINDEX).append(" < ").append(i).append(".5) {\n");
+			}
+			fragmentShader.append("		textureColor = texture2D(").append(PositionColorTextureCoordinatesTextureIndexShaderProgram.UNIFORM_TEXTURES[i]).append(", ").append(ShaderProgramConstants.VARYING_TEXTURECOORDINATES).append(");\n");
+			fragmentShader.append("	}");
+		}
+		fragmentShader.append("\n");
+		fragmentShader.append("	gl_FragColor = ").append(ShaderProgramConstants.VARYING_COLOR).append(" * textureColor;\n");
+		fragmentShader.append("}");
+
+		return fragmentShader.toString();
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -93,7 +93,13 @@ public class PositionTextureCoordinatesPositionInterpolationTextureSelectShaderP
 
 		super.bind(pGLState, pVertexBufferObjectAttributes);
 
-		GLES20.glUniformMatrix4fv(PositionTextureCoordinatesPositionInterpolationTextureSelectShaderProgram.sUniformModelViewPositionMatrixLocation, 1, false, pGLState.getModelViewProjectionGLMatrix(), 0);
+		this.setModelViewProjectionGLMatrixUniform(pGLState, PositionTextureCoordinatesPositionInterpolationTextureSelectShaderProgram.sUniformModelViewPositionMatrixLocation);
+	}
+
+	@Override
+	protected void onInitializeUniforms(final GLState pGLState) {
+		super.onInitializeUniforms(pGLState);
+
 		GLES20.glUniform1i(PositionTextureCoordinatesPositionInterpolationTextureSelectShaderProgram.sUniformTexture0Location, 0);
 		GLES20.glUniform1i(PositionTextureCoordinatesPositionInterpolationTextureSelectShaderProgram.sUniformTexture1Location, 1);
 	}
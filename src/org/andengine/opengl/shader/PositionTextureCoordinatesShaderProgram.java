@@ -85,7 +85,13 @@ public class PositionTextureCoordinatesShaderProgram extends ShaderProgram {
 
 		super.bind(pGLState, pVertexBufferObjectAttributes);
 
-		GLES20.glUniformMatrix4fv(PositionTextureCoordinatesShaderProgram.sUniformModelViewPositionMatrixLocation, 1, false, pGLState.getModelViewProjectionGLMatrix(), 0);
+		this.setModelViewProjectionGLMatrixUniform(pGLState, PositionTextureCoordinatesShaderProgram.sUniformModelViewPositionMatrixLocation);
+	}
+
+	@Override
+	protected void onInitializeUniforms(final GLState pGLState) {
+		super.onInitializeUniforms(pGLState);
+
 		GLES20.glUniform1i(PositionTextureCoordinatesShaderProgram.sUniformTexture0Location, 0);
 	}
 
@@ -87,7 +87,13 @@ public class PositionTextureCoordinatesTextureSelectShaderProgram extends Shader
 
 		super.bind(pGLState, pVertexBufferObjectAttributes);
 
-		GLES20.glUniformMatrix4fv(PositionTextureCoordinatesTextureSelectShaderProgram.sUniformModelViewPositionMatrixLocation, 1, false, pGLState.getModelViewProjectionGLMatrix(), 0);
+		this.setModelViewProjectionGLMatrixUniform(pGLState, PositionTextureCoordinatesTextureSelectShaderProgram.sUniformModelViewPositionMatrixLocation);
+	}
+
+	@Override
+	protected void onInitializeUniforms(final GLState pGLState) {
+		super.onInitializeUniforms(pGLState);
+
 		GLES20.glUniform1i(PositionTextureCoordinatesTextureSelectShaderProgram.sUniformTexture0Location, 0);
 		GLES20.glUniform1i(PositionTextureCoordinatesTextureSelectShaderProgram.sUniformTexture1Location, 1);
 	}
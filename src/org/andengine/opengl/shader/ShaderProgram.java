@@ -1,5 +1,6 @@
 package org.andengine.opengl.shader;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 
 import org.andengine.opengl.shader.constants.ShaderProgramConstants;
@@ -8,6 +9,7 @@ import org.andengine.opengl.shader.exception.ShaderProgramException;
 import org.andengine.opengl.shader.exception.ShaderProgramLinkException;
 import org.andengine.opengl.shader.source.IShaderSource;
 import org.andengine.opengl.shader.source.StringShaderSource;
+import org.andengine.opengl.util.GLMatrixStack;
 import org.andengine.opengl.util.GLState;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttribute;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
@@ -45,9 +47,19 @@ public class ShaderProgram {
 
 	protected boolean mCompiled;
 
+	/**
+	 * Uniform values are part of the program object, so they survive switching between programs and only need to be
+	 * uploaded again when they change, or after the program was (re-)linked.
+	 */
+	protected boolean mUniformsInitialized;
+	protected int mModelViewProjectionGLMatrixGeneration = GLMatrixStack.GENERATION_INVALID;
+
 	protected final HashMap<String, Integer> mUniformLocations = new HashMap<String, Integer>();
 	protected final HashMap<String, Integer> mAttributeLocations = new HashMap<String, Integer>();
 
+	private final ArrayList<UniformHandle> mUniformHandles = new ArrayList<UniformHandle>();
+	private final ArrayList<AttributeHandle> mAttributeHandles = new ArrayList<AttributeHandle>();
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -109,6 +121,34 @@ public class ShaderProgram {
 		}
 	}
 
+	/**
+	 * @return a {@link UniformHandle} whose location is resolved whenever this {@link ShaderProgram} is linked. Linking fails if the uniform doesn't exist.
+	 */
+	public UniformHandle getUniformHandle(final String pUniformName) {
+		return this.getUniformHandle(pUniformName, false);
+	}
+
+	/**
+	 * @return a {@link UniformHandle} whose location is resolved whenever this {@link ShaderProgram} is linked. Setting values is a no-op if the uniform doesn't exist.
+	 */
+	public UniformHandle getUniformHandleOptional(final String pUniformName) {
+		return this.getUniformHandle(pUniformName, true);
+	}
+
+	/**
+	 * @return an {@link AttributeHandle} whose location is resolved whenever this {@link ShaderProgram} is linked. Linking fails if the attribute doesn't exist.
+	 */
+	public AttributeHandle getAttributeHandle(final String pAttributeName) {
+		return this.getAttributeHandle(pAttributeName, false);
+	}
+
+	/**
+	 * @return an {@link AttributeHandle} whose location is resolved whenever this {@link ShaderProgram} is linked.
+	 */
+	public AttributeHandle getAttributeHandleOptional(final String pAttributeName) {
+		return this.getAttributeHandle(pAttributeName, true);
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -117,15 +157,113 @@ public class ShaderProgram {
 	// Methods
 	// ===========================================================
 
+	private UniformHandle getUniformHandle(final String pUniformName, final boolean pOptional) {
+		final ArrayList<UniformHandle> uniformHandles = this.mUniformHandles;
+		for(int i = uniformHandles.size() - 1; i >= 0; i--) {
+			final UniformHandle uniformHandle = uniformHandles.get(i);
+			if((uniformHandle.isOptional() == pOptional) && uniformHandle.getName().equals(pUniformName)) {
+				return uniformHandle;
+			}
+		}
+
+		final UniformHandle uniformHandle = new UniformHandle(pUniformName, pOptional);
+		if(this.mCompiled) {
+			this.resolveUniformHandle(uniformHandle);
+		}
+		uniformHandles.add(uniformHandle);
+		return uniformHandle;
+	}
+
+	private AttributeHandle getAttributeHandle(final String pAttributeName, final boolean pOptional) {
+		final ArrayList<AttributeHandle> attributeHandles = this.mAttributeHandles;
+		for(int i = attributeHandles.size() - 1; i >= 0; i--) {
+			final AttributeHandle attributeHandle = attributeHandles.get(i);
+			if((attributeHandle.isOptional() == pOptional) && attributeHandle.getName().equals(pAttributeName)) {
+				return attributeHandle;
+			}
+		}
+
+		final AttributeHandle attributeHandle = new AttributeHandle(pAttributeName, pOptional);
+		if(this.mCompiled) {
+			this.resolveAttributeHandle(attributeHandle);
+		}
+		attributeHandles.add(attributeHandle);
+		return attributeHandle;
+	}
+
+	private void invalidateHandles() {
+		final ArrayList<UniformHandle> uniformHandles = this.mUniformHandles;
+		for(int i = uniformHandles.size() - 1; i >= 0; i--) {
+			uniformHandles.get(i).setLocation(ShaderProgramConstants.LOCATION_INVALID);
+		}
+
+		final ArrayList<AttributeHandle> attributeHandles = this.mAttributeHandles;
+		for(int i = attributeHandles.size() - 1; i >= 0; i--) {
+			attributeHandles.get(i).setLocation(ShaderProgramConstants.LOCATION_INVALID);
+		}
+	}
+
+	private void resolveHandles() throws ShaderProgramLinkException {
+		final ArrayList<UniformHandle> uniformHandles = this.mUniformHandles;
+		for(int i = uniformHandles.size() - 1; i >= 0; i--) {
+			this.resolveUniformHandle(uniformHandles.get(i));
+		}
+
+		final ArrayList<AttributeHandle> attributeHandles = this.mAttributeHandles;
+		for(int i = attributeHandles.size() - 1; i >= 0; i--) {
+			this.resolveAttributeHandle(attributeHandles.get(i));
+		}
+	}
+
+	private void resolveUniformHandle(final UniformHandle pUniformHandle) throws ShaderProgramException {
+		final int location = this.getUniformLocationOptional(pUniformHandle.getName());
+		if((location == ShaderProgramConstants.LOCATION_INVALID) && !pUniformHandle.isOptional()) {
+			throw new ShaderProgramLinkException("Unexpected uniform: '" + pUniformHandle.getName() + "'. Existing uniforms: " + this.mUniformLocations.toString());
+		}
+		pUniformHandle.setLocation(location);
+	}
+
+	private void resolveAttributeHandle(final AttributeHandle pAttributeHandle) throws ShaderProgramException {
+		final int location = this.getAttributeLocationOptional(pAttributeHandle.getName());
+		if((location == ShaderProgramConstants.LOCATION_INVALID) && !pAttributeHandle.isOptional()) {
+			throw new ShaderProgramLinkException("Unexpected attribute: '" + pAttributeHandle.getName() + "'. Existing attributes: " + this.mAttributeLocations.toString());
+		}
+		pAttributeHandle.setLocation(location);
+	}
+
 	public void bind(final GLState pGLState, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) throws ShaderProgramException {
 		if(!this.mCompiled) {
 			this.compile(pGLState);
 		}
 		pGLState.useProgram(this.mProgramID);
 
+		if(!this.mUniformsInitialized) {
+			this.onInitializeUniforms(pGLState);
+			this.mUniformsInitialized = true;
+		}
+
 		pVertexBufferObjectAttributes.glVertexAttribPointers();
 	}
 
+	/**
+	 * Called once after the {@link ShaderProgram} was (re-)linked, while it is in use.
+	 * Set uniforms that never change (i.e. texture sampler units) here, instead of on every {@link ShaderProgram#bind(GLState, VertexBufferObjectAttributes)}.
+	 */
+	protected void onInitializeUniforms(final GLState pGLState) {
+
+	}
+
+	/**
+	 * Uploads the ModelViewProjection matrix of the {@link GLState} to the uniform at <code>pLocation</code>, unless this {@link ShaderProgram} already holds that exact matrix.
+	 */
+	protected void setModelViewProjectionGLMatrixUniform(final GLState pGLState, final int pLocation) {
+		final int modelViewProjectionGLMatrixGeneration = pGLState.getModelViewProjectionGLMatrixGeneration();
+		if(modelViewProjectionGLMatrixGeneration != this.mModelViewProjectionGLMatrixGeneration) {
+			GLES20.glUniformMatrix4fv(pLocation, 1, false, pGLState.getModelViewProjectionGLMatrix(), 0);
+			this.mModelViewProjectionGLMatrixGeneration = modelViewProjectionGLMatrixGeneration;
+		}
+	}
+
 	public void unbind(final GLState pGLState) throws ShaderProgramException {
 //		pGLState.useProgram(0); // TODO Does this have an positive/negative impact on performance?
 	}
@@ -135,6 +273,8 @@ public class ShaderProgram {
 			this.mCompiled = false;
 			pGLState.deleteProgram(this.mProgramID);
 			this.mProgramID = -1;
+
+			this.invalidateHandles();
 		}
 	}
 
@@ -169,6 +309,10 @@ public class ShaderProgram {
 
 		this.initAttributeLocations();
 		this.initUniformLocations();
+		this.resolveHandles();
+
+		this.mUniformsInitialized = false;
+		this.mModelViewProjectionGLMatrixGeneration = GLMatrixStack.GENERATION_INVALID;
 
 		this.mCompiled = true;
 	}
@@ -2,7 +2,9 @@ package org.andengine.opengl.shader;
 
 import java.util.ArrayList;
 
+import org.andengine.opengl.util.GLState;
 import org.andengine.util.debug.Debug;
+import org.andengine.util.progress.IProgressListener;
 
 
 /**
@@ -22,6 +24,13 @@ public class ShaderProgramManager {
 
 	private final ArrayList<ShaderProgram> mShaderProgramsManaged = new ArrayList<ShaderProgram>();
 
+	private final ArrayList<ShaderProgram> mShaderProgramsWarmUp = new ArrayList<ShaderProgram>();
+	private final ArrayList<ShaderProgram> mShaderProgramsToBeWarmedUp = new ArrayList<ShaderProgram>();
+	private int mShaderProgramsToBeWarmedUpCount;
+	private int mShaderProgramWarmUpCountPerFrameMaximum = Integer.MAX_VALUE;
+
+	private IProgressListener mWarmUpProgressListener;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -30,6 +39,32 @@ public class ShaderProgramManager {
 	// Getter & Setter
 	// ===========================================================
 
+	public synchronized IProgressListener getWarmUpProgressListener() {
+		return this.mWarmUpProgressListener;
+	}
+
+	/**
+	 * @param pWarmUpProgressListener notified on the GL thread, after each {@link ShaderProgram} that was warmed up.
+	 */
+	public synchronized void setWarmUpProgressListener(final IProgressListener pWarmUpProgressListener) {
+		this.mWarmUpProgressListener = pWarmUpProgressListener;
+	}
+
+	public synchronized int getShaderProgramWarmUpCountPerFrameMaximum() {
+		return this.mShaderProgramWarmUpCountPerFrameMaximum;
+	}
+
+	/**
+	 * @param pShaderProgramWarmUpCountPerFrameMaximum the maximum number of {@link ShaderProgram}s compiled per frame, i.e. to keep a loading screen animating.
+	 */
+	public synchronized void setShaderProgramWarmUpCountPerFrameMaximum(final int pShaderProgramWarmUpCountPerFrameMaximum) {
+		this.mShaderProgramWarmUpCountPerFrameMaximum = pShaderProgramWarmUpCountPerFrameMaximum;
+	}
+
+	public synchronized boolean isWarmUpPending() {
+		return !this.mShaderProgramsToBeWarmedUp.isEmpty();
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -54,6 +89,9 @@ public class ShaderProgramManager {
 		}
 
 		this.mShaderProgramsManaged.clear();
+		this.mShaderProgramsWarmUp.clear();
+		this.mShaderProgramsToBeWarmedUp.clear();
+		this.mShaderProgramsToBeWarmedUpCount = 0;
 	}
 
 	public synchronized void loadShaderProgram(final ShaderProgram pShaderProgram) {
@@ -80,10 +118,83 @@ public class ShaderProgramManager {
 		}
 	}
 
+	/**
+	 * Declares a {@link ShaderProgram} to be compiled and linked ahead of time, on the next frame, instead of lazily when it is first bound.
+	 * Call this during a loading phase, for all {@link ShaderProgram}s the upcoming gameplay will use.
+	 * For {@link ShaderProgram}s built from {@link org.andengine.opengl.shader.source.CriteriaShaderSource}s, this compiles the variant whose criteria are met by the device.
+	 * Declared {@link ShaderProgram}s are also warmed up again right after the GL context was lost.
+	 */
+	public synchronized void warmUpShaderProgram(final ShaderProgram pShaderProgram) {
+		if(pShaderProgram == null) {
+			throw new IllegalArgumentException("pShaderProgram must not be null!");
+		}
+
+		if(!this.mShaderProgramsManaged.contains(pShaderProgram)) {
+			this.mShaderProgramsManaged.add(pShaderProgram);
+		}
+
+		if(!this.mShaderProgramsWarmUp.contains(pShaderProgram)) {
+			this.mShaderProgramsWarmUp.add(pShaderProgram);
+		}
+
+		if(!pShaderProgram.isCompiled()) {
+			this.scheduleWarmUp(pShaderProgram);
+		}
+	}
+
+	public void warmUpShaderPrograms(final ShaderProgram ... pShaderPrograms) {
+		for(int i = 0; i < pShaderPrograms.length; i++) {
+			this.warmUpShaderProgram(pShaderPrograms[i]);
+		}
+	}
+
+	/**
+	 * Called on the GL thread before each frame is drawn.
+	 */
+	public synchronized void updateShaderPrograms(final GLState pGLState) {
+		final ArrayList<ShaderProgram> shaderProgramsToBeWarmedUp = this.mShaderProgramsToBeWarmedUp;
+		if(shaderProgramsToBeWarmedUp.isEmpty()) {
+			return;
+		}
+
+		int warmUpCount = 0;
+		while(!shaderProgramsToBeWarmedUp.isEmpty() && (warmUpCount < this.mShaderProgramWarmUpCountPerFrameMaximum)) {
+			final ShaderProgram shaderProgram = shaderProgramsToBeWarmedUp.remove(0);
+			if(!shaderProgram.isCompiled()) {
+				shaderProgram.compile(pGLState);
+			}
+			warmUpCount++;
+
+			if(this.mWarmUpProgressListener != null) {
+				final int warmedUpCount = this.mShaderProgramsToBeWarmedUpCount - shaderProgramsToBeWarmedUp.size();
+				this.mWarmUpProgressListener.onProgressChanged((IProgressListener.PROGRESS_MAX * warmedUpCount) / this.mShaderProgramsToBeWarmedUpCount);
+			}
+		}
+
+		if(shaderProgramsToBeWarmedUp.isEmpty()) {
+			this.mShaderProgramsToBeWarmedUpCount = 0;
+		}
+	}
+
+	/**
+	 * All {@link ShaderProgram}s that were compiled before the GL context was lost, as well as all declared warm up {@link ShaderProgram}s,
+	 * are compiled again on the next frame, so that they don't get recompiled one by one during gameplay.
+	 */
 	public synchronized void onReload() {
 		final ArrayList<ShaderProgram> managedShaderPrograms = this.mShaderProgramsManaged;
-		for(int i = managedShaderPrograms.size() - 1; i >= 0; i--) {
-			managedShaderPrograms.get(i).setCompiled(false);
+		for(int i = 0; i < managedShaderPrograms.size(); i++) {
+			final ShaderProgram shaderProgram = managedShaderPrograms.get(i);
+			if(shaderProgram.isCompiled() || this.mShaderProgramsWarmUp.contains(shaderProgram)) {
+				this.scheduleWarmUp(shaderProgram);
+			}
+			shaderProgram.setCompiled(false);
+		}
+	}
+
+	private void scheduleWarmUp(final ShaderProgram pShaderProgram) {
+		if(!this.mShaderProgramsToBeWarmedUp.contains(pShaderProgram)) {
+			this.mShaderProgramsToBeWarmedUp.add(pShaderProgram);
+			this.mShaderProgramsToBeWarmedUpCount++;
 		}
 	}
 
@@ -0,0 +1,142 @@
+package org.andengine.opengl.shader;
+
+import org.andengine.opengl.shader.constants.ShaderProgramConstants;
+
+import android.opengl.GLES20;
+
+/**
+ * A uniform of a {@link ShaderProgram}, whose location is resolved once every time the {@link ShaderProgram} is linked (i.e. also after the GL context was lost),
+ * so setting its value doesn't require a lookup by name.
+ * The last value set through one of the <code>set</code> methods is remembered, so setting the same value again doesn't cause another upload.
+ *
+ * Obtain instances through {@link ShaderProgram#getUniformHandle(String)} or {@link ShaderProgram#getUniformHandleOptional(String)}.
+ * All <code>set</code> methods have to be called while the {@link ShaderProgram} is bound.
+ *
+ * @author agent <agent@local>
+ * @since 06:07:33 - 19.10.2026
+ */
+public class UniformHandle {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final String mName;
+	private final boolean mOptional;
+
+	private int mLocation = ShaderProgramConstants.LOCATION_INVALID;
+
+	private boolean mValueValid;
+	private float mX;
+	private float mY;
+	private float mZ;
+	private float mW;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/* package */ UniformHandle(final String pName, final boolean pOptional) {
+		this.mName = pName;
+		this.mOptional = pOptional;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public String getName() {
+		return this.mName;
+	}
+
+	public boolean isOptional() {
+		return this.mOptional;
+	}
+
+	public int getLocation() {
+		return this.mLocation;
+	}
+
+	/**
+	 * @return <code>false</code> if the {@link ShaderProgram} wasn't linked yet, or if this optional uniform doesn't exist in the {@link ShaderProgram}.
+	 */
+	public boolean isValid() {
+		return this.mLocation != ShaderProgramConstants.LOCATION_INVALID;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/* package */ void setLocation(final int pLocation) {
+		this.mLocation = pLocation;
+		this.mValueValid = false;
+	}
+
+	public void set(final float pX) {
+		if(this.isValid() && !(this.mValueValid && (this.mX == pX))) {
+			GLES20.glUniform1f(this.mLocation, pX);
+			this.onValueSet(pX, 0, 0, 0);
+		}
+	}
+
+	public void set(final float pX, final float pY) {
+		if(this.isValid() && !(this.mValueValid && (this.mX == pX) && (this.mY == pY))) {
+			GLES20.glUniform2f(this.mLocation, pX, pY);
+			this.onValueSet(pX, pY, 0, 0);
+		}
+	}
+
+	public void set(final float pX, final float pY, final float pZ) {
+		if(this.isValid() && !(this.mValueValid && (this.mX == pX) && (this.mY == pY) && (this.mZ == pZ))) {
+			GLES20.glUniform3f(this.mLocation, pX, pY, pZ);
+			this.onValueSet(pX, pY, pZ, 0);
+		}
+	}
+
+	public void set(final float pX, final float pY, final float pZ, final float pW) {
+		if(this.isValid() && !(this.mValueValid && (this.mX == pX) && (this.mY == pY) && (this.mZ == pZ) && (this.mW == pW))) {
+			GLES20.glUniform4f(this.mLocation, pX, pY, pZ, pW);
+			this.onValueSet(pX, pY, pZ, pW);
+		}
+	}
+
+	/**
+	 * Matrices are not compared to the previously set matrix, but always uploaded.
+	 */
+	public void set(final float[] pGLMatrix) {
+		if(this.isValid()) {
+			GLES20.glUniformMatrix4fv(this.mLocation, 1, false, pGLMatrix, 0);
+			this.mValueValid = false;
+		}
+	}
+
+	/**
+	 * @param pTexture the index of the Texture to use. Similar to {@link GLES20#GL_TEXTURE0}, {@link GLES20#GL_TEXTURE1}, ... except that it is <b><code>0</code></b> based.
+	 */
+	public void setTexture(final int pTexture) {
+		if(this.isValid() && !(this.mValueValid && (this.mX == pTexture))) {
+			GLES20.glUniform1i(this.mLocation, pTexture);
+			this.onValueSet(pTexture, 0, 0, 0);
+		}
+	}
+
+	private void onValueSet(final float pX, final float pY, final float pZ, final float pW) {
+		this.mX = pX;
+		this.mY = pY;
+		this.mZ = pZ;
+		this.mW = pW;
+		this.mValueValid = true;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
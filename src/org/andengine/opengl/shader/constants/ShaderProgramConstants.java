@@ -27,6 +27,8 @@ public interface ShaderProgramConstants {
 	public static final int ATTRIBUTE_POSITION_1_LOCATION = 5;
 	public static final String ATTRIBUTE_POSITION_2 = "a_position_2";
 	public static final int ATTRIBUTE_POSITION_2_LOCATION = 6;
+	public static final String ATTRIBUTE_TEXTUREINDEX = "a_textureIndex";
+	public static final int ATTRIBUTE_TEXTUREINDEX_LOCATION = 7;
 
 	public static final String UNIFORM_MODELVIEWPROJECTIONMATRIX = "u_modelViewProjectionMatrix";
 	public static final String UNIFORM_MODELVIEWMATRIX = "u_modelViewMatrix";
@@ -52,6 +54,7 @@ public interface ShaderProgramConstants {
 
 	public static final String VARYING_TEXTURECOORDINATES = "v_textureCoordinates";
 	public static final String VARYING_COLOR = "v_color";
+	public static final String VARYING_TEXTUREINDEX = "v_textureIndex";
 
 	// ===========================================================
 	// Methods
@@ -63,6 +63,19 @@ public interface ITexture {
 	public PixelFormat getPixelFormat();
 	public TextureOptions getTextureOptions();
 
+	/**
+	 * @return whether the {@link TextureManager} may unload this {@link ITexture} to stay within its memory budget. See {@link TextureManager#setMemoryBudgetBytes(int)}.
+	 */
+	public boolean isEvictable();
+	/**
+	 * @param pEvictable <code>false</code> for {@link ITexture}s whose content can't be reloaded, i.e. because it is drawn into them at runtime.
+	 */
+	public void setEvictable(final boolean pEvictable);
+	/**
+	 * @return the frame this {@link ITexture} was last bound in (or loaded in, if it wasn't bound since). See {@link TextureManager#getFrame()}.
+	 */
+	public int getLastBindFrame();
+
 	public boolean hasTextureStateListener();
 	public ITextureStateListener getTextureStateListener();
 	public void setTextureStateListener(final ITextureStateListener pTextureStateListener);
@@ -30,6 +30,9 @@ public abstract class Texture implements ITexture {
 	protected int mHardwareTextureID = Texture.HARDWARE_TEXTURE_ID_INVALID;
 	protected boolean mUpdateOnHardwareNeeded = false;
 
+	protected boolean mEvictable = true;
+	protected int mLastBindFrame;
+
 	protected ITextureStateListener mTextureStateListener;
 
 	// ===========================================================
@@ -87,6 +90,21 @@ public abstract class Texture implements ITexture {
 		return this.mTextureOptions;
 	}
 
+	@Override
+	public boolean isEvictable() {
+		return this.mEvictable;
+	}
+
+	@Override
+	public void setEvictable(final boolean pEvictable) {
+		this.mEvictable = pEvictable;
+	}
+
+	@Override
+	public int getLastBindFrame() {
+		return this.mLastBindFrame;
+	}
+
 	@Override
 	public ITextureStateListener getTextureStateListener() {
 		return this.mTextureStateListener;
@@ -139,6 +157,7 @@ public abstract class Texture implements ITexture {
 		this.mTextureOptions.apply();
 
 		this.mUpdateOnHardwareNeeded = false;
+		this.mLastBindFrame = this.mTextureManager.getFrame();
 
 		if(this.mTextureStateListener != null) {
 			this.mTextureStateListener.onLoadedToHardware(this);
@@ -164,11 +183,15 @@ public abstract class Texture implements ITexture {
 
 	@Override
 	public void bind(final GLState pGLState) {
+		this.onBind(pGLState);
+
 		pGLState.bindTexture(this.mHardwareTextureID);
 	}
 
 	@Override
 	public void bind(final GLState pGLState, final int pGLActiveTexture) {
+		this.onBind(pGLState);
+
 		pGLState.activeTexture(pGLActiveTexture);
 		pGLState.bindTexture(this.mHardwareTextureID);
 	}
@@ -177,6 +200,15 @@ public abstract class Texture implements ITexture {
 	// Methods
 	// ===========================================================
 
+	private void onBind(final GLState pGLState) {
+		if(this.mHardwareTextureID == Texture.HARDWARE_TEXTURE_ID_INVALID) {
+			/* Have this Texture reloaded, in case the TextureManager evicted it. */
+			this.mTextureManager.restoreEvictedTexture(this);
+		}
+
+		this.mLastBindFrame = this.mTextureManager.getFrame();
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
@@ -4,15 +4,23 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
+import org.andengine.opengl.texture.atlas.bitmap.BitmapTextureAtlas;
 import org.andengine.opengl.texture.bitmap.BitmapTexture;
 import org.andengine.opengl.texture.bitmap.BitmapTextureFormat;
+import org.andengine.opengl.texture.render.RenderTexturePool;
 import org.andengine.opengl.util.GLState;
+import org.andengine.util.adt.DataConstants;
 import org.andengine.util.adt.io.in.AssetInputStreamOpener;
 import org.andengine.util.adt.io.in.IInputStreamOpener;
 import org.andengine.util.debug.Debug;
+import org.andengine.util.time.TimeConstants;
 
 import android.content.res.AssetManager;
+import android.opengl.GLES20;
 
 /**
  * (c) 2010 Nicolas Gramlich
@@ -26,6 +34,13 @@ public class TextureManager {
 	// Constants
 	// ===========================================================
 
+	public static final int PRIORITY_DEFAULT = 0;
+	public static final int UPLOAD_BUDGET_UNLIMITED = 0;
+	public static final int MEMORY_BUDGET_UNLIMITED = 0;
+
+	/** Evicted {@link ITexture}s that are bound again are loaded ahead of all other pending {@link ITexture}s. */
+	private static final int PRIORITY_RESTORE = Integer.MAX_VALUE;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -34,12 +49,31 @@ public class TextureManager {
 	private final HashMap<String, ITexture> mTexturesMapped = new HashMap<String, ITexture>();
 
 	private final ArrayList<ITexture> mTexturesLoaded = new ArrayList<ITexture>();
+	/** The sum of {@link TextureManager#getTextureByteCount(ITexture)} of {@link TextureManager#mTexturesLoaded}. */
+	private int mTexturesLoadedByteCount;
 
+	/** Sorted by ascending priority, so the next {@link ITexture} to be loaded is the last one. */
 	private final ArrayList<ITexture> mTexturesToBeLoaded = new ArrayList<ITexture>();
+	private final HashMap<ITexture, Integer> mTexturesToBeLoadedPriorities = new HashMap<ITexture, Integer>();
 	private final ArrayList<ITexture> mTexturesToBeUnloaded = new ArrayList<ITexture>();
+	/** Managed, but unloaded to stay within the memory budget. They are queued to be reloaded the next time they are bound. */
+	private final ArrayList<ITexture> mTexturesEvicted = new ArrayList<ITexture>();
 
 	private TextureWarmUpVertexBufferObject mTextureWarmUpVertexBufferObject;
 
+	private final RenderTexturePool mRenderTexturePool = new RenderTexturePool(this, TextureOptions.BILINEAR);
+
+	private ExecutorService mDecodeExecutorService;
+
+	private int mUploadBudgetBytesPerFrame = TextureManager.UPLOAD_BUDGET_UNLIMITED;
+	private long mUploadBudgetNanosecondsPerFrame = TextureManager.UPLOAD_BUDGET_UNLIMITED;
+	/** The uploads of the current frame, counted against the upload budget. */
+	private int mFrameUploadedBytes;
+	private long mFrameUploadStartNanoseconds;
+
+	private int mMemoryBudgetBytes = TextureManager.MEMORY_BUDGET_UNLIMITED;
+	private int mFrame;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -48,6 +82,125 @@ public class TextureManager {
 	// Getter & Setter
 	// ===========================================================
 
+	/**
+	 * @return the {@link RenderTexturePool} shared by all effects of this {@link TextureManager}. It is to be used on the GL thread only.
+	 */
+	public RenderTexturePool getRenderTexturePool() {
+		return this.mRenderTexturePool;
+	}
+
+	/**
+	 * @return the thread pool that decodes the sources of textures in the background, i.e. of a {@link BitmapTextureAtlas} with {@link BitmapTextureAtlas#setAsyncDecoding(boolean)}.
+	 * It is created on first use, with one low priority thread per CPU core.
+	 */
+	public synchronized ExecutorService getDecodeExecutorService() {
+		if(this.mDecodeExecutorService == null) {
+			this.mDecodeExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable pRunnable) {
+					final Thread thread = new Thread(pRunnable, TextureManager.class.getSimpleName());
+					thread.setDaemon(true);
+					thread.setPriority(Thread.MIN_PRIORITY);
+					return thread;
+				}
+			});
+		}
+		return this.mDecodeExecutorService;
+	}
+
+	public synchronized int getUploadBudgetBytesPerFrame() {
+		return this.mUploadBudgetBytesPerFrame;
+	}
+
+	/**
+	 * @param pUploadBudgetBytesPerFrame how many bytes of pending {@link ITexture}s {@link TextureManager#updateTextures(GLState)} loads per frame at most,
+	 * {@link TextureManager#UPLOAD_BUDGET_UNLIMITED} to load all of them at once. At least one {@link ITexture} is loaded per frame, even if it exceeds the budget on its own.
+	 */
+	public synchronized void setUploadBudgetBytesPerFrame(final int pUploadBudgetBytesPerFrame) {
+		this.mUploadBudgetBytesPerFrame = pUploadBudgetBytesPerFrame;
+	}
+
+	public synchronized float getUploadBudgetMillisecondsPerFrame() {
+		return this.mUploadBudgetNanosecondsPerFrame * TimeConstants.MILLISECONDS_PER_NANOSECOND;
+	}
+
+	/**
+	 * @param pUploadBudgetMillisecondsPerFrame how long {@link TextureManager#updateTextures(GLState)} keeps loading pending {@link ITexture}s per frame,
+	 * {@link TextureManager#UPLOAD_BUDGET_UNLIMITED} to load all of them at once. At least one {@link ITexture} is loaded per frame, even if it exceeds the budget on its own.
+	 */
+	public synchronized void setUploadBudgetMillisecondsPerFrame(final float pUploadBudgetMillisecondsPerFrame) {
+		this.mUploadBudgetNanosecondsPerFrame = (long) (pUploadBudgetMillisecondsPerFrame * TimeConstants.NANOSECONDS_PER_MILLISECOND);
+	}
+
+	public synchronized int getMemoryBudgetBytes() {
+		return this.mMemoryBudgetBytes;
+	}
+
+	/**
+	 * @param pMemoryBudgetBytes how many bytes the loaded {@link ITexture}s may take up, {@link TextureManager#MEMORY_BUDGET_UNLIMITED} to never evict any.
+	 * When the budget is exceeded, {@link TextureManager#updateTextures(GLState)} unloads the least recently bound {@link ITexture}s that are {@link ITexture#isEvictable()}
+	 * and weren't bound in the last frame. They are reloaded through {@link TextureManager#restoreEvictedTexture(ITexture)} the next time they are bound.
+	 */
+	public synchronized void setMemoryBudgetBytes(final int pMemoryBudgetBytes) {
+		this.mMemoryBudgetBytes = pMemoryBudgetBytes;
+	}
+
+	/**
+	 * @return the number of the current frame, increased by every call to {@link TextureManager#updateTextures(GLState)}.
+	 */
+	public int getFrame() {
+		return this.mFrame;
+	}
+
+	/**
+	 * @return the bytes the loaded {@link ITexture}s take up. See {@link TextureManager#getTextureByteCount(ITexture)}.
+	 */
+	public synchronized int getTextureMemoryByteCount() {
+		return this.mTexturesLoadedByteCount;
+	}
+
+	public synchronized int getTexturesEvictedCount() {
+		return this.mTexturesEvicted.size();
+	}
+
+	/**
+	 * Lets {@link ITexture}s that upload their contents piece by piece, i.e. a {@link BitmapTextureAtlas} with {@link BitmapTextureAtlas#setAsyncDecoding(boolean)}, share the upload budget of the current frame.
+	 * Must be called from the GL-{@link Thread}, during {@link TextureManager#updateTextures(GLState)}.
+	 *
+	 * @return whether <code>pByteCount</code> more bytes may still be uploaded in the current frame. Always <code>true</code> for the first upload of a frame.
+	 */
+	public synchronized boolean isWithinUploadBudget(final int pByteCount) {
+		if(this.mFrameUploadedBytes == 0) {
+			return true;
+		}
+
+		final int uploadBudgetBytes = this.mUploadBudgetBytesPerFrame;
+		if((uploadBudgetBytes != TextureManager.UPLOAD_BUDGET_UNLIMITED) && (this.mFrameUploadedBytes + pByteCount > uploadBudgetBytes)) {
+			return false;
+		}
+
+		final long uploadBudgetNanoseconds = this.mUploadBudgetNanosecondsPerFrame;
+		if((uploadBudgetNanoseconds != TextureManager.UPLOAD_BUDGET_UNLIMITED) && (System.nanoTime() - this.mFrameUploadStartNanoseconds >= uploadBudgetNanoseconds)) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * @param pByteCount counted against the upload budget of the current frame. See {@link TextureManager#isWithinUploadBudget(int)}.
+	 */
+	public synchronized void onUploaded(final int pByteCount) {
+		this.mFrameUploadedBytes += pByteCount;
+	}
+
+	/**
+	 * @return the number of {@link ITexture}s waiting to be loaded by {@link TextureManager#updateTextures(GLState)}.
+	 */
+	public synchronized int getTexturesToBeLoadedCount() {
+		return this.mTexturesToBeLoaded.size();
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -69,8 +222,12 @@ public class TextureManager {
 		}
 
 		if(!this.mTexturesLoaded.isEmpty()) {
-			this.mTexturesToBeLoaded.addAll(this.mTexturesLoaded); // TODO Check if addAll uses iterator internally!
-			this.mTexturesLoaded.clear();
+			final ArrayList<ITexture> texturesLoaded = this.mTexturesLoaded;
+			for(int i = texturesLoaded.size() - 1; i >= 0; i--) {
+				this.addTextureToBeLoaded(texturesLoaded.get(i), TextureManager.PRIORITY_DEFAULT);
+			}
+			texturesLoaded.clear();
+			this.mTexturesLoadedByteCount = 0;
 		}
 
 		if(!this.mTexturesToBeUnloaded.isEmpty()) {
@@ -79,6 +236,8 @@ public class TextureManager {
 		}
 
 		this.mTextureWarmUpVertexBufferObject.setNotLoadedToHardware();
+
+		this.mRenderTexturePool.onReload();
 	}
 
 	public synchronized void onDestroy() {
@@ -88,12 +247,22 @@ public class TextureManager {
 		}
 
 		this.mTexturesToBeLoaded.clear();
+		this.mTexturesToBeLoadedPriorities.clear();
 		this.mTexturesLoaded.clear();
+		this.mTexturesLoadedByteCount = 0;
+		this.mTexturesEvicted.clear();
 		this.mTexturesManaged.clear();
 		this.mTexturesMapped.clear();
 
 		this.mTextureWarmUpVertexBufferObject.dispose();
 		this.mTextureWarmUpVertexBufferObject = null;
+
+		if(this.mDecodeExecutorService != null) {
+			this.mDecodeExecutorService.shutdownNow();
+			this.mDecodeExecutorService = null;
+		}
+
+		this.mRenderTexturePool.onDestroy();
 	}
 
 	public synchronized boolean hasMappedTexture(final String pID) {
@@ -133,6 +302,15 @@ public class TextureManager {
 	 * @return <code>true</code> when the {@link ITexture} was previously not managed by this {@link TextureManager}, <code>false</code> if it was already managed.
 	 */
 	public synchronized boolean loadTexture(final ITexture pTexture) {
+		return this.loadTexture(pTexture, TextureManager.PRIORITY_DEFAULT);
+	}
+
+	/**
+	 * @param pTexture the {@link ITexture} to be loaded before one of the next frames is drawn (Or prevent it from being unloaded then). When an upload budget is set, the frame depends on the priority and the other pending {@link ITexture}s.
+	 * @param pPriority {@link ITexture}s with a higher priority are loaded first, the ones with the same priority in the order they were requested.
+	 * @return <code>true</code> when the {@link ITexture} was previously not managed by this {@link TextureManager}, <code>false</code> if it was already managed.
+	 */
+	public synchronized boolean loadTexture(final ITexture pTexture, final int pPriority) {
 		if(pTexture == null) {
 			throw new IllegalArgumentException("pTexture must not be null!");
 		}
@@ -143,7 +321,7 @@ public class TextureManager {
 			return false;
 		} else {
 			this.mTexturesManaged.add(pTexture);
-			this.mTexturesToBeLoaded.add(pTexture);
+			this.addTextureToBeLoaded(pTexture, pPriority);
 			return true;
 		}
 	}
@@ -172,7 +350,7 @@ public class TextureManager {
 			return false;
 		} else {
 			this.mTexturesManaged.add(pTexture);
-			this.mTexturesLoaded.add(pTexture);
+			this.addTextureLoaded(pTexture);
 			return true;
 		}
 	}
@@ -191,7 +369,7 @@ public class TextureManager {
 			 * If the Texture is about to be loaded, stop it from being loaded. */
 			if(this.mTexturesLoaded.contains(pTexture)) {
 				this.mTexturesToBeUnloaded.add(pTexture);
-			} else if(this.mTexturesToBeLoaded.remove(pTexture)) {
+			} else if(this.removeTextureToBeLoaded(pTexture) || this.mTexturesEvicted.remove(pTexture)) {
 				this.mTexturesManaged.remove(pTexture);
 			}
 			return true;
@@ -216,8 +394,9 @@ public class TextureManager {
 
 		if(this.mTexturesManaged.contains(pTexture)) {
 			/* Just make sure it doesn't get loaded. */
-			this.mTexturesLoaded.remove(pTexture);
-			this.mTexturesToBeLoaded.remove(pTexture);
+			this.removeTextureLoaded(pTexture);
+			this.removeTextureToBeLoaded(pTexture);
+			this.mTexturesEvicted.remove(pTexture);
 
 			return true;
 		} else {
@@ -225,7 +404,24 @@ public class TextureManager {
 		}
 	}
 
+	/**
+	 * Queues the {@link ITexture} to be reloaded ahead of all other pending {@link ITexture}s, if it was evicted to stay within the memory budget.
+	 * The reload is subject to the upload budget, but as at least one {@link ITexture} is loaded per frame, it happens before the next frame is drawn.
+	 * Until then the {@link ITexture} is drawn without its contents, instead of stalling the frame it is bound in.
+	 *
+	 * @param pTexture
+	 */
+	public synchronized void restoreEvictedTexture(final ITexture pTexture) {
+		if(this.mTexturesEvicted.remove(pTexture)) {
+			this.addTextureToBeLoaded(pTexture, TextureManager.PRIORITY_RESTORE);
+		}
+	}
+
 	public synchronized void updateTextures(final GLState pGLState) {
+		this.mFrame++;
+		this.mFrameUploadedBytes = 0;
+		this.mFrameUploadStartNanoseconds = (this.mUploadBudgetNanosecondsPerFrame == TextureManager.UPLOAD_BUDGET_UNLIMITED) ? 0 : System.nanoTime();
+
 		final HashSet<ITexture> texturesManaged = this.mTexturesManaged;
 		final ArrayList<ITexture> texturesLoaded = this.mTexturesLoaded;
 		final ArrayList<ITexture> texturesToBeLoaded = this.mTexturesToBeLoaded;
@@ -243,13 +439,20 @@ public class TextureManager {
 			}
 		}
 
-		/* Then load pending Textures. */
-		final int texturesToBeLoadedCount = texturesToBeLoaded.size();
+		/* Then load pending Textures, by priority and within the upload budget. */
+		if(!texturesToBeLoaded.isEmpty()) {
+			for(int i = texturesToBeLoaded.size() - 1; i >= 0; i--) {
+				final ITexture textureToBeLoaded = texturesToBeLoaded.get(i);
+				final boolean loadToHardware = !textureToBeLoaded.isLoadedToHardware();
 
-		if(texturesToBeLoadedCount > 0) {
-			for(int i = texturesToBeLoadedCount - 1; i >= 0; i--) {
-				final ITexture textureToBeLoaded = texturesToBeLoaded.remove(i);
-				if(!textureToBeLoaded.isLoadedToHardware()) {
+				if(loadToHardware && !this.isWithinUploadBudget(TextureManager.getTextureByteCount(textureToBeLoaded))) {
+					break;
+				}
+
+				texturesToBeLoaded.remove(i);
+				this.mTexturesToBeLoadedPriorities.remove(textureToBeLoaded);
+
+				if(loadToHardware) {
 					try {
 						textureToBeLoaded.loadToHardware(pGLState);
 
@@ -258,28 +461,105 @@ public class TextureManager {
 					} catch (final IOException e) {
 						Debug.e(e);
 					}
+					this.onUploaded(TextureManager.getTextureByteCount(textureToBeLoaded));
 				}
-				texturesLoaded.add(textureToBeLoaded);
+				this.addTextureLoaded(textureToBeLoaded);
 			}
 		}
 
-		/* Then unload pending Textures. */
-		final int texturesToBeUnloadedCount = texturesToBeUnloaded.size();
+		/* Finally unload pending Textures. The memory of their Bitmaps was already released when they were loaded, so there is no need to force a GC. */
+		for(int i = texturesToBeUnloaded.size() - 1; i >= 0; i--) {
+			final ITexture textureToBeUnloaded = texturesToBeUnloaded.remove(i);
+			if(textureToBeUnloaded.isLoadedToHardware()) {
+				textureToBeUnloaded.unloadFromHardware(pGLState);
+			}
+			this.removeTextureLoaded(textureToBeUnloaded);
+			texturesManaged.remove(textureToBeUnloaded);
+		}
+
+		if(this.mMemoryBudgetBytes != TextureManager.MEMORY_BUDGET_UNLIMITED) {
+			this.evictTextures(pGLState);
+		}
+	}
 
-		if(texturesToBeUnloadedCount > 0) {
-			for(int i = texturesToBeUnloadedCount - 1; i >= 0; i--) {
-				final ITexture textureToBeUnloaded = texturesToBeUnloaded.remove(i);
-				if(textureToBeUnloaded.isLoadedToHardware()) {
-					textureToBeUnloaded.unloadFromHardware(pGLState);
+	private void evictTextures(final GLState pGLState) {
+		final ArrayList<ITexture> texturesLoaded = this.mTexturesLoaded;
+		final int memoryBudgetBytes = this.mMemoryBudgetBytes;
+		/* Textures bound in the last frame are likely to be bound again right away. */
+		final int lastBindFrameMaximum = this.mFrame - 2;
+
+		while(this.mTexturesLoadedByteCount > memoryBudgetBytes) {
+			int leastRecentlyBoundIndex = -1;
+			int leastRecentlyBoundFrame = lastBindFrameMaximum;
+			for(int i = texturesLoaded.size() - 1; i >= 0; i--) {
+				final ITexture texture = texturesLoaded.get(i);
+				if(texture.isEvictable() && texture.isLoadedToHardware() && (texture.getLastBindFrame() <= leastRecentlyBoundFrame)) {
+					leastRecentlyBoundIndex = i;
+					leastRecentlyBoundFrame = texture.getLastBindFrame();
 				}
-				texturesLoaded.remove(textureToBeUnloaded);
-				texturesManaged.remove(textureToBeUnloaded);
 			}
+
+			if(leastRecentlyBoundIndex == -1) {
+				/* All remaining Textures are in use. */
+				return;
+			}
+
+			final ITexture textureToBeEvicted = texturesLoaded.remove(leastRecentlyBoundIndex);
+			this.mTexturesLoadedByteCount -= TextureManager.getTextureByteCount(textureToBeEvicted);
+
+			textureToBeEvicted.unloadFromHardware(pGLState);
+			this.mTexturesEvicted.add(textureToBeEvicted);
+		}
+	}
+
+	private void addTextureLoaded(final ITexture pTexture) {
+		this.mTexturesLoaded.add(pTexture);
+		this.mTexturesLoadedByteCount += TextureManager.getTextureByteCount(pTexture);
+	}
+
+	private boolean removeTextureLoaded(final ITexture pTexture) {
+		if(this.mTexturesLoaded.remove(pTexture)) {
+			this.mTexturesLoadedByteCount -= TextureManager.getTextureByteCount(pTexture);
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	private void addTextureToBeLoaded(final ITexture pTexture, final int pPriority) {
+		final ArrayList<ITexture> texturesToBeLoaded = this.mTexturesToBeLoaded;
+		final HashMap<ITexture, Integer> texturesToBeLoadedPriorities = this.mTexturesToBeLoadedPriorities;
+
+		/* Insert in front of all ITextures with the same priority, as the list is processed from the back. */
+		int index = texturesToBeLoaded.size();
+		while((index > 0) && (texturesToBeLoadedPriorities.get(texturesToBeLoaded.get(index - 1)) >= pPriority)) {
+			index--;
 		}
 
-		/* Finally invoke the GC if anything has changed. */
-		if((texturesToBeLoadedCount > 0) || (texturesToBeUnloadedCount > 0)) {
-			System.gc();
+		texturesToBeLoaded.add(index, pTexture);
+		texturesToBeLoadedPriorities.put(pTexture, pPriority);
+	}
+
+	private boolean removeTextureToBeLoaded(final ITexture pTexture) {
+		this.mTexturesToBeLoadedPriorities.remove(pTexture);
+		return this.mTexturesToBeLoaded.remove(pTexture);
+	}
+
+	/**
+	 * @return the bytes the {@link ITexture} takes up on the hardware, including its mipmaps when its {@link TextureOptions} use a mipmap filter.
+	 */
+	public static int getTextureByteCount(final ITexture pTexture) {
+		final int byteCount = (pTexture.getWidth() * pTexture.getHeight() * pTexture.getPixelFormat().getBitsPerPixel()) / DataConstants.BITS_PER_BYTE;
+
+		switch(pTexture.getTextureOptions().mMinFilter) {
+			case GLES20.GL_NEAREST_MIPMAP_NEAREST:
+			case GLES20.GL_NEAREST_MIPMAP_LINEAR:
+			case GLES20.GL_LINEAR_MIPMAP_NEAREST:
+			case GLES20.GL_LINEAR_MIPMAP_LINEAR:
+				/* The mipmap levels add up to a third of the base level. */
+				return byteCount + (byteCount / 3);
+			default:
+				return byteCount;
 		}
 	}
 
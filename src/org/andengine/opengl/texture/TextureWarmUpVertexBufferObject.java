@@ -89,7 +89,7 @@ public class TextureWarmUpVertexBufferObject extends VertexBufferObject {
 
 	@Override
 	protected void onBufferData() {
-		GLES20.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.limit(), this.mByteBuffer, this.mUsage);
+		GLState.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.limit(), this.mByteBuffer, this.mUsage);
 	}
 
 	public void warmup(final GLState pGLState, final ITexture pTexture) {
@@ -1,6 +1,10 @@
 package org.andengine.opengl.texture.atlas.bitmap;
 
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
 
 import org.andengine.opengl.texture.PixelFormat;
 import org.andengine.opengl.texture.TextureManager;
@@ -10,7 +14,12 @@ import org.andengine.opengl.texture.atlas.bitmap.source.EmptyBitmapTextureAtlasS
 import org.andengine.opengl.texture.atlas.bitmap.source.IBitmapTextureAtlasSource;
 import org.andengine.opengl.texture.atlas.source.ITextureAtlasSource;
 import org.andengine.opengl.texture.bitmap.BitmapTextureFormat;
+import org.andengine.opengl.util.GLHelper;
 import org.andengine.opengl.util.GLState;
+import org.andengine.util.adt.DataConstants;
+import org.andengine.util.adt.queue.IQueue;
+import org.andengine.util.adt.queue.ShiftQueue;
+import org.andengine.util.adt.queue.concurrent.SynchronizedQueue;
 import org.andengine.util.exception.NullBitmapException;
 import org.andengine.util.math.MathUtils;
 
@@ -37,6 +46,12 @@ public class BitmapTextureAtlas extends TextureAtlas<IBitmapTextureAtlasSource>
 
 	private final BitmapTextureFormat mBitmapTextureFormat;
 
+	private boolean mAsyncDecoding;
+	private final IQueue<DecodedBitmapTextureAtlasSource> mDecodedBitmapTextureAtlasSources = new SynchronizedQueue<DecodedBitmapTextureAtlasSource>(new ShiftQueue<DecodedBitmapTextureAtlasSource>());
+	/** Increased whenever the hardware texture goes away, so that decodes still in flight for it are dropped. */
+	private volatile int mDecodeGeneration;
+	private int mDecodePendingCount;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -118,6 +133,26 @@ public class BitmapTextureAtlas extends TextureAtlas<IBitmapTextureAtlasSource>
 		return this.mBitmapTextureFormat;
 	}
 
+	public boolean isAsyncDecoding() {
+		return this.mAsyncDecoding;
+	}
+
+	/**
+	 * @param pAsyncDecoding when <code>true</code>, the {@link IBitmapTextureAtlasSource}s are decoded and converted to the {@link PixelFormat} of this {@link BitmapTextureAtlas}
+	 * on the decode threads of the {@link TextureManager}, so loading this {@link BitmapTextureAtlas} doesn't block the GL thread. The GL thread only uploads the sources that finished decoding, once per frame.
+	 * Until then, their area of this {@link BitmapTextureAtlas} stays empty. Takes effect the next time this {@link BitmapTextureAtlas} is loaded to the hardware.
+	 */
+	public void setAsyncDecoding(final boolean pAsyncDecoding) {
+		this.mAsyncDecoding = pAsyncDecoding;
+	}
+
+	/**
+	 * @return <code>true</code> while asynchronously decoded {@link IBitmapTextureAtlasSource}s are not uploaded yet.
+	 */
+	public boolean isDecodePending() {
+		return this.mDecodePendingCount > 0;
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -127,6 +162,37 @@ public class BitmapTextureAtlas extends TextureAtlas<IBitmapTextureAtlasSource>
 		this.addTextureAtlasSource(new EmptyBitmapTextureAtlasSource(pWidth, pHeight), pTextureX, pTextureY);
 	}
 
+	@Override
+	public boolean isUpdateOnHardwareNeeded() {
+		return super.isUpdateOnHardwareNeeded() || !this.mDecodedBitmapTextureAtlasSources.isEmpty();
+	}
+
+	@Override
+	public void reloadToHardware(final GLState pGLState) throws IOException {
+		if(this.mUpdateOnHardwareNeeded) {
+			super.reloadToHardware(pGLState);
+		} else {
+			/* Only asynchronously decoded sources are waiting, which don't require the hardware texture to be recreated. */
+			pGLState.bindTexture(this.mHardwareTextureID);
+
+			this.writeDecodedTextureAtlasSourcesToHardware(pGLState);
+		}
+	}
+
+	@Override
+	public void unloadFromHardware(final GLState pGLState) {
+		this.cancelDecoding();
+
+		super.unloadFromHardware(pGLState);
+	}
+
+	@Override
+	public void setNotLoadedToHardware() {
+		this.cancelDecoding();
+
+		super.setNotLoadedToHardware();
+	}
+
 	// ===========================================================
 	// Methods
 	// ===========================================================
@@ -140,55 +206,276 @@ public class BitmapTextureAtlas extends TextureAtlas<IBitmapTextureAtlasSource>
 
 		GLES20.glTexImage2D(GLES20.GL_TEXTURE_2D, 0, glInternalFormat, this.mWidth, this.mHeight, 0, glFormat, glType, null);
 
-		final boolean preMultipyAlpha = this.mTextureOptions.mPreMultiplyAlpha;
-		/* Non alpha premultiplied bitmaps are loaded with ARGB_8888 and converted down manually. */
-		final Config bitmapConfig = (preMultipyAlpha) ? this.mBitmapTextureFormat.getBitmapConfig() : Config.ARGB_8888;
-
 		final ArrayList<IBitmapTextureAtlasSource> textureSources = this.mTextureAtlasSources;
 		final int textureSourceCount = textureSources.size();
 
-		final ITextureAtlasStateListener<IBitmapTextureAtlasSource> textureStateListener = this.getTextureAtlasStateListener();
-		for(int i = 0; i < textureSourceCount; i++) {
-			final IBitmapTextureAtlasSource bitmapTextureAtlasSource = textureSources.get(i);
-			try {
-				final Bitmap bitmap = bitmapTextureAtlasSource.onLoadBitmap(bitmapConfig);
-				if(bitmap == null) {
-					throw new NullBitmapException("Caused by: " + bitmapTextureAtlasSource.getClass().toString() + " --> " + bitmapTextureAtlasSource.toString() + " returned a null Bitmap.");
-				}
+		if(this.mAsyncDecoding) {
+			this.cancelDecoding();
 
-				final boolean useDefaultAlignment = MathUtils.isPowerOfTwo(bitmap.getWidth()) && MathUtils.isPowerOfTwo(bitmap.getHeight()) && pixelFormat == PixelFormat.RGBA_8888;
-				if(!useDefaultAlignment) {
-					/* Adjust unpack alignment. */
-					GLES20.glPixelStorei(GLES20.GL_UNPACK_ALIGNMENT, 1);
-				}
+			final int decodeGeneration = this.mDecodeGeneration;
+			final ExecutorService decodeExecutorService = this.mTextureManager.getDecodeExecutorService();
+			for(int i = 0; i < textureSourceCount; i++) {
+				decodeExecutorService.execute(new BitmapTextureAtlasSourceDecoder(textureSources.get(i), decodeGeneration));
+			}
+			this.mDecodePendingCount = textureSourceCount;
+		} else {
+			final Config bitmapConfig = this.getBitmapConfig();
 
-				if(preMultipyAlpha) {
-					GLUtils.texSubImage2D(GLES20.GL_TEXTURE_2D, 0, bitmapTextureAtlasSource.getTextureX(), bitmapTextureAtlasSource.getTextureY(), bitmap, glFormat, glType);
-				} else {
-					pGLState.glTexSubImage2D(GLES20.GL_TEXTURE_2D, 0, bitmapTextureAtlasSource.getTextureX(), bitmapTextureAtlasSource.getTextureY(), bitmap, this.mPixelFormat);
-				}
+			for(int i = 0; i < textureSourceCount; i++) {
+				final IBitmapTextureAtlasSource bitmapTextureAtlasSource = textureSources.get(i);
+				try {
+					final Bitmap bitmap = BitmapTextureAtlas.loadBitmap(bitmapTextureAtlasSource, bitmapConfig);
 
-				if(!useDefaultAlignment) {
-					/* Restore default unpack alignment. */
-					GLES20.glPixelStorei(GLES20.GL_UNPACK_ALIGNMENT, GLState.GL_UNPACK_ALIGNMENT_DEFAULT);
-				}
+					this.writeTextureAtlasSourceToHardware(pGLState, bitmapTextureAtlasSource, bitmap);
 
-				bitmap.recycle();
+					bitmap.recycle();
 
-				if(textureStateListener != null) {
-					textureStateListener.onTextureAtlasSourceLoaded(this, bitmapTextureAtlasSource);
+					this.onTextureAtlasSourceLoaded(bitmapTextureAtlasSource);
+				} catch (final NullBitmapException e) {
+					this.onTextureAtlasSourceLoadException(bitmapTextureAtlasSource, e);
 				}
-			} catch (final NullBitmapException e) {
-				if(textureStateListener != null) {
-					textureStateListener.onTextureAtlasSourceLoadExeption(this, bitmapTextureAtlasSource, e);
+			}
+		}
+	}
+
+	private Config getBitmapConfig() {
+		/* Non alpha premultiplied bitmaps are loaded with ARGB_8888 and converted down manually. */
+		return (this.mTextureOptions.mPreMultiplyAlpha) ? this.mBitmapTextureFormat.getBitmapConfig() : Config.ARGB_8888;
+	}
+
+	private static Bitmap loadBitmap(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final Config pBitmapConfig) throws NullBitmapException {
+		final Bitmap bitmap = pBitmapTextureAtlasSource.onLoadBitmap(pBitmapConfig);
+		if(bitmap == null) {
+			throw new NullBitmapException("Caused by: " + pBitmapTextureAtlasSource.getClass().toString() + " --> " + pBitmapTextureAtlasSource.toString() + " returned a null Bitmap.");
+		}
+		return bitmap;
+	}
+
+	private void writeTextureAtlasSourceToHardware(final GLState pGLState, final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final Bitmap pBitmap) {
+		final boolean useDefaultAlignment = this.setUnpackAlignment(pBitmap.getWidth(), pBitmap.getHeight());
+
+		if(this.mTextureOptions.mPreMultiplyAlpha) {
+			final PixelFormat pixelFormat = this.mBitmapTextureFormat.getPixelFormat();
+			GLUtils.texSubImage2D(GLES20.GL_TEXTURE_2D, 0, pBitmapTextureAtlasSource.getTextureX(), pBitmapTextureAtlasSource.getTextureY(), pBitmap, pixelFormat.getGLFormat(), pixelFormat.getGLType());
+			GLState.recordTextureUpload(pBitmap.getWidth(), pBitmap.getHeight(), this.mPixelFormat);
+		} else {
+			pGLState.glTexSubImage2D(GLES20.GL_TEXTURE_2D, 0, pBitmapTextureAtlasSource.getTextureX(), pBitmapTextureAtlasSource.getTextureY(), pBitmap, this.mPixelFormat);
+		}
+
+		this.resetUnpackAlignment(useDefaultAlignment);
+	}
+
+	private void writeTextureAtlasSourceToHardware(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final Buffer pPixels, final int pWidth, final int pHeight) {
+		final boolean useDefaultAlignment = this.setUnpackAlignment(pWidth, pHeight);
+
+		GLES20.glTexSubImage2D(GLES20.GL_TEXTURE_2D, 0, pBitmapTextureAtlasSource.getTextureX(), pBitmapTextureAtlasSource.getTextureY(), pWidth, pHeight, this.mPixelFormat.getGLFormat(), this.mPixelFormat.getGLType(), pPixels);
+		GLState.recordTextureUpload(pWidth, pHeight, this.mPixelFormat);
+
+		this.resetUnpackAlignment(useDefaultAlignment);
+	}
+
+	/**
+	 * @return whether the default unpack alignment can be used.
+	 */
+	private boolean setUnpackAlignment(final int pWidth, final int pHeight) {
+		final boolean useDefaultAlignment = MathUtils.isPowerOfTwo(pWidth) && MathUtils.isPowerOfTwo(pHeight) && (this.mBitmapTextureFormat.getPixelFormat() == PixelFormat.RGBA_8888);
+		if(!useDefaultAlignment) {
+			/* Adjust unpack alignment. */
+			GLES20.glPixelStorei(GLES20.GL_UNPACK_ALIGNMENT, 1);
+		}
+		return useDefaultAlignment;
+	}
+
+	private void resetUnpackAlignment(final boolean pUseDefaultAlignment) {
+		if(!pUseDefaultAlignment) {
+			/* Restore default unpack alignment. */
+			GLES20.glPixelStorei(GLES20.GL_UNPACK_ALIGNMENT, GLState.GL_UNPACK_ALIGNMENT_DEFAULT);
+		}
+	}
+
+	/**
+	 * Uploads decoded sources within the upload budget of the {@link TextureManager}. The remaining ones keep {@link BitmapTextureAtlas#isUpdateOnHardwareNeeded()} set and are uploaded in the next frames.
+	 */
+	private void writeDecodedTextureAtlasSourcesToHardware(final GLState pGLState) {
+		final IQueue<DecodedBitmapTextureAtlasSource> decodedBitmapTextureAtlasSources = this.mDecodedBitmapTextureAtlasSources;
+		final TextureManager textureManager = this.mTextureManager;
+
+		DecodedBitmapTextureAtlasSource decodedBitmapTextureAtlasSource;
+		while((decodedBitmapTextureAtlasSource = decodedBitmapTextureAtlasSources.peek()) != null) {
+			if(decodedBitmapTextureAtlasSource.mDecodeGeneration != this.mDecodeGeneration) {
+				decodedBitmapTextureAtlasSources.poll();
+				decodedBitmapTextureAtlasSource.recycle();
+				continue;
+			}
+
+			final int byteCount = decodedBitmapTextureAtlasSource.getByteCount(this.mPixelFormat);
+			if(!textureManager.isWithinUploadBudget(byteCount)) {
+				break;
+			}
+
+			decodedBitmapTextureAtlasSources.poll();
+			this.mDecodePendingCount--;
+
+			final IBitmapTextureAtlasSource bitmapTextureAtlasSource = decodedBitmapTextureAtlasSource.mBitmapTextureAtlasSource;
+			if(decodedBitmapTextureAtlasSource.mException != null) {
+				this.onTextureAtlasSourceLoadException(bitmapTextureAtlasSource, decodedBitmapTextureAtlasSource.mException);
+			} else {
+				if(decodedBitmapTextureAtlasSource.mBitmap != null) {
+					this.writeTextureAtlasSourceToHardware(pGLState, bitmapTextureAtlasSource, decodedBitmapTextureAtlasSource.mBitmap);
 				} else {
-					throw e;
+					this.writeTextureAtlasSourceToHardware(bitmapTextureAtlasSource, decodedBitmapTextureAtlasSource.mPixels, decodedBitmapTextureAtlasSource.mWidth, decodedBitmapTextureAtlasSource.mHeight);
 				}
+				decodedBitmapTextureAtlasSource.recycle();
+				textureManager.onUploaded(byteCount);
+
+				this.onTextureAtlasSourceLoaded(bitmapTextureAtlasSource);
+			}
+		}
+	}
+
+	private void cancelDecoding() {
+		/* Synchronized with the decoders entering their results, so that decodes finishing after this point are recycled by them instead of being left in the queue. */
+		synchronized(this.mDecodedBitmapTextureAtlasSources) {
+			this.mDecodeGeneration++;
+			this.mDecodePendingCount = 0;
+
+			DecodedBitmapTextureAtlasSource decodedBitmapTextureAtlasSource;
+			while((decodedBitmapTextureAtlasSource = this.mDecodedBitmapTextureAtlasSources.poll()) != null) {
+				decodedBitmapTextureAtlasSource.recycle();
 			}
 		}
 	}
 
+	private void onTextureAtlasSourceLoaded(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource) {
+		final ITextureAtlasStateListener<IBitmapTextureAtlasSource> textureStateListener = this.getTextureAtlasStateListener();
+		if(textureStateListener != null) {
+			textureStateListener.onTextureAtlasSourceLoaded(this, pBitmapTextureAtlasSource);
+		}
+	}
+
+	private void onTextureAtlasSourceLoadException(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final RuntimeException pException) {
+		final ITextureAtlasStateListener<IBitmapTextureAtlasSource> textureStateListener = this.getTextureAtlasStateListener();
+		if(textureStateListener != null) {
+			textureStateListener.onTextureAtlasSourceLoadExeption(this, pBitmapTextureAtlasSource, pException);
+		} else {
+			throw pException;
+		}
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
+
+	private class BitmapTextureAtlasSourceDecoder implements Runnable {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private final IBitmapTextureAtlasSource mBitmapTextureAtlasSource;
+		private final int mDecodeGeneration;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public BitmapTextureAtlasSourceDecoder(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final int pDecodeGeneration) {
+			this.mBitmapTextureAtlasSource = pBitmapTextureAtlasSource;
+			this.mDecodeGeneration = pDecodeGeneration;
+		}
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public void run() {
+			final BitmapTextureAtlas bitmapTextureAtlas = BitmapTextureAtlas.this;
+			if(this.mDecodeGeneration != bitmapTextureAtlas.mDecodeGeneration) {
+				return;
+			}
+
+			final DecodedBitmapTextureAtlasSource decodedBitmapTextureAtlasSource = new DecodedBitmapTextureAtlasSource(this.mBitmapTextureAtlasSource, this.mDecodeGeneration);
+			try {
+				final Bitmap bitmap = BitmapTextureAtlas.loadBitmap(this.mBitmapTextureAtlasSource, bitmapTextureAtlas.getBitmapConfig());
+
+				if(bitmapTextureAtlas.mTextureOptions.mPreMultiplyAlpha) {
+					/* Uploaded as is by GLUtils, which takes care of the conversion. */
+					decodedBitmapTextureAtlasSource.mBitmap = bitmap;
+				} else {
+					decodedBitmapTextureAtlasSource.mPixels = GLHelper.getPixels(bitmap, bitmapTextureAtlas.mPixelFormat, ByteOrder.BIG_ENDIAN);
+					decodedBitmapTextureAtlasSource.mWidth = bitmap.getWidth();
+					decodedBitmapTextureAtlasSource.mHeight = bitmap.getHeight();
+
+					bitmap.recycle();
+				}
+			} catch (final RuntimeException e) {
+				decodedBitmapTextureAtlasSource.mException = e;
+			}
+
+			final IQueue<DecodedBitmapTextureAtlasSource> decodedBitmapTextureAtlasSources = bitmapTextureAtlas.mDecodedBitmapTextureAtlasSources;
+			synchronized(decodedBitmapTextureAtlasSources) {
+				if(this.mDecodeGeneration == bitmapTextureAtlas.mDecodeGeneration) {
+					decodedBitmapTextureAtlasSources.enter(decodedBitmapTextureAtlasSource);
+				} else {
+					/* Decoding was cancelled while this source was being decoded. */
+					decodedBitmapTextureAtlasSource.recycle();
+				}
+			}
+		}
+	}
+
+	private static class DecodedBitmapTextureAtlasSource {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		final IBitmapTextureAtlasSource mBitmapTextureAtlasSource;
+		final int mDecodeGeneration;
+
+		/** Set for alpha premultiplied {@link BitmapTextureAtlas}es. */
+		Bitmap mBitmap;
+		/** Set otherwise, already converted to the {@link PixelFormat} of the {@link BitmapTextureAtlas}. */
+		Buffer mPixels;
+		int mWidth;
+		int mHeight;
+
+		RuntimeException mException;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public DecodedBitmapTextureAtlasSource(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final int pDecodeGeneration) {
+			this.mBitmapTextureAtlasSource = pBitmapTextureAtlasSource;
+			this.mDecodeGeneration = pDecodeGeneration;
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		public int getByteCount(final PixelFormat pPixelFormat) {
+			if(this.mBitmap != null) {
+				return (this.mBitmap.getWidth() * this.mBitmap.getHeight() * pPixelFormat.getBitsPerPixel()) / DataConstants.BITS_PER_BYTE;
+			} else {
+				return (this.mWidth * this.mHeight * pPixelFormat.getBitsPerPixel()) / DataConstants.BITS_PER_BYTE;
+			}
+		}
+
+		public void recycle() {
+			if(this.mBitmap != null) {
+				this.mBitmap.recycle();
+				this.mBitmap = null;
+			}
+			this.mPixels = null;
+		}
+	}
 }
@@ -0,0 +1,232 @@
+package org.andengine.opengl.texture.atlas.bitmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.andengine.opengl.texture.TextureManager;
+import org.andengine.opengl.texture.TextureOptions;
+import org.andengine.opengl.texture.atlas.bitmap.source.IBitmapTextureAtlasSource;
+import org.andengine.opengl.texture.atlas.buildable.BuildableTextureAtlas.TextureAtlasSourceWithWithLocationCallback;
+import org.andengine.opengl.texture.atlas.buildable.builder.IPagingTextureAtlasBuilder;
+import org.andengine.opengl.texture.atlas.buildable.builder.ITextureAtlasBuilder.TextureAtlasBuilderException;
+import org.andengine.opengl.texture.bitmap.BitmapTextureFormat;
+import org.andengine.opengl.texture.region.TextureRegion;
+import org.andengine.opengl.texture.region.TiledTextureRegion;
+import org.andengine.util.call.Callback;
+
+/**
+ * Like a {@link BuildableBitmapTextureAtlas}, but when one {@link BitmapTextureAtlas} is full, the remaining {@link IBitmapTextureAtlasSource}s are built into additional ones, the pages.
+ * As the page of an {@link IBitmapTextureAtlasSource} is only known after {@link BuildableBitmapTextureAtlasPages#build(IPagingTextureAtlasBuilder)},
+ * the {@link TextureRegion}s are created afterwards:
+ * <pre>
+ * final BuildableBitmapTextureAtlasPages pages = new BuildableBitmapTextureAtlasPages(textureManager, 1024, 1024);
+ * pages.addTextureAtlasSource(playerSource);
+ * // Add more sources...
+ * pages.build(new MaxRectsTextureAtlasBuilder&lt;IBitmapTextureAtlasSource, BitmapTextureAtlas&gt;(0, 1, 0));
+ * pages.load();
+ * final TextureRegion playerTextureRegion = pages.createTextureRegion(playerSource);
+ * </pre>
+ * Each call to {@link BuildableBitmapTextureAtlasPages#build(IPagingTextureAtlasBuilder)} starts with a new page, the pages built before are left untouched.
+ *
+ * @author agent <agent@local>
+ * @since 06:56:17 - 19.10.2026
+ */
+public class BuildableBitmapTextureAtlasPages {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final TextureManager mTextureManager;
+	private final int mWidth;
+	private final int mHeight;
+	private final BitmapTextureFormat mBitmapTextureFormat;
+	private final TextureOptions mTextureOptions;
+
+	private final ArrayList<BitmapTextureAtlas> mPages = new ArrayList<BitmapTextureAtlas>();
+	private final ArrayList<TextureAtlasSourceWithWithLocationCallback<IBitmapTextureAtlasSource>> mTextureAtlasSourcesToPlace = new ArrayList<TextureAtlasSourceWithWithLocationCallback<IBitmapTextureAtlasSource>>();
+	private final HashMap<IBitmapTextureAtlasSource, BitmapTextureAtlas> mTextureAtlasSourcePages = new HashMap<IBitmapTextureAtlasSource, BitmapTextureAtlas>();
+
+	private BitmapTextureAtlas mBuildingPage;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * Uses {@link BitmapTextureFormat#RGBA_8888}.
+	 */
+	public BuildableBitmapTextureAtlasPages(final TextureManager pTextureManager, final int pWidth, final int pHeight) {
+		this(pTextureManager, pWidth, pHeight, BitmapTextureFormat.RGBA_8888, TextureOptions.DEFAULT);
+	}
+
+	/**
+	 * @param pWidth the width of each page.
+	 * @param pHeight the height of each page.
+	 * @param pBitmapTextureFormat use {@link BitmapTextureFormat#RGBA_8888} or {@link BitmapTextureFormat#RGBA_4444}  for pages with transparency and {@link BitmapTextureFormat#RGB_565} for pages without transparency.
+	 * @param pTextureOptions the (quality) settings of each page.
+	 */
+	public BuildableBitmapTextureAtlasPages(final TextureManager pTextureManager, final int pWidth, final int pHeight, final BitmapTextureFormat pBitmapTextureFormat, final TextureOptions pTextureOptions) {
+		this.mTextureManager = pTextureManager;
+		this.mWidth = pWidth;
+		this.mHeight = pHeight;
+		this.mBitmapTextureFormat = pBitmapTextureFormat;
+		this.mTextureOptions = pTextureOptions;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getWidth() {
+		return this.mWidth;
+	}
+
+	public int getHeight() {
+		return this.mHeight;
+	}
+
+	public int getPageCount() {
+		return this.mPages.size();
+	}
+
+	public BitmapTextureAtlas getPage(final int pPageIndex) {
+		return this.mPages.get(pPageIndex);
+	}
+
+	/**
+	 * @return the page <code>pBitmapTextureAtlasSource</code> was built into, or <code>null</code> when it was not built yet.
+	 */
+	public BitmapTextureAtlas getPage(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource) {
+		return this.mTextureAtlasSourcePages.get(pBitmapTextureAtlasSource);
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * When all {@link IBitmapTextureAtlasSource}s are added you have to call {@link BuildableBitmapTextureAtlasPages#build(IPagingTextureAtlasBuilder)}.
+	 */
+	public void addTextureAtlasSource(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource) {
+		this.addTextureAtlasSource(pBitmapTextureAtlasSource, null);
+	}
+
+	/**
+	 * When all {@link IBitmapTextureAtlasSource}s are added you have to call {@link BuildableBitmapTextureAtlasPages#build(IPagingTextureAtlasBuilder)}.
+	 *
+	 * @param pCallback called when <code>pBitmapTextureAtlasSource</code> was built. {@link BuildableBitmapTextureAtlasPages#getPage(IBitmapTextureAtlasSource)} already returns its page then. May be <code>null</code>.
+	 */
+	public void addTextureAtlasSource(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final Callback<IBitmapTextureAtlasSource> pCallback) {
+		this.mTextureAtlasSourcesToPlace.add(new TextureAtlasSourceWithWithLocationCallback<IBitmapTextureAtlasSource>(pBitmapTextureAtlasSource, new Callback<IBitmapTextureAtlasSource>() {
+			@Override
+			public void onCallback(final IBitmapTextureAtlasSource pCallbackValue) {
+				BuildableBitmapTextureAtlasPages.this.mTextureAtlasSourcePages.put(pCallbackValue, BuildableBitmapTextureAtlasPages.this.mBuildingPage);
+
+				if(pCallback != null) {
+					pCallback.onCallback(pCallbackValue);
+				}
+			}
+		}));
+	}
+
+	/**
+	 * Removes a {@link IBitmapTextureAtlasSource} before {@link BuildableBitmapTextureAtlasPages#build(IPagingTextureAtlasBuilder)} is called.
+	 */
+	public void removeTextureAtlasSource(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource) {
+		final ArrayList<TextureAtlasSourceWithWithLocationCallback<IBitmapTextureAtlasSource>> textureSources = this.mTextureAtlasSourcesToPlace;
+		for(int i = textureSources.size() - 1; i >= 0; i--) {
+			if(textureSources.get(i).getTextureAtlasSource() == pBitmapTextureAtlasSource) {
+				textureSources.remove(i);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @param pTextureAtlasBuilder i.e. a {@link org.andengine.opengl.texture.atlas.buildable.builder.MaxRectsTextureAtlasBuilder} or a {@link org.andengine.opengl.texture.atlas.buildable.builder.SkylineTextureAtlasBuilder}.
+	 * @return itself for method chaining.
+	 * @throws TextureAtlasBuilderException when an {@link IBitmapTextureAtlasSource} does not even fit into an empty page. The pages built so far are kept, the remaining {@link IBitmapTextureAtlasSource}s stay added.
+	 */
+	public BuildableBitmapTextureAtlasPages build(final IPagingTextureAtlasBuilder<IBitmapTextureAtlasSource, BitmapTextureAtlas> pTextureAtlasBuilder) throws TextureAtlasBuilderException {
+		final ArrayList<TextureAtlasSourceWithWithLocationCallback<IBitmapTextureAtlasSource>> textureAtlasSourcesToPlace = this.mTextureAtlasSourcesToPlace;
+
+		try {
+			while(!textureAtlasSourcesToPlace.isEmpty()) {
+				final BitmapTextureAtlas page = new BitmapTextureAtlas(this.mTextureManager, this.mWidth, this.mHeight, this.mBitmapTextureFormat, this.mTextureOptions);
+
+				final int textureAtlasSourcesToPlaceCount = textureAtlasSourcesToPlace.size();
+				this.mBuildingPage = page;
+				pTextureAtlasBuilder.buildPage(page, textureAtlasSourcesToPlace);
+
+				if(textureAtlasSourcesToPlace.size() == textureAtlasSourcesToPlaceCount) {
+					final IBitmapTextureAtlasSource textureAtlasSource = textureAtlasSourcesToPlace.get(0).getTextureAtlasSource();
+					throw new TextureAtlasBuilderException("Could not build: '" + textureAtlasSource.toString() + "' into an empty page of: '" + this.mWidth + "x" + this.mHeight + "'.");
+				}
+
+				this.mPages.add(page);
+			}
+		} finally {
+			this.mBuildingPage = null;
+		}
+
+		return this;
+	}
+
+	/**
+	 * Loads all pages.
+	 */
+	public void load() {
+		final ArrayList<BitmapTextureAtlas> pages = this.mPages;
+		for(int i = 0; i < pages.size(); i++) {
+			pages.get(i).load();
+		}
+	}
+
+	/**
+	 * Unloads all pages.
+	 */
+	public void unload() {
+		final ArrayList<BitmapTextureAtlas> pages = this.mPages;
+		for(int i = 0; i < pages.size(); i++) {
+			pages.get(i).unload();
+		}
+	}
+
+	/**
+	 * @throws IllegalArgumentException when <code>pBitmapTextureAtlasSource</code> was not built yet.
+	 */
+	public TextureRegion createTextureRegion(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource) throws IllegalArgumentException {
+		final BitmapTextureAtlas page = this.getBuiltPage(pBitmapTextureAtlasSource);
+
+		return new TextureRegion(page, pBitmapTextureAtlasSource.getTextureX(), pBitmapTextureAtlasSource.getTextureY(), pBitmapTextureAtlasSource.getTextureWidth(), pBitmapTextureAtlasSource.getTextureHeight());
+	}
+
+	/**
+	 * @throws IllegalArgumentException when <code>pBitmapTextureAtlasSource</code> was not built yet.
+	 */
+	public TiledTextureRegion createTiledTextureRegion(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource, final int pTileColumns, final int pTileRows) throws IllegalArgumentException {
+		final BitmapTextureAtlas page = this.getBuiltPage(pBitmapTextureAtlasSource);
+
+		return TiledTextureRegion.create(page, pBitmapTextureAtlasSource.getTextureX(), pBitmapTextureAtlasSource.getTextureY(), pBitmapTextureAtlasSource.getTextureWidth(), pBitmapTextureAtlasSource.getTextureHeight(), pTileColumns, pTileRows);
+	}
+
+	private BitmapTextureAtlas getBuiltPage(final IBitmapTextureAtlasSource pBitmapTextureAtlasSource) throws IllegalArgumentException {
+		final BitmapTextureAtlas page = this.mTextureAtlasSourcePages.get(pBitmapTextureAtlasSource);
+		if(page == null) {
+			throw new IllegalArgumentException("pBitmapTextureAtlasSource was not built into any page.");
+		}
+		return page;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -171,6 +171,21 @@ public class BuildableTextureAtlas<S extends ITextureAtlasSource, T extends ITex
 		return this.mTextureAtlas.hasTextureStateListener();
 	}
 
+	@Override
+	public boolean isEvictable() {
+		return this.mTextureAtlas.isEvictable();
+	}
+
+	@Override
+	public void setEvictable(final boolean pEvictable) {
+		this.mTextureAtlas.setEvictable(pEvictable);
+	}
+
+	@Override
+	public int getLastBindFrame() {
+		return this.mTextureAtlas.getLastBindFrame();
+	}
+
 	@Override
 	public boolean hasTextureAtlasStateListener() {
 		return this.mTextureAtlas.hasTextureAtlasStateListener();
@@ -0,0 +1,170 @@
+package org.andengine.opengl.texture.atlas.buildable.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.andengine.opengl.texture.atlas.ITextureAtlas;
+import org.andengine.opengl.texture.atlas.buildable.BuildableTextureAtlas.TextureAtlasSourceWithWithLocationCallback;
+import org.andengine.opengl.texture.atlas.source.ITextureAtlasSource;
+
+/**
+ * Base for the {@link ITextureAtlasBuilder}s that place one rectangle after the other into a bin, largest first.
+ * Subclasses only decide where each rectangle goes. Spacing and padding are already included in the rectangles they get,
+ * and the bin is extended by the spacing, so that no spacing is wasted along the right and bottom border.
+ * <p/>
+ * {@link BaseTextureAtlasBuilder#build(ITextureAtlas, ArrayList)} places all {@link ITextureAtlasSource}s before it adds any of them, so nothing is added to the {@link ITextureAtlas} when it throws.
+ *
+ * @author agent <agent@local>
+ * @since 06:56:17 - 19.10.2026
+ */
+public abstract class BaseTextureAtlasBuilder<T extends ITextureAtlasSource, A extends ITextureAtlas<T>> implements IPagingTextureAtlasBuilder<T, A> {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	protected static final int POSITION_LEFT_INDEX = 0;
+	protected static final int POSITION_TOP_INDEX = 1;
+	private static final int POSITION_SIZE = 2;
+
+	private static final Comparator<TextureAtlasSourceWithWithLocationCallback<?>> TEXTURESOURCE_COMPARATOR = new Comparator<TextureAtlasSourceWithWithLocationCallback<?>>() {
+		@Override
+		public int compare(final TextureAtlasSourceWithWithLocationCallback<?> pTextureAtlasSourceWithWithLocationCallbackA, final TextureAtlasSourceWithWithLocationCallback<?> pTextureAtlasSourceWithWithLocationCallbackB) {
+			final ITextureAtlasSource textureAtlasSourceA = pTextureAtlasSourceWithWithLocationCallbackA.getTextureAtlasSource();
+			final ITextureAtlasSource textureAtlasSourceB = pTextureAtlasSourceWithWithLocationCallbackB.getTextureAtlasSource();
+
+			/* Longer side first, then shorter side. */
+			final int deltaLongSide = Math.max(textureAtlasSourceB.getTextureWidth(), textureAtlasSourceB.getTextureHeight()) - Math.max(textureAtlasSourceA.getTextureWidth(), textureAtlasSourceA.getTextureHeight());
+			if(deltaLongSide != 0) {
+				return deltaLongSide;
+			} else {
+				return Math.min(textureAtlasSourceB.getTextureWidth(), textureAtlasSourceB.getTextureHeight()) - Math.min(textureAtlasSourceA.getTextureWidth(), textureAtlasSourceA.getTextureHeight());
+			}
+		}
+	};
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	protected final int mTextureAtlasBorderSpacing;
+	protected final int mTextureAtlasSourceSpacing;
+	protected final int mTextureAtlasSourcePadding;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pTextureAtlasBorderSpacing the minimum spacing between the border of the texture and the {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourceSpacing the spacing between the different {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourcePadding the transparent padding around each {@link ITextureAtlasSource} (prevents texture bleeding).
+	 */
+	public BaseTextureAtlasBuilder(final int pTextureAtlasBorderSpacing, final int pTextureAtlasSourceSpacing, final int pTextureAtlasSourcePadding) {
+		this.mTextureAtlasBorderSpacing = pTextureAtlasBorderSpacing;
+		this.mTextureAtlasSourceSpacing = pTextureAtlasSourceSpacing;
+		this.mTextureAtlasSourcePadding = pTextureAtlasSourcePadding;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	/**
+	 * Starts placing into an empty bin of the given size.
+	 */
+	protected abstract void reset(final int pBinWidth, final int pBinHeight);
+
+	/**
+	 * @param pPositionReuse receives the left and top of the placed rectangle at {@link BaseTextureAtlasBuilder#POSITION_LEFT_INDEX} and {@link BaseTextureAtlasBuilder#POSITION_TOP_INDEX}.
+	 * @return <code>false</code> when the rectangle does not fit anymore, in which case nothing was changed.
+	 */
+	protected abstract boolean insert(final int pWidth, final int pHeight, final int[] pPositionReuse);
+
+	@Override
+	public void build(final A pTextureAtlas, final ArrayList<TextureAtlasSourceWithWithLocationCallback<T>> pTextureAtlasSourcesWithLocationCallback) throws TextureAtlasBuilderException {
+		Collections.sort(pTextureAtlasSourcesWithLocationCallback, BaseTextureAtlasBuilder.TEXTURESOURCE_COMPARATOR);
+
+		this.reset(pTextureAtlas);
+
+		final int textureSourceCount = pTextureAtlasSourcesWithLocationCallback.size();
+		final int[] positions = new int[textureSourceCount * BaseTextureAtlasBuilder.POSITION_SIZE];
+		final int[] position = new int[BaseTextureAtlasBuilder.POSITION_SIZE];
+
+		for(int i = 0; i < textureSourceCount; i++) {
+			final T textureAtlasSource = pTextureAtlasSourcesWithLocationCallback.get(i).getTextureAtlasSource();
+
+			if(!this.insert(textureAtlasSource, position)) {
+				throw new TextureAtlasBuilderException("Could not build: '" + textureAtlasSource.toString() + "' into: '" + pTextureAtlas.getClass().getSimpleName() + "'.");
+			}
+
+			System.arraycopy(position, 0, positions, i * BaseTextureAtlasBuilder.POSITION_SIZE, BaseTextureAtlasBuilder.POSITION_SIZE);
+		}
+
+		for(int i = 0; i < textureSourceCount; i++) {
+			final int positionOffset = i * BaseTextureAtlasBuilder.POSITION_SIZE;
+			this.addTextureAtlasSource(pTextureAtlas, pTextureAtlasSourcesWithLocationCallback.get(i), positions[positionOffset + BaseTextureAtlasBuilder.POSITION_LEFT_INDEX], positions[positionOffset + BaseTextureAtlasBuilder.POSITION_TOP_INDEX]);
+		}
+	}
+
+	@Override
+	public void buildPage(final A pTextureAtlas, final ArrayList<TextureAtlasSourceWithWithLocationCallback<T>> pTextureAtlasSourcesWithLocationCallback) {
+		Collections.sort(pTextureAtlasSourcesWithLocationCallback, BaseTextureAtlasBuilder.TEXTURESOURCE_COMPARATOR);
+
+		this.reset(pTextureAtlas);
+
+		final int[] position = new int[BaseTextureAtlasBuilder.POSITION_SIZE];
+
+		/* Smaller ones may still fit after a bigger one did not. */
+		for(int i = 0; i < pTextureAtlasSourcesWithLocationCallback.size(); i++) {
+			final TextureAtlasSourceWithWithLocationCallback<T> textureSourceWithLocationCallback = pTextureAtlasSourcesWithLocationCallback.get(i);
+
+			if(this.insert(textureSourceWithLocationCallback.getTextureAtlasSource(), position)) {
+				pTextureAtlasSourcesWithLocationCallback.remove(i);
+				i--;
+
+				this.addTextureAtlasSource(pTextureAtlas, textureSourceWithLocationCallback, position[BaseTextureAtlasBuilder.POSITION_LEFT_INDEX], position[BaseTextureAtlasBuilder.POSITION_TOP_INDEX]);
+			}
+		}
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	private void reset(final A pTextureAtlas) {
+		final int binWidth = pTextureAtlas.getWidth() - 2 * this.mTextureAtlasBorderSpacing + this.mTextureAtlasSourceSpacing;
+		final int binHeight = pTextureAtlas.getHeight() - 2 * this.mTextureAtlasBorderSpacing + this.mTextureAtlasSourceSpacing;
+
+		this.reset(binWidth, binHeight);
+	}
+
+	private boolean insert(final T pTextureAtlasSource, final int[] pPositionReuse) {
+		final int width = pTextureAtlasSource.getTextureWidth() + 2 * this.mTextureAtlasSourcePadding + this.mTextureAtlasSourceSpacing;
+		final int height = pTextureAtlasSource.getTextureHeight() + 2 * this.mTextureAtlasSourcePadding + this.mTextureAtlasSourceSpacing;
+
+		return this.insert(width, height, pPositionReuse);
+	}
+
+	private void addTextureAtlasSource(final A pTextureAtlas, final TextureAtlasSourceWithWithLocationCallback<T> pTextureSourceWithLocationCallback, final int pLeft, final int pTop) {
+		final T textureAtlasSource = pTextureSourceWithLocationCallback.getTextureAtlasSource();
+
+		final int textureAtlasSourceLeft = pLeft + this.mTextureAtlasBorderSpacing + this.mTextureAtlasSourcePadding;
+		final int textureAtlasSourceTop = pTop + this.mTextureAtlasBorderSpacing + this.mTextureAtlasSourcePadding;
+		if(this.mTextureAtlasSourcePadding == 0) {
+			pTextureAtlas.addTextureAtlasSource(textureAtlasSource, textureAtlasSourceLeft, textureAtlasSourceTop);
+		} else {
+			pTextureAtlas.addTextureAtlasSource(textureAtlasSource, textureAtlasSourceLeft, textureAtlasSourceTop, this.mTextureAtlasSourcePadding);
+		}
+
+		pTextureSourceWithLocationCallback.getCallback().onCallback(textureAtlasSource);
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
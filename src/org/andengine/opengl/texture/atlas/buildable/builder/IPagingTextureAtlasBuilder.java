@@ -0,0 +1,29 @@
+package org.andengine.opengl.texture.atlas.buildable.builder;
+
+import java.util.ArrayList;
+
+import org.andengine.opengl.texture.atlas.ITextureAtlas;
+import org.andengine.opengl.texture.atlas.buildable.BuildableTextureAtlas.TextureAtlasSourceWithWithLocationCallback;
+import org.andengine.opengl.texture.atlas.source.ITextureAtlasSource;
+
+/**
+ * An {@link ITextureAtlasBuilder} that can fill one page after the other, i.e. for {@link org.andengine.opengl.texture.atlas.bitmap.BuildableBitmapTextureAtlasPages}.
+ *
+ * @author agent <agent@local>
+ * @since 06:56:17 - 19.10.2026
+ */
+public interface IPagingTextureAtlasBuilder<T extends ITextureAtlasSource, A extends ITextureAtlas<T>> extends ITextureAtlasBuilder<T, A> {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Builds as many {@link ITextureAtlasSource}s as fit into the empty <code>pTextureAtlas</code> and removes them from <code>pTextureAtlasSourcesWithLocationCallback</code>.
+	 * The ones that did not fit remain in it.
+	 */
+	public void buildPage(final A pTextureAtlas, final ArrayList<TextureAtlasSourceWithWithLocationCallback<T>> pTextureAtlasSourcesWithLocationCallback);
+}
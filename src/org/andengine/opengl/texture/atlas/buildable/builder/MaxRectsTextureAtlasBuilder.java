@@ -0,0 +1,321 @@
+package org.andengine.opengl.texture.atlas.buildable.builder;
+
+import java.util.ArrayList;
+
+import org.andengine.opengl.texture.atlas.ITextureAtlas;
+import org.andengine.opengl.texture.atlas.source.ITextureAtlasSource;
+
+/**
+ * Keeps the list of all maximal free rectangles of the bin and places each {@link ITextureAtlasSource} into the one chosen by its {@link MaxRectsHeuristic}.
+ * Packs considerably tighter than the {@link BlackPawnTextureAtlasBuilder}, as free space is not lost to earlier splits.
+ *
+ * @author agent <agent@local>
+ * @since 06:56:17 - 19.10.2026
+ * @see http://clb.demon.fi/files/RectangleBinPack.pdf
+ */
+public class MaxRectsTextureAtlasBuilder<T extends ITextureAtlasSource, A extends ITextureAtlas<T>> extends BaseTextureAtlasBuilder<T, A> {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final MaxRectsHeuristic mMaxRectsHeuristic;
+
+	private int mBinWidth;
+	private int mBinHeight;
+
+	private final ArrayList<Rect> mFreeRects = new ArrayList<Rect>();
+	private final ArrayList<Rect> mUsedRects = new ArrayList<Rect>();
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * Uses {@link MaxRectsHeuristic#BEST_SHORT_SIDE_FIT}.
+	 *
+	 * @param pTextureAtlasBorderSpacing the minimum spacing between the border of the texture and the {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourceSpacing the spacing between the different {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourcePadding the transparent padding around each {@link ITextureAtlasSource} (prevents texture bleeding).
+	 */
+	public MaxRectsTextureAtlasBuilder(final int pTextureAtlasBorderSpacing, final int pTextureAtlasSourceSpacing, final int pTextureAtlasSourcePadding) {
+		this(pTextureAtlasBorderSpacing, pTextureAtlasSourceSpacing, pTextureAtlasSourcePadding, MaxRectsHeuristic.BEST_SHORT_SIDE_FIT);
+	}
+
+	/**
+	 * @param pTextureAtlasBorderSpacing the minimum spacing between the border of the texture and the {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourceSpacing the spacing between the different {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourcePadding the transparent padding around each {@link ITextureAtlasSource} (prevents texture bleeding).
+	 * @param pMaxRectsHeuristic how the free rectangle for each {@link ITextureAtlasSource} is chosen.
+	 */
+	public MaxRectsTextureAtlasBuilder(final int pTextureAtlasBorderSpacing, final int pTextureAtlasSourceSpacing, final int pTextureAtlasSourcePadding, final MaxRectsHeuristic pMaxRectsHeuristic) {
+		super(pTextureAtlasBorderSpacing, pTextureAtlasSourceSpacing, pTextureAtlasSourcePadding);
+
+		this.mMaxRectsHeuristic = pMaxRectsHeuristic;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public MaxRectsHeuristic getMaxRectsHeuristic() {
+		return this.mMaxRectsHeuristic;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	protected void reset(final int pBinWidth, final int pBinHeight) {
+		this.mBinWidth = pBinWidth;
+		this.mBinHeight = pBinHeight;
+
+		this.mFreeRects.clear();
+		this.mUsedRects.clear();
+		this.mFreeRects.add(new Rect(0, 0, pBinWidth, pBinHeight));
+	}
+
+	@Override
+	protected boolean insert(final int pWidth, final int pHeight, final int[] pPositionReuse) {
+		final ArrayList<Rect> freeRects = this.mFreeRects;
+
+		Rect bestFreeRect = null;
+		int bestScore = Integer.MAX_VALUE;
+		int bestSecondaryScore = Integer.MAX_VALUE;
+
+		for(int i = freeRects.size() - 1; i >= 0; i--) {
+			final Rect freeRect = freeRects.get(i);
+			if(freeRect.mWidth < pWidth || freeRect.mHeight < pHeight) {
+				continue;
+			}
+
+			final int leftoverHorizontal = freeRect.mWidth - pWidth;
+			final int leftoverVertical = freeRect.mHeight - pHeight;
+
+			final int score;
+			final int secondaryScore;
+			switch(this.mMaxRectsHeuristic) {
+				case BEST_SHORT_SIDE_FIT:
+					score = Math.min(leftoverHorizontal, leftoverVertical);
+					secondaryScore = Math.max(leftoverHorizontal, leftoverVertical);
+					break;
+				case BEST_LONG_SIDE_FIT:
+					score = Math.max(leftoverHorizontal, leftoverVertical);
+					secondaryScore = Math.min(leftoverHorizontal, leftoverVertical);
+					break;
+				case BEST_AREA_FIT:
+					score = freeRect.mWidth * freeRect.mHeight - pWidth * pHeight;
+					secondaryScore = Math.min(leftoverHorizontal, leftoverVertical);
+					break;
+				case BOTTOM_LEFT:
+					score = freeRect.mTop + pHeight;
+					secondaryScore = freeRect.mLeft;
+					break;
+				case CONTACT_POINT:
+					/* The more contact, the better. */
+					score = -this.getContactLength(freeRect.mLeft, freeRect.mTop, pWidth, pHeight);
+					secondaryScore = 0;
+					break;
+				default:
+					throw new IllegalArgumentException("Unexpected " + MaxRectsHeuristic.class.getSimpleName() + ": '" + this.mMaxRectsHeuristic + "'.");
+			}
+
+			if(score < bestScore || (score == bestScore && secondaryScore < bestSecondaryScore)) {
+				bestFreeRect = freeRect;
+				bestScore = score;
+				bestSecondaryScore = secondaryScore;
+			}
+		}
+
+		if(bestFreeRect == null) {
+			return false;
+		}
+
+		final Rect usedRect = new Rect(bestFreeRect.mLeft, bestFreeRect.mTop, pWidth, pHeight);
+
+		for(int i = freeRects.size() - 1; i >= 0; i--) {
+			if(this.splitFreeRect(freeRects.get(i), usedRect)) {
+				freeRects.remove(i);
+			}
+		}
+		this.pruneFreeRects();
+
+		this.mUsedRects.add(usedRect);
+
+		pPositionReuse[BaseTextureAtlasBuilder.POSITION_LEFT_INDEX] = usedRect.mLeft;
+		pPositionReuse[BaseTextureAtlasBuilder.POSITION_TOP_INDEX] = usedRect.mTop;
+		return true;
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Adds the parts of <code>pFreeRect</code> that are not covered by <code>pUsedRect</code> as new free rectangles.
+	 *
+	 * @return <code>true</code> when <code>pFreeRect</code> intersected <code>pUsedRect</code> and needs to be removed.
+	 */
+	private boolean splitFreeRect(final Rect pFreeRect, final Rect pUsedRect) {
+		if(!pFreeRect.intersects(pUsedRect)) {
+			return false;
+		}
+
+		final ArrayList<Rect> freeRects = this.mFreeRects;
+
+		/* Above and below the used rectangle. */
+		if(pUsedRect.mTop > pFreeRect.mTop) {
+			freeRects.add(new Rect(pFreeRect.mLeft, pFreeRect.mTop, pFreeRect.mWidth, pUsedRect.mTop - pFreeRect.mTop));
+		}
+		if(pUsedRect.getBottom() < pFreeRect.getBottom()) {
+			freeRects.add(new Rect(pFreeRect.mLeft, pUsedRect.getBottom(), pFreeRect.mWidth, pFreeRect.getBottom() - pUsedRect.getBottom()));
+		}
+
+		/* Left and right of the used rectangle. */
+		if(pUsedRect.mLeft > pFreeRect.mLeft) {
+			freeRects.add(new Rect(pFreeRect.mLeft, pFreeRect.mTop, pUsedRect.mLeft - pFreeRect.mLeft, pFreeRect.mHeight));
+		}
+		if(pUsedRect.getRight() < pFreeRect.getRight()) {
+			freeRects.add(new Rect(pUsedRect.getRight(), pFreeRect.mTop, pFreeRect.getRight() - pUsedRect.getRight(), pFreeRect.mHeight));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Removes the free rectangles that lie completely inside another one.
+	 */
+	private void pruneFreeRects() {
+		final ArrayList<Rect> freeRects = this.mFreeRects;
+
+		for(int i = 0; i < freeRects.size(); i++) {
+			final Rect freeRectA = freeRects.get(i);
+			for(int j = i + 1; j < freeRects.size(); j++) {
+				final Rect freeRectB = freeRects.get(j);
+				if(freeRectB.contains(freeRectA)) {
+					freeRects.remove(i);
+					i--;
+					break;
+				} else if(freeRectA.contains(freeRectB)) {
+					freeRects.remove(j);
+					j--;
+				}
+			}
+		}
+	}
+
+	private int getContactLength(final int pLeft, final int pTop, final int pWidth, final int pHeight) {
+		final int right = pLeft + pWidth;
+		final int bottom = pTop + pHeight;
+
+		int contactLength = 0;
+
+		if(pLeft == 0 || right == this.mBinWidth) {
+			contactLength += pHeight;
+		}
+		if(pTop == 0 || bottom == this.mBinHeight) {
+			contactLength += pWidth;
+		}
+
+		final ArrayList<Rect> usedRects = this.mUsedRects;
+		for(int i = usedRects.size() - 1; i >= 0; i--) {
+			final Rect usedRect = usedRects.get(i);
+			if(usedRect.mLeft == right || usedRect.getRight() == pLeft) {
+				contactLength += MaxRectsTextureAtlasBuilder.getOverlapLength(usedRect.mTop, usedRect.getBottom(), pTop, bottom);
+			}
+			if(usedRect.mTop == bottom || usedRect.getBottom() == pTop) {
+				contactLength += MaxRectsTextureAtlasBuilder.getOverlapLength(usedRect.mLeft, usedRect.getRight(), pLeft, right);
+			}
+		}
+
+		return contactLength;
+	}
+
+	private static int getOverlapLength(final int pStartA, final int pEndA, final int pStartB, final int pEndB) {
+		return Math.max(0, Math.min(pEndA, pEndB) - Math.max(pStartA, pStartB));
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	public static enum MaxRectsHeuristic {
+		// ===========================================================
+		// Elements
+		// ===========================================================
+
+		/** Places into the free rectangle whose shorter leftover side is the smallest. Usually the best choice. */
+		BEST_SHORT_SIDE_FIT,
+		/** Places into the free rectangle whose longer leftover side is the smallest. */
+		BEST_LONG_SIDE_FIT,
+		/** Places into the smallest free rectangle. */
+		BEST_AREA_FIT,
+		/** Places as far up as possible, then as far left as possible (Tetris style). */
+		BOTTOM_LEFT,
+		/** Places where the most of the perimeter touches the border or already placed rectangles. The slowest one. */
+		CONTACT_POINT;
+	}
+
+	private static class Rect {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private final int mLeft;
+		private final int mTop;
+		private final int mWidth;
+		private final int mHeight;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public Rect(final int pLeft, final int pTop, final int pWidth, final int pHeight) {
+			this.mLeft = pLeft;
+			this.mTop = pTop;
+			this.mWidth = pWidth;
+			this.mHeight = pHeight;
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		public int getRight() {
+			return this.mLeft + this.mWidth;
+		}
+
+		public int getBottom() {
+			return this.mTop + this.mHeight;
+		}
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public String toString() {
+			return "@: " + this.mLeft + "/" + this.mTop + " * " + this.mWidth + "x" + this.mHeight;
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		public boolean intersects(final Rect pRect) {
+			return pRect.mLeft < this.getRight() && pRect.getRight() > this.mLeft && pRect.mTop < this.getBottom() && pRect.getBottom() > this.mTop;
+		}
+
+		public boolean contains(final Rect pRect) {
+			return pRect.mLeft >= this.mLeft && pRect.mTop >= this.mTop && pRect.getRight() <= this.getRight() && pRect.getBottom() <= this.getBottom();
+		}
+	}
+}
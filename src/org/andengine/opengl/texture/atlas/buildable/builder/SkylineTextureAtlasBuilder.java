@@ -0,0 +1,276 @@
+package org.andengine.opengl.texture.atlas.buildable.builder;
+
+import java.util.ArrayList;
+
+import org.andengine.opengl.texture.atlas.ITextureAtlas;
+import org.andengine.opengl.texture.atlas.source.ITextureAtlasSource;
+
+/**
+ * Only keeps the skyline of the bin, the top contour of everything placed so far, and places each {@link ITextureAtlasSource} on top of it.
+ * Faster than the {@link MaxRectsTextureAtlasBuilder}, with slightly lower occupancy, as the space below an overhang is lost.
+ *
+ * @author agent <agent@local>
+ * @since 06:56:17 - 19.10.2026
+ * @see http://clb.demon.fi/files/RectangleBinPack.pdf
+ */
+public class SkylineTextureAtlasBuilder<T extends ITextureAtlasSource, A extends ITextureAtlas<T>> extends BaseTextureAtlasBuilder<T, A> {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final SkylineHeuristic mSkylineHeuristic;
+
+	private int mBinWidth;
+	private int mBinHeight;
+
+	/** Sorted from left to right, covering the whole width of the bin. */
+	private final ArrayList<SkylineSegment> mSkyline = new ArrayList<SkylineSegment>();
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * Uses {@link SkylineHeuristic#BOTTOM_LEFT}.
+	 *
+	 * @param pTextureAtlasBorderSpacing the minimum spacing between the border of the texture and the {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourceSpacing the spacing between the different {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourcePadding the transparent padding around each {@link ITextureAtlasSource} (prevents texture bleeding).
+	 */
+	public SkylineTextureAtlasBuilder(final int pTextureAtlasBorderSpacing, final int pTextureAtlasSourceSpacing, final int pTextureAtlasSourcePadding) {
+		this(pTextureAtlasBorderSpacing, pTextureAtlasSourceSpacing, pTextureAtlasSourcePadding, SkylineHeuristic.BOTTOM_LEFT);
+	}
+
+	/**
+	 * @param pTextureAtlasBorderSpacing the minimum spacing between the border of the texture and the {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourceSpacing the spacing between the different {@link ITextureAtlasSource}s.
+	 * @param pTextureAtlasSourcePadding the transparent padding around each {@link ITextureAtlasSource} (prevents texture bleeding).
+	 * @param pSkylineHeuristic how the position on the skyline for each {@link ITextureAtlasSource} is chosen.
+	 */
+	public SkylineTextureAtlasBuilder(final int pTextureAtlasBorderSpacing, final int pTextureAtlasSourceSpacing, final int pTextureAtlasSourcePadding, final SkylineHeuristic pSkylineHeuristic) {
+		super(pTextureAtlasBorderSpacing, pTextureAtlasSourceSpacing, pTextureAtlasSourcePadding);
+
+		this.mSkylineHeuristic = pSkylineHeuristic;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public SkylineHeuristic getSkylineHeuristic() {
+		return this.mSkylineHeuristic;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	protected void reset(final int pBinWidth, final int pBinHeight) {
+		this.mBinWidth = pBinWidth;
+		this.mBinHeight = pBinHeight;
+
+		this.mSkyline.clear();
+		this.mSkyline.add(new SkylineSegment(0, 0, pBinWidth));
+	}
+
+	@Override
+	protected boolean insert(final int pWidth, final int pHeight, final int[] pPositionReuse) {
+		final ArrayList<SkylineSegment> skyline = this.mSkyline;
+
+		int bestIndex = -1;
+		int bestTop = 0;
+		int bestScore = Integer.MAX_VALUE;
+		int bestSecondaryScore = Integer.MAX_VALUE;
+
+		final int skylineSegmentCount = skyline.size();
+		for(int i = 0; i < skylineSegmentCount; i++) {
+			final int top = this.getTop(i, pWidth, pHeight);
+			if(top < 0) {
+				continue;
+			}
+
+			final int score;
+			final int secondaryScore;
+			switch(this.mSkylineHeuristic) {
+				case BOTTOM_LEFT:
+					score = top + pHeight;
+					secondaryScore = skyline.get(i).mWidth;
+					break;
+				case MIN_WASTE:
+					score = this.getWastedArea(i, pWidth, top);
+					secondaryScore = top + pHeight;
+					break;
+				default:
+					throw new IllegalArgumentException("Unexpected " + SkylineHeuristic.class.getSimpleName() + ": '" + this.mSkylineHeuristic + "'.");
+			}
+
+			if(score < bestScore || (score == bestScore && secondaryScore < bestSecondaryScore)) {
+				bestIndex = i;
+				bestTop = top;
+				bestScore = score;
+				bestSecondaryScore = secondaryScore;
+			}
+		}
+
+		if(bestIndex == -1) {
+			return false;
+		}
+
+		final int left = skyline.get(bestIndex).mLeft;
+		this.addSkylineSegment(bestIndex, left, bestTop + pHeight, pWidth);
+
+		pPositionReuse[BaseTextureAtlasBuilder.POSITION_LEFT_INDEX] = left;
+		pPositionReuse[BaseTextureAtlasBuilder.POSITION_TOP_INDEX] = bestTop;
+		return true;
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @return the top at which a rectangle starting at the left of the skyline segment at <code>pIndex</code> would rest, or <code>-1</code> when it does not fit there.
+	 */
+	private int getTop(final int pIndex, final int pWidth, final int pHeight) {
+		final ArrayList<SkylineSegment> skyline = this.mSkyline;
+
+		if(skyline.get(pIndex).mLeft + pWidth > this.mBinWidth) {
+			return -1;
+		}
+
+		int top = 0;
+		int widthLeft = pWidth;
+		for(int i = pIndex; widthLeft > 0; i++) {
+			final SkylineSegment skylineSegment = skyline.get(i);
+
+			top = Math.max(top, skylineSegment.mTop);
+			if(top + pHeight > this.mBinHeight) {
+				return -1;
+			}
+
+			widthLeft -= skylineSegment.mWidth;
+		}
+		return top;
+	}
+
+	/**
+	 * @return the area between the skyline and a rectangle resting at <code>pTop</code>, that would be lost.
+	 */
+	private int getWastedArea(final int pIndex, final int pWidth, final int pTop) {
+		final ArrayList<SkylineSegment> skyline = this.mSkyline;
+
+		final int right = skyline.get(pIndex).mLeft + pWidth;
+
+		int wastedArea = 0;
+		for(int i = pIndex; i < skyline.size(); i++) {
+			final SkylineSegment skylineSegment = skyline.get(i);
+			if(skylineSegment.mLeft >= right) {
+				break;
+			}
+
+			final int skylineSegmentRight = Math.min(skylineSegment.mLeft + skylineSegment.mWidth, right);
+			wastedArea += (skylineSegmentRight - skylineSegment.mLeft) * (pTop - skylineSegment.mTop);
+		}
+		return wastedArea;
+	}
+
+	private void addSkylineSegment(final int pIndex, final int pLeft, final int pTop, final int pWidth) {
+		final ArrayList<SkylineSegment> skyline = this.mSkyline;
+
+		skyline.add(pIndex, new SkylineSegment(pLeft, pTop, pWidth));
+
+		/* Cut away what is now covered by the new skyline segment. */
+		final int right = pLeft + pWidth;
+		for(int i = pIndex + 1; i < skyline.size(); i++) {
+			final SkylineSegment skylineSegment = skyline.get(i);
+			if(skylineSegment.mLeft >= right) {
+				break;
+			}
+
+			final int skylineSegmentRight = skylineSegment.mLeft + skylineSegment.mWidth;
+			if(skylineSegmentRight <= right) {
+				skyline.remove(i);
+				i--;
+			} else {
+				skylineSegment.mLeft = right;
+				skylineSegment.mWidth = skylineSegmentRight - right;
+				break;
+			}
+		}
+
+		/* Merge neighbors of the same height. */
+		for(int i = skyline.size() - 2; i >= 0; i--) {
+			final SkylineSegment skylineSegment = skyline.get(i);
+			final SkylineSegment nextSkylineSegment = skyline.get(i + 1);
+			if(skylineSegment.mTop == nextSkylineSegment.mTop) {
+				skylineSegment.mWidth += nextSkylineSegment.mWidth;
+				skyline.remove(i + 1);
+			}
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	public static enum SkylineHeuristic {
+		// ===========================================================
+		// Elements
+		// ===========================================================
+
+		/** Places where the rectangle reaches down the least, then on the narrowest skyline segment. */
+		BOTTOM_LEFT,
+		/** Places where the least area below the rectangle is lost. */
+		MIN_WASTE;
+	}
+
+	private static class SkylineSegment {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private int mLeft;
+		private final int mTop;
+		private int mWidth;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public SkylineSegment(final int pLeft, final int pTop, final int pWidth) {
+			this.mLeft = pLeft;
+			this.mTop = pTop;
+			this.mWidth = pWidth;
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public String toString() {
+			return "@: " + this.mLeft + "/" + this.mTop + " * " + this.mWidth;
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		// ===========================================================
+		// Inner and Anonymous Classes
+		// ===========================================================
+	}
+}
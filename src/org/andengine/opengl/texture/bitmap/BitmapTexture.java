@@ -116,6 +116,7 @@ public class BitmapTexture extends Texture {
 		final boolean preMultipyAlpha = this.mTextureOptions.mPreMultiplyAlpha;
 		if(preMultipyAlpha) {
 			GLUtils.texImage2D(GLES20.GL_TEXTURE_2D, 0, bitmap, 0);
+			GLState.recordTextureUpload(bitmap.getWidth(), bitmap.getHeight(), this.mPixelFormat);
 		} else {
 			pGLState.glTexImage2D(GLES20.GL_TEXTURE_2D, 0, bitmap, 0, this.mPixelFormat);
 		}
@@ -14,6 +14,7 @@ import org.andengine.opengl.texture.TextureOptions;
 import org.andengine.opengl.texture.compressed.pvr.pixelbufferstrategy.IPVRTexturePixelBufferStrategy;
 import org.andengine.util.StreamUtils;
 import org.andengine.util.adt.array.ArrayUtils;
+import org.andengine.util.adt.pool.GenericPool;
 
 /**
  * (c) 2010 Nicolas Gramlich
@@ -90,8 +91,9 @@ public abstract class PVRCCZTexture extends PVRTexture {
 	public ByteBuffer getPVRTextureBuffer() throws IOException {
 		final InputStream inputStream = this.getInputStream();
 		try {
+			/* Inflate straight into the result, without an intermediate copy. */
 			final byte[] data = new byte[this.mCCZHeader.getUncompressedSize()];
-			StreamUtils.copy(inputStream, data);
+			StreamUtils.streamToBytes(inputStream, data.length, data);
 			return ByteBuffer.wrap(data);
 		} finally {
 			StreamUtils.close(inputStream);
@@ -183,6 +185,71 @@ public abstract class PVRCCZTexture extends PVRTexture {
 		// ===========================================================
 	}
 
+	/**
+	 * Inflates with an {@link Inflater} from {@link PooledInflaterInputStream#INFLATER_POOL}, so its native buffers don't have to be allocated for every texture.
+	 * The {@link Inflater} is returned to the pool when this stream is closed.
+	 */
+	private static class PooledInflaterInputStream extends InflaterInputStream {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		private static final GenericPool<Inflater> INFLATER_POOL = new GenericPool<Inflater>() {
+			@Override
+			protected Inflater onAllocatePoolItem() {
+				return new Inflater();
+			}
+
+			@Override
+			protected void onHandleRecycleItem(final Inflater pInflater) {
+				pInflater.reset();
+			}
+		};
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private boolean mClosed;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public PooledInflaterInputStream(final InputStream pInputStream) {
+			super(pInputStream, PooledInflaterInputStream.INFLATER_POOL.obtainPoolItem(), StreamUtils.IO_BUFFER_SIZE);
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public void close() throws IOException {
+			if(!this.mClosed) {
+				this.mClosed = true;
+
+				try {
+					super.close();
+				} finally {
+					PooledInflaterInputStream.INFLATER_POOL.recyclePoolItem(this.inf);
+				}
+			}
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		// ===========================================================
+		// Inner and Anonymous Classes
+		// ===========================================================
+	}
+
 	public static enum CCZCompressionFormat {
 		// ===========================================================
 		// Elements
@@ -216,7 +283,7 @@ public abstract class PVRCCZTexture extends PVRTexture {
 				case GZIP:
 					return new GZIPInputStream(pInputStream);
 				case ZLIB:
-					return new InflaterInputStream(pInputStream, new Inflater());
+					return new PooledInflaterInputStream(pInputStream);
 				case NONE:
 				case BZIP2:
 				default:
@@ -14,11 +14,11 @@ import org.andengine.opengl.texture.TextureOptions;
 import org.andengine.opengl.texture.compressed.pvr.pixelbufferstrategy.GreedyPVRTexturePixelBufferStrategy;
 import org.andengine.opengl.texture.compressed.pvr.pixelbufferstrategy.IPVRTexturePixelBufferStrategy;
 import org.andengine.opengl.texture.compressed.pvr.pixelbufferstrategy.IPVRTexturePixelBufferStrategy.IPVRTexturePixelBufferStrategyBufferManager;
+import org.andengine.opengl.texture.compressed.pvr.pixelbufferstrategy.MappedPVRTexturePixelBufferStrategy;
 import org.andengine.opengl.util.GLState;
 import org.andengine.util.StreamUtils;
 import org.andengine.util.adt.DataConstants;
 import org.andengine.util.adt.array.ArrayUtils;
-import org.andengine.util.adt.io.out.ByteBufferOutputStream;
 import org.andengine.util.debug.Debug;
 import org.andengine.util.math.MathUtils;
 
@@ -197,12 +197,16 @@ public abstract class PVRTexture extends Texture {
 	// Methods
 	// ===========================================================
 
+	/**
+	 * @return the header and the pixel data of all levels, read at once into a buffer of exactly the size stated in the {@link PVRTextureHeader}.
+	 * @see {@link MappedPVRTexturePixelBufferStrategy} to avoid the copy for file-backed {@link PVRTexture}s.
+	 */
 	public ByteBuffer getPVRTextureBuffer() throws IOException {
 		final InputStream inputStream = this.getInputStream();
 		try {
-			final ByteBufferOutputStream os = new ByteBufferOutputStream(DataConstants.BYTES_PER_KILOBYTE, DataConstants.BYTES_PER_MEGABYTE / 2);
-			StreamUtils.copy(inputStream, os);
-			return os.toByteBuffer();
+			final byte[] data = new byte[PVRTextureHeader.SIZE + this.mPVRTextureHeader.getDataLength()];
+			StreamUtils.streamToBytes(inputStream, data.length, data);
+			return ByteBuffer.wrap(data);
 		} finally {
 			StreamUtils.close(inputStream);
 		}
@@ -7,6 +7,7 @@ import java.nio.ByteBuffer;
 import org.andengine.opengl.texture.PixelFormat;
 import org.andengine.opengl.texture.compressed.pvr.PVRTexture;
 import org.andengine.opengl.texture.compressed.pvr.PVRTexture.PVRTextureHeader;
+import org.andengine.opengl.util.GLState;
 
 import android.opengl.GLES20;
 
@@ -49,6 +50,7 @@ public class GreedyPVRTexturePixelBufferStrategy implements IPVRTexturePixelBuff
 
 		/* Send to hardware. */
 		GLES20.glTexImage2D(GLES20.GL_TEXTURE_2D, pLevel, pPixelFormat.getGLInternalFormat(), pWidth, pHeight, 0, pPixelFormat.getGLFormat(), pPixelFormat.getGLType(), pixelBuffer);
+		GLState.recordTextureUpload(pWidth, pHeight, pPixelFormat);
 	}
 
 	// ===========================================================
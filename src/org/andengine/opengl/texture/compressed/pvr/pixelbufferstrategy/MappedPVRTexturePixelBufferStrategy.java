@@ -0,0 +1,131 @@
+package org.andengine.opengl.texture.compressed.pvr.pixelbufferstrategy;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.andengine.opengl.texture.PixelFormat;
+import org.andengine.opengl.texture.compressed.pvr.PVRTexture;
+import org.andengine.opengl.texture.compressed.pvr.PVRTexture.PVRTextureHeader;
+import org.andengine.opengl.util.GLState;
+import org.andengine.util.StreamUtils;
+import org.andengine.util.debug.Debug;
+
+import android.opengl.GLES20;
+
+/**
+ * Maps the file of a {@link PVRTexture} into memory and hands slices of the mapping straight to {@link GLES20#glTexImage2D(int, int, int, int, int, int, int, int, Buffer)},
+ * so the pixel data is never copied onto the heap. Requires {@link PVRTexture#getInputStream()} to return a {@link FileInputStream},
+ * i.e. of a file or of an uncompressed asset opened through an {@link android.content.res.AssetFileDescriptor}. Otherwise it falls back to {@link PVRTexture#getPVRTextureBuffer()}.
+ *
+ * @author agent <agent@local>
+ * @since 06:46:33 - 19.10.2026
+ */
+public class MappedPVRTexturePixelBufferStrategy implements IPVRTexturePixelBufferStrategy {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public IPVRTexturePixelBufferStrategyBufferManager newPVRTexturePixelBufferStrategyManager(final PVRTexture pPVRTexture) throws IOException {
+		return new MappedPVRTexturePixelBufferStrategyBufferManager(pPVRTexture);
+	}
+
+	@Override
+	public void loadPVRTextureData(final IPVRTexturePixelBufferStrategyBufferManager pPVRTexturePixelBufferStrategyManager, final int pWidth, final int pHeight, final int pBytesPerPixel, final PixelFormat pPixelFormat, final int pLevel, final int pCurrentPixelDataOffset, final int pCurrentPixelDataSize) throws IOException {
+		/* Adjust buffer. */
+		final Buffer pixelBuffer = pPVRTexturePixelBufferStrategyManager.getPixelBuffer(PVRTextureHeader.SIZE + pCurrentPixelDataOffset, pCurrentPixelDataSize);
+
+		/* Send to hardware. */
+		GLES20.glTexImage2D(GLES20.GL_TEXTURE_2D, pLevel, pPixelFormat.getGLInternalFormat(), pWidth, pHeight, 0, pPixelFormat.getGLFormat(), pPixelFormat.getGLType(), pixelBuffer);
+		GLState.recordTextureUpload(pWidth, pHeight, pPixelFormat);
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	public static class MappedPVRTexturePixelBufferStrategyBufferManager implements IPVRTexturePixelBufferStrategyBufferManager {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private final ByteBuffer mByteBuffer;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public MappedPVRTexturePixelBufferStrategyBufferManager(final PVRTexture pPVRTexture) throws IOException {
+			final InputStream inputStream = pPVRTexture.getInputStream();
+			if(inputStream instanceof FileInputStream) {
+				try {
+					final FileChannel fileChannel = ((FileInputStream)inputStream).getChannel();
+
+					/* The stream may start in the middle of the file, i.e. for an asset inside of the APK. The mapping stays valid after the channel is closed. */
+					final int byteCount = PVRTextureHeader.SIZE + pPVRTexture.getPVRTextureHeader().getDataLength();
+					this.mByteBuffer = fileChannel.map(MapMode.READ_ONLY, fileChannel.position(), byteCount);
+				} finally {
+					StreamUtils.close(inputStream);
+				}
+			} else {
+				StreamUtils.close(inputStream);
+
+				Debug.w("The " + PVRTexture.class.getSimpleName() + " is not backed by a file and can't be mapped: '" + pPVRTexture + "'.");
+				this.mByteBuffer = pPVRTexture.getPVRTextureBuffer();
+			}
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public ByteBuffer getPixelBuffer(final int pStart, final int pByteCount) {
+			this.mByteBuffer.limit(pStart + pByteCount);
+			this.mByteBuffer.position(pStart);
+
+			return this.mByteBuffer.slice();
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		// ===========================================================
+		// Inner and Anonymous Classes
+		// ===========================================================
+	}
+}
@@ -8,6 +8,7 @@ import java.nio.ByteBuffer;
 import org.andengine.opengl.texture.PixelFormat;
 import org.andengine.opengl.texture.compressed.pvr.PVRTexture;
 import org.andengine.opengl.texture.compressed.pvr.PVRTexture.PVRTextureHeader;
+import org.andengine.opengl.util.GLState;
 import org.andengine.util.StreamUtils;
 import org.andengine.util.exception.AndEngineRuntimeException;
 
@@ -74,6 +75,7 @@ public class SmartPVRTexturePixelBufferStrategy implements IPVRTexturePixelBuffe
 
 			/* Send to hardware. */
 			GLES20.glTexSubImage2D(GLES20.GL_TEXTURE_2D, pLevel, 0, currentStripeOffsetY, pWidth, currentStripeHeight, glFormat, glType, pixelBuffer);
+			GLState.recordTextureUpload(pWidth, currentStripeHeight, pPixelFormat);
 
 			currentStripePixelDataOffset += currentStripePixelDataSize;
 			currentStripeOffsetY += currentStripeHeight;
@@ -113,9 +113,29 @@ public class RenderTexture extends Texture {
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
 
+	/**
+	 * The content of a {@link RenderTexture} can't be reloaded.
+	 */
+	@Override
+	public boolean isEvictable() {
+		return false;
+	}
+
+	/**
+	 * Also forgets the framebuffer, which is lost together with the texture when the GL context is lost. {@link RenderTexture#init(GLState)} needs to be called again afterwards.
+	 */
+	@Override
+	public void setNotLoadedToHardware() {
+		super.setNotLoadedToHardware();
+
+		this.mFramebufferObjectID = 0;
+		this.mInitialized = false;
+	}
+
 	@Override
 	protected void writeTextureToHardware(final GLState pGLState) {
 		GLES20.glTexImage2D(GLES20.GL_TEXTURE_2D, 0, this.mPixelFormat.getGLInternalFormat(), this.mWidth, this.mHeight, 0, this.mPixelFormat.getGLFormat(), this.mPixelFormat.getGLType(), null);
+		GLState.recordTextureUpload(this.mWidth, this.mHeight, this.mPixelFormat);
 	}
 
 	// ===========================================================
@@ -0,0 +1,197 @@
+package org.andengine.opengl.texture.render;
+
+import java.util.ArrayList;
+
+import org.andengine.opengl.exception.GLException;
+import org.andengine.opengl.texture.PixelFormat;
+import org.andengine.opengl.texture.TextureManager;
+import org.andengine.opengl.texture.TextureOptions;
+import org.andengine.opengl.util.GLState;
+
+import android.util.SparseArray;
+
+/**
+ * Shares {@link RenderTexture}s between effects that only need a render target for a short time, i.e. for one pass of a post-processing chain or a screen transition.
+ * The general workflow is: {@link RenderTexturePool#obtain(GLState, int, int, PixelFormat)} -> {@link RenderTexture#begin(GLState)} -> {@link RenderTexture#end(GLState)} -> draw the {@link RenderTexture} -> {@link RenderTexturePool#recycle(GLState, RenderTexture)}.
+ * <p/>
+ * {@link RenderTexture}s are pooled by size class and {@link PixelFormat}. The size class rounds the requested width and height up to a multiple of {@link RenderTexturePool#SIZE_CLASS_GRANULARITY},
+ * so an obtained {@link RenderTexture} may be slightly bigger than requested. Only its region from <code>(0, 0)</code> to <code>(pWidth, pHeight)</code> should be used then,
+ * which works without further changes, as {@link RenderTexture#begin(GLState)} maps one unit to one pixel.
+ * <p/>
+ * All methods need to be called on the GL thread.
+ *
+ * @author agent <agent@local>
+ * @since 06:29:28 - 19.10.2026
+ */
+public class RenderTexturePool {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int SIZE_CLASS_GRANULARITY = 64;
+	public static final int FREE_RENDERTEXTURES_PER_SIZE_CLASS_MAXIMUM_DEFAULT = 2;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final TextureManager mTextureManager;
+	private final TextureOptions mTextureOptions;
+	private final int mFreeRenderTexturesPerSizeClassMaximum;
+
+	private final SparseArray<ArrayList<RenderTexture>> mFreeRenderTextures = new SparseArray<ArrayList<RenderTexture>>();
+	private final ArrayList<RenderTexture> mObtainedRenderTextures = new ArrayList<RenderTexture>();
+	private int mFreeRenderTextureCount;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public RenderTexturePool(final TextureManager pTextureManager, final TextureOptions pTextureOptions) {
+		this(pTextureManager, pTextureOptions, RenderTexturePool.FREE_RENDERTEXTURES_PER_SIZE_CLASS_MAXIMUM_DEFAULT);
+	}
+
+	/**
+	 * @param pFreeRenderTexturesPerSizeClassMaximum how many {@link RenderTexture}s of each size class and {@link PixelFormat} are kept when they are recycled. Any further ones are destroyed.
+	 */
+	public RenderTexturePool(final TextureManager pTextureManager, final TextureOptions pTextureOptions, final int pFreeRenderTexturesPerSizeClassMaximum) {
+		this.mTextureManager = pTextureManager;
+		this.mTextureOptions = pTextureOptions;
+		this.mFreeRenderTexturesPerSizeClassMaximum = pFreeRenderTexturesPerSizeClassMaximum;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public TextureOptions getTextureOptions() {
+		return this.mTextureOptions;
+	}
+
+	public int getFreeRenderTextureCount() {
+		return this.mFreeRenderTextureCount;
+	}
+
+	public int getObtainedRenderTextureCount() {
+		return this.mObtainedRenderTextures.size();
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @return an initialized {@link RenderTexture} that is at least <code>pWidth</code> x <code>pHeight</code> big. It needs to be returned with {@link RenderTexturePool#recycle(GLState, RenderTexture)}.
+	 * @throws GLException when a new {@link RenderTexture} could not be initialized.
+	 */
+	public RenderTexture obtain(final GLState pGLState, final int pWidth, final int pHeight, final PixelFormat pPixelFormat) throws GLException {
+		if(pWidth <= 0 || pHeight <= 0) {
+			throw new IllegalArgumentException("pWidth and pHeight must be greater than 0.");
+		}
+
+		final int sizeClassWidth = RenderTexturePool.getSizeClass(pWidth);
+		final int sizeClassHeight = RenderTexturePool.getSizeClass(pHeight);
+
+		final ArrayList<RenderTexture> freeRenderTextures = this.mFreeRenderTextures.get(RenderTexturePool.getKey(sizeClassWidth, sizeClassHeight, pPixelFormat));
+
+		final RenderTexture renderTexture;
+		if(freeRenderTextures == null || freeRenderTextures.isEmpty()) {
+			renderTexture = new RenderTexture(this.mTextureManager, sizeClassWidth, sizeClassHeight, pPixelFormat, this.mTextureOptions);
+			renderTexture.init(pGLState);
+		} else {
+			renderTexture = freeRenderTextures.remove(freeRenderTextures.size() - 1);
+			this.mFreeRenderTextureCount--;
+		}
+
+		this.mObtainedRenderTextures.add(renderTexture);
+
+		return renderTexture;
+	}
+
+	/**
+	 * @param pRenderTexture a {@link RenderTexture} previously obtained from this {@link RenderTexturePool}. It must not be used afterwards.
+	 */
+	public void recycle(final GLState pGLState, final RenderTexture pRenderTexture) {
+		if(!this.mObtainedRenderTextures.remove(pRenderTexture)) {
+			throw new IllegalArgumentException("pRenderTexture was not obtained from this " + this.getClass().getSimpleName() + ".");
+		}
+
+		/* When the GL context was lost in the meantime, there is nothing left to be reused. */
+		if(!pRenderTexture.isInitialized()) {
+			return;
+		}
+
+		final int key = RenderTexturePool.getKey(pRenderTexture.getWidth(), pRenderTexture.getHeight(), pRenderTexture.getPixelFormat());
+
+		ArrayList<RenderTexture> freeRenderTextures = this.mFreeRenderTextures.get(key);
+		if(freeRenderTextures == null) {
+			freeRenderTextures = new ArrayList<RenderTexture>(this.mFreeRenderTexturesPerSizeClassMaximum);
+			this.mFreeRenderTextures.put(key, freeRenderTextures);
+		}
+
+		if(freeRenderTextures.size() < this.mFreeRenderTexturesPerSizeClassMaximum) {
+			freeRenderTextures.add(pRenderTexture);
+			this.mFreeRenderTextureCount++;
+		} else {
+			pRenderTexture.destroy(pGLState);
+		}
+	}
+
+	/**
+	 * Destroys all free {@link RenderTexture}s, i.e. when leaving a scene that used effects heavily. Obtained {@link RenderTexture}s are not affected.
+	 */
+	public void clear(final GLState pGLState) {
+		final SparseArray<ArrayList<RenderTexture>> freeRenderTextures = this.mFreeRenderTextures;
+		for(int i = freeRenderTextures.size() - 1; i >= 0; i--) {
+			final ArrayList<RenderTexture> renderTextures = freeRenderTextures.valueAt(i);
+			for(int j = renderTextures.size() - 1; j >= 0; j--) {
+				renderTextures.get(j).destroy(pGLState);
+			}
+			renderTextures.clear();
+		}
+		this.mFreeRenderTextureCount = 0;
+	}
+
+	/**
+	 * Forgets all free {@link RenderTexture}s and marks the obtained ones as not initialized, as the GL context they lived in is lost.
+	 */
+	public void onReload() {
+		final SparseArray<ArrayList<RenderTexture>> freeRenderTextures = this.mFreeRenderTextures;
+		for(int i = freeRenderTextures.size() - 1; i >= 0; i--) {
+			final ArrayList<RenderTexture> renderTextures = freeRenderTextures.valueAt(i);
+			for(int j = renderTextures.size() - 1; j >= 0; j--) {
+				renderTextures.get(j).setNotLoadedToHardware();
+			}
+			renderTextures.clear();
+		}
+		this.mFreeRenderTextureCount = 0;
+
+		final ArrayList<RenderTexture> obtainedRenderTextures = this.mObtainedRenderTextures;
+		for(int i = obtainedRenderTextures.size() - 1; i >= 0; i--) {
+			obtainedRenderTextures.get(i).setNotLoadedToHardware();
+		}
+	}
+
+	public void onDestroy() {
+		this.onReload();
+
+		this.mObtainedRenderTextures.clear();
+		this.mFreeRenderTextures.clear();
+	}
+
+	private static int getSizeClass(final int pSize) {
+		return ((pSize + RenderTexturePool.SIZE_CLASS_GRANULARITY - 1) / RenderTexturePool.SIZE_CLASS_GRANULARITY) * RenderTexturePool.SIZE_CLASS_GRANULARITY;
+	}
+
+	private static int getKey(final int pSizeClassWidth, final int pSizeClassHeight, final PixelFormat pPixelFormat) {
+		return (pPixelFormat.ordinal() << 24) | ((pSizeClassWidth / RenderTexturePool.SIZE_CLASS_GRANULARITY) << 12) | (pSizeClassHeight / RenderTexturePool.SIZE_CLASS_GRANULARITY);
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
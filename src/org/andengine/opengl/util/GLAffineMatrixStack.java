@@ -0,0 +1,332 @@
+package org.andengine.opengl.util;
+
+import org.andengine.opengl.util.GLMatrixStack.GLMatrixStackOverflowException;
+import org.andengine.opengl.util.GLMatrixStack.GLMatrixStackUnderflowException;
+import org.andengine.util.math.MathConstants;
+
+import android.opengl.Matrix;
+import android.util.FloatMath;
+
+/**
+ * A {@link GLMatrixStack} for 2D affine matrices, which only keeps the 6 relevant values of each matrix:
+ * <pre> [ a , c , tx ]
+ * [ b , d , ty ]</pre>
+ * Multiplying two such matrices takes 12 multiplications instead of the 64 of two 4x4 matrices.
+ * The matrix is only expanded to 4x4 when it is needed as such, i.e. when it is uploaded to a shader.
+ * <p/>
+ * The z components of translations and scales are ignored. Rotations around any other axis than the z axis are projected onto the xy plane,
+ * which is exact as long as no two of them are nested.
+ *
+ * @author agent <agent@local>
+ * @since 06:34:21 - 19.10.2026
+ */
+public class GLAffineMatrixStack {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int GLAFFINEMATRIX_SIZE = 6;
+
+	private static final int GLAFFINEMATRIX_A_INDEX = 0;
+	private static final int GLAFFINEMATRIX_B_INDEX = 1;
+	private static final int GLAFFINEMATRIX_C_INDEX = 2;
+	private static final int GLAFFINEMATRIX_D_INDEX = 3;
+	private static final int GLAFFINEMATRIX_TX_INDEX = 4;
+	private static final int GLAFFINEMATRIX_TY_INDEX = 5;
+
+	private static final int GLAFFINEMATRIXSTACKOFFSET_UNDERFLOW = -1 * GLAffineMatrixStack.GLAFFINEMATRIX_SIZE;
+	private static final int GLAFFINEMATRIXSTACKOFFSET_OVERFLOW = GLMatrixStack.GLMATRIXSTACK_DEPTH_MAX * GLAffineMatrixStack.GLAFFINEMATRIX_SIZE;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	final float[] mMatrixStack = new float[GLMatrixStack.GLMATRIXSTACK_DEPTH_MAX * GLAffineMatrixStack.GLAFFINEMATRIX_SIZE];
+	int mMatrixStackOffset;
+
+	private final float[] mTemp = new float[GLMatrixStack.GLMATRIX_SIZE];
+
+	/**
+	 * @see GLMatrixStack#getGeneration()
+	 */
+	private final int[] mGenerations = new int[GLMatrixStack.GLMATRIXSTACK_DEPTH_MAX];
+	private int mGenerationCounter;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public GLAffineMatrixStack() {
+		this.glLoadIdentity();
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	/**
+	 * @param pMatrix the current (top) matrix expanded to a column-major 4x4 matrix.
+	 */
+	public void getMatrix(final float[] pMatrix) {
+		final float[] matrixStack = this.mMatrixStack;
+		final int offset = this.mMatrixStackOffset;
+
+		pMatrix[0] = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX];
+		pMatrix[1] = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX];
+		pMatrix[2] = 0;
+		pMatrix[3] = 0;
+
+		pMatrix[4] = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX];
+		pMatrix[5] = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX];
+		pMatrix[6] = 0;
+		pMatrix[7] = 0;
+
+		pMatrix[8] = 0;
+		pMatrix[9] = 0;
+		pMatrix[10] = 1;
+		pMatrix[11] = 0;
+
+		pMatrix[12] = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TX_INDEX];
+		pMatrix[13] = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TY_INDEX];
+		pMatrix[14] = 0;
+		pMatrix[15] = 1;
+	}
+
+	/**
+	 * @see GLMatrixStack#getGeneration()
+	 */
+	public int getGeneration() {
+		return this.mGenerations[this.mMatrixStackOffset / GLAffineMatrixStack.GLAFFINEMATRIX_SIZE];
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public void glLoadIdentity() {
+		this.set(1, 0, 0, 1, 0, 0);
+	}
+
+	public void glTranslatef(final float pX, final float pY) {
+		final float[] matrixStack = this.mMatrixStack;
+		final int offset = this.mMatrixStackOffset;
+
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TX_INDEX] += matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX] * pX + matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX] * pY;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TY_INDEX] += matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX] * pX + matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX] * pY;
+		this.onMatrixChanged();
+	}
+
+	/**
+	 * Rotates around the z axis.
+	 */
+	public void glRotatef(final float pAngle) {
+		final float angleRad = MathConstants.DEG_TO_RAD * pAngle;
+		final float sin = FloatMath.sin(angleRad);
+		final float cos = FloatMath.cos(angleRad);
+
+		this.glMultMatrixf(cos, sin, -sin, cos, 0, 0);
+	}
+
+	public void glRotatef(final float pAngle, final float pX, final float pY, final float pZ) {
+		if((pX == 0) && (pY == 0)) {
+			if(pZ > 0) {
+				this.glRotatef(pAngle);
+			} else if(pZ < 0) {
+				this.glRotatef(-pAngle);
+			}
+		} else {
+			final float[] temp = this.mTemp;
+			Matrix.setRotateM(temp, 0, pAngle, pX, pY, pZ);
+			this.glMultMatrixf(temp[0], temp[1], temp[4], temp[5], 0, 0);
+		}
+	}
+
+	public void glScalef(final float pScaleX, final float pScaleY) {
+		final float[] matrixStack = this.mMatrixStack;
+		final int offset = this.mMatrixStackOffset;
+
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX] *= pScaleX;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX] *= pScaleX;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX] *= pScaleY;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX] *= pScaleY;
+		this.onMatrixChanged();
+	}
+
+	public void glSkewf(final float pSkewX, final float pSkewY) {
+		final float tanX = (float) Math.tan(-MathConstants.DEG_TO_RAD * pSkewX);
+		final float tanY = (float) Math.tan(-MathConstants.DEG_TO_RAD * pSkewY);
+
+		this.glMultMatrixf(1, tanY, tanX, 1, 0, 0);
+	}
+
+	/**
+	 * Replaces the current matrix, like {@link GLMatrixStack#glOrthof(float, float, float, float, float, float)}, but without mapping z.
+	 */
+	public void glOrthof(final float pLeft, final float pRight, final float pBottom, final float pTop) {
+		final float width = pRight - pLeft;
+		final float height = pTop - pBottom;
+
+		this.set(2 / width, 0, 0, 2 / height, -(pRight + pLeft) / width, -(pTop + pBottom) / height);
+	}
+
+	/**
+	 * Multiplies the current matrix with the given one from the right, so the given one is applied first to a vertex.
+	 */
+	public void glMultMatrixf(final float pA, final float pB, final float pC, final float pD, final float pTX, final float pTY) {
+		final float[] matrixStack = this.mMatrixStack;
+		final int offset = this.mMatrixStackOffset;
+
+		final float a = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX];
+		final float b = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX];
+		final float c = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX];
+		final float d = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX];
+
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX] = a * pA + c * pB;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX] = b * pA + d * pB;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX] = a * pC + c * pD;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX] = b * pC + d * pD;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TX_INDEX] += a * pTX + c * pTY;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TY_INDEX] += b * pTX + d * pTY;
+		this.onMatrixChanged();
+	}
+
+	/**
+	 * Applies, in a single matrix multiplication, the same as the sequence:
+	 * <pre>
+	 * glTranslatef(pX, pY);
+	 * glTranslatef(pRotationCenterX, pRotationCenterY); glRotatef(pRotation); glTranslatef(-pRotationCenterX, -pRotationCenterY);
+	 * glTranslatef(pSkewCenterX, pSkewCenterY); glSkewf(pSkewX, pSkewY); glTranslatef(-pSkewCenterX, -pSkewCenterY);
+	 * glTranslatef(pScaleCenterX, pScaleCenterY); glScalef(pScaleX, pScaleY); glTranslatef(-pScaleCenterX, -pScaleCenterY);
+	 * </pre>
+	 */
+	public void glTransformf(final float pX, final float pY, final float pRotation, final float pRotationCenterX, final float pRotationCenterY, final float pSkewX, final float pSkewY, final float pSkewCenterX, final float pSkewCenterY, final float pScaleX, final float pScaleY, final float pScaleCenterX, final float pScaleCenterY) {
+		/* Build the local matrix from the inside out, skipping the identities. */
+		float a = pScaleX;
+		float b = 0;
+		float c = 0;
+		float d = pScaleY;
+		float tx = pScaleCenterX - pScaleX * pScaleCenterX;
+		float ty = pScaleCenterY - pScaleY * pScaleCenterY;
+
+		if((pSkewX != 0) || (pSkewY != 0)) {
+			final float tanX = (float) Math.tan(-MathConstants.DEG_TO_RAD * pSkewX);
+			final float tanY = (float) Math.tan(-MathConstants.DEG_TO_RAD * pSkewY);
+
+			final float a0 = a;
+			final float c0 = c;
+			final float tx0 = tx - pSkewCenterX;
+			final float ty0 = ty - pSkewCenterY;
+
+			a = a0 + tanX * b;
+			b = tanY * a0 + b;
+			c = c0 + tanX * d;
+			d = tanY * c0 + d;
+			tx = tx0 + tanX * ty0 + pSkewCenterX;
+			ty = tanY * tx0 + ty0 + pSkewCenterY;
+		}
+
+		if(pRotation != 0) {
+			final float angleRad = MathConstants.DEG_TO_RAD * pRotation;
+			final float sin = FloatMath.sin(angleRad);
+			final float cos = FloatMath.cos(angleRad);
+
+			final float a0 = a;
+			final float c0 = c;
+			final float tx0 = tx - pRotationCenterX;
+			final float ty0 = ty - pRotationCenterY;
+
+			a = cos * a0 - sin * b;
+			b = sin * a0 + cos * b;
+			c = cos * c0 - sin * d;
+			d = sin * c0 + cos * d;
+			tx = cos * tx0 - sin * ty0 + pRotationCenterX;
+			ty = sin * tx0 + cos * ty0 + pRotationCenterY;
+		}
+
+		this.glMultMatrixf(a, b, c, d, tx + pX, ty + pY);
+	}
+
+	public void glPushMatrix() throws GLMatrixStackOverflowException {
+		if(this.mMatrixStackOffset + GLAffineMatrixStack.GLAFFINEMATRIX_SIZE >= GLAffineMatrixStack.GLAFFINEMATRIXSTACKOFFSET_OVERFLOW) {
+			throw new GLMatrixStackOverflowException();
+		}
+
+		System.arraycopy(this.mMatrixStack, this.mMatrixStackOffset, this.mMatrixStack, this.mMatrixStackOffset + GLAffineMatrixStack.GLAFFINEMATRIX_SIZE, GLAffineMatrixStack.GLAFFINEMATRIX_SIZE);
+
+		/* The pushed matrix is a copy of the previous one, so it also inherits its generation. */
+		final int depth = this.mMatrixStackOffset / GLAffineMatrixStack.GLAFFINEMATRIX_SIZE;
+		this.mGenerations[depth + 1] = this.mGenerations[depth];
+
+		this.mMatrixStackOffset += GLAffineMatrixStack.GLAFFINEMATRIX_SIZE;
+	}
+
+	public void glPopMatrix() throws GLMatrixStackUnderflowException {
+		if(this.mMatrixStackOffset - GLAffineMatrixStack.GLAFFINEMATRIX_SIZE <= GLAffineMatrixStack.GLAFFINEMATRIXSTACKOFFSET_UNDERFLOW) {
+			throw new GLMatrixStackUnderflowException();
+		}
+
+		this.mMatrixStackOffset -= GLAffineMatrixStack.GLAFFINEMATRIX_SIZE;
+	}
+
+	public void reset() {
+		this.mMatrixStackOffset = 0;
+		this.glLoadIdentity();
+	}
+
+	/**
+	 * Stores <code>pProjectionMatrix * (the current matrix)</code> in <code>pResult</code>, exploiting the zeros of the current matrix.
+	 *
+	 * @param pResult a column-major 4x4 matrix.
+	 * @param pProjectionMatrix a column-major 4x4 matrix, starting at <code>pProjectionMatrixOffset</code>.
+	 */
+	void multiplyProjection(final float[] pResult, final float[] pProjectionMatrix, final int pProjectionMatrixOffset) {
+		final float[] matrixStack = this.mMatrixStack;
+		final int offset = this.mMatrixStackOffset;
+
+		final float a = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX];
+		final float b = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX];
+		final float c = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX];
+		final float d = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX];
+		final float tx = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TX_INDEX];
+		final float ty = matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TY_INDEX];
+
+		for(int i = 0; i < 4; i++) {
+			final float p0 = pProjectionMatrix[pProjectionMatrixOffset + i];
+			final float p1 = pProjectionMatrix[pProjectionMatrixOffset + 4 + i];
+
+			pResult[i] = p0 * a + p1 * b;
+			pResult[4 + i] = p0 * c + p1 * d;
+			pResult[8 + i] = pProjectionMatrix[pProjectionMatrixOffset + 8 + i];
+			pResult[12 + i] = p0 * tx + p1 * ty + pProjectionMatrix[pProjectionMatrixOffset + 12 + i];
+		}
+	}
+
+	private void set(final float pA, final float pB, final float pC, final float pD, final float pTX, final float pTY) {
+		final float[] matrixStack = this.mMatrixStack;
+		final int offset = this.mMatrixStackOffset;
+
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_A_INDEX] = pA;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_B_INDEX] = pB;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_C_INDEX] = pC;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_D_INDEX] = pD;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TX_INDEX] = pTX;
+		matrixStack[offset + GLAffineMatrixStack.GLAFFINEMATRIX_TY_INDEX] = pTY;
+		this.onMatrixChanged();
+	}
+
+	private void onMatrixChanged() {
+		this.mGenerationCounter++;
+		if(this.mGenerationCounter == GLMatrixStack.GENERATION_INVALID) {
+			this.mGenerationCounter++;
+		}
+		this.mGenerations[this.mMatrixStackOffset / GLAffineMatrixStack.GLAFFINEMATRIX_SIZE] = this.mGenerationCounter;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
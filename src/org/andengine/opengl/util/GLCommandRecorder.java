@@ -0,0 +1,193 @@
+package org.andengine.opengl.util;
+
+import java.util.ArrayList;
+
+import org.andengine.opengl.texture.PixelFormat;
+
+/**
+ * A {@link GLStatistics} that additionally keeps the sequence of recorded commands, i.e. to assert on the commands a scene produces:
+ * <pre>
+ * final GLCommandRecorder glCommandRecorder = new GLCommandRecorder();
+ * GLState.setGLRecorder(glCommandRecorder);
+ * // Render a frame...
+ * assertTrue(glCommandRecorder.getCommandCount(GLCommandType.DRAW) <= 20);
+ * </pre>
+ * The recorded commands are kept until {@link GLCommandRecorder#clear()} is called.
+ * <p/>
+ * This records the commands, but doesn't replace the GPU: {@link GLState} still issues every command to OpenGL after recording it.
+ * Shader programs, vertex attributes and texture loading also call {@link android.opengl.GLES20} directly, not only through {@link GLState}.
+ * So outside of a GL context, i.e. in a plain JVM unit test, {@link android.opengl.GLES20} needs to be stubbed to return default values.
+ *
+ * @author agent <agent@local>
+ * @since 06:27:17 - 19.10.2026
+ */
+public class GLCommandRecorder extends GLStatistics {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final ArrayList<GLCommand> mCommands = new ArrayList<GLCommand>();
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public ArrayList<GLCommand> getCommands() {
+		return this.mCommands;
+	}
+
+	public int getCommandCount(final GLCommandType pGLCommandType) {
+		final ArrayList<GLCommand> commands = this.mCommands;
+
+		int count = 0;
+		for(int i = commands.size() - 1; i >= 0; i--) {
+			if(commands.get(i).mGLCommandType == pGLCommandType) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onFrameBegin() {
+		super.onFrameBegin();
+
+		this.mCommands.add(new GLCommand(GLCommandType.FRAME_BEGIN, 0, 0, 0));
+	}
+
+	@Override
+	public void onFrameEnd() {
+		super.onFrameEnd();
+
+		this.mCommands.add(new GLCommand(GLCommandType.FRAME_END, 0, 0, 0));
+	}
+
+	@Override
+	public void onDrawArrays(final int pMode, final int pFirst, final int pCount) {
+		super.onDrawArrays(pMode, pFirst, pCount);
+
+		this.mCommands.add(new GLCommand(GLCommandType.DRAW, pMode, pFirst, pCount));
+	}
+
+	@Override
+	public void onDrawElements(final int pMode, final int pCount) {
+		super.onDrawElements(pMode, pCount);
+
+		this.mCommands.add(new GLCommand(GLCommandType.DRAW, pMode, 0, pCount));
+	}
+
+	@Override
+	public void onUseProgram(final int pShaderProgramID) {
+		super.onUseProgram(pShaderProgramID);
+
+		this.mCommands.add(new GLCommand(GLCommandType.USE_PROGRAM, pShaderProgramID, 0, 0));
+	}
+
+	@Override
+	public void onBindTexture(final int pTextureUnit, final int pHardwareTextureID) {
+		super.onBindTexture(pTextureUnit, pHardwareTextureID);
+
+		this.mCommands.add(new GLCommand(GLCommandType.BIND_TEXTURE, pTextureUnit, pHardwareTextureID, 0));
+	}
+
+	@Override
+	public void onBindBuffer(final int pTarget, final int pHardwareBufferID) {
+		super.onBindBuffer(pTarget, pHardwareBufferID);
+
+		this.mCommands.add(new GLCommand(GLCommandType.BIND_BUFFER, pTarget, pHardwareBufferID, 0));
+	}
+
+	@Override
+	public void onBufferUpload(final int pTarget, final int pByteCount) {
+		super.onBufferUpload(pTarget, pByteCount);
+
+		this.mCommands.add(new GLCommand(GLCommandType.BUFFER_UPLOAD, pTarget, pByteCount, 0));
+	}
+
+	@Override
+	public void onTextureUpload(final int pWidth, final int pHeight, final PixelFormat pPixelFormat) {
+		super.onTextureUpload(pWidth, pHeight, pPixelFormat);
+
+		this.mCommands.add(new GLCommand(GLCommandType.TEXTURE_UPLOAD, pWidth, pHeight, pPixelFormat.getBitsPerPixel()));
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public void clear() {
+		this.mCommands.clear();
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	public static enum GLCommandType {
+		// ===========================================================
+		// Elements
+		// ===========================================================
+
+		FRAME_BEGIN,
+		FRAME_END,
+		/** Arguments: mode, first vertex, vertex (or index) count. */
+		DRAW,
+		/** Arguments: program ID. */
+		USE_PROGRAM,
+		/** Arguments: texture unit, texture ID. */
+		BIND_TEXTURE,
+		/** Arguments: target, buffer ID. */
+		BIND_BUFFER,
+		/** Arguments: target, byte count. */
+		BUFFER_UPLOAD,
+		/** Arguments: width, height, bits per pixel. */
+		TEXTURE_UPLOAD;
+	}
+
+	public static class GLCommand {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		public final GLCommandType mGLCommandType;
+		public final int mArgument0;
+		public final int mArgument1;
+		public final int mArgument2;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public GLCommand(final GLCommandType pGLCommandType, final int pArgument0, final int pArgument1, final int pArgument2) {
+			this.mGLCommandType = pGLCommandType;
+			this.mArgument0 = pArgument0;
+			this.mArgument1 = pArgument1;
+			this.mArgument2 = pArgument2;
+		}
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public String toString() {
+			return this.mGLCommandType + "(" + this.mArgument0 + ", " + this.mArgument1 + ", " + this.mArgument2 + ")";
+		}
+	}
+}
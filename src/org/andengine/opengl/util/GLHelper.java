@@ -1,10 +1,8 @@
 package org.andengine.opengl.util;
 
 import java.nio.Buffer;
-import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.IntBuffer;
-import java.nio.ShortBuffer;
 
 import org.andengine.opengl.texture.PixelFormat;
 
@@ -22,6 +20,8 @@ public class GLHelper {
 	// Constants
 	// ===========================================================
 
+	private static final boolean NATIVE_BYTEORDER_LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -30,27 +30,39 @@ public class GLHelper {
 	// Methods
 	// ===========================================================
 
-	/**
-	 * TODO These conversions could be done in native code!
-	 */
 	public static Buffer getPixels(final Bitmap pBitmap, final PixelFormat pPixelFormat) {
 		return GLHelper.getPixels(pBitmap, pPixelFormat, ByteOrder.nativeOrder());
 	}
 
 	public static Buffer getPixels(final Bitmap pBitmap, final PixelFormat pPixelFormat, final ByteOrder pByteOrder) {
-		final int[] pixelsARGB_8888 = GLHelper.getPixelsARGB_8888(pBitmap);
+		return GLHelper.getPixels(pBitmap, pPixelFormat, pByteOrder, null);
+	}
+
+	/**
+	 * Converts the pixels in place in the <code>int[]</code> they were read into, so no further array is allocated for any {@link PixelFormat}.
+	 * The 16 bit and 8 bit formats are packed tightly at the start of that <code>int[]</code>, in the same memory layout the separate <code>short[]</code> or <code>byte[]</code> had.
+	 * <p/>
+	 * Only static state is used, so this can be called from worker threads, as long as each thread uses its own <code>pPixelsARGB_8888Reuse</code>.
+	 *
+	 * @param pPixelsARGB_8888Reuse used when it can hold all pixels of <code>pBitmap</code>, otherwise a new <code>int[]</code> is allocated. May be <code>null</code>.
+	 * The returned {@link Buffer} wraps it, so it must not be reused before the {@link Buffer} was uploaded.
+	 */
+	public static Buffer getPixels(final Bitmap pBitmap, final PixelFormat pPixelFormat, final ByteOrder pByteOrder, final int[] pPixelsARGB_8888Reuse) {
+		final int pixelCount = pBitmap.getWidth() * pBitmap.getHeight();
+		final int[] pixelsARGB_8888 = GLHelper.getPixelsARGB_8888(pBitmap, pPixelsARGB_8888Reuse);
 
 		switch(pPixelFormat) {
 			case RGB_565:
-				return ShortBuffer.wrap(GLHelper.convertARGB_8888toRGB_565(pixelsARGB_8888, pByteOrder)); // TODO Is ShortBuffer or IntBuffer faster?
+				return IntBuffer.wrap(pixelsARGB_8888, 0, GLHelper.convertARGB_8888toRGB_565InPlace(pixelsARGB_8888, pixelCount, pByteOrder));
 			case RGBA_8888:
 				// HACK =(
 				final ByteOrder reverseByteOrder = (pByteOrder == ByteOrder.LITTLE_ENDIAN) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
-				return IntBuffer.wrap(GLHelper.convertARGB_8888toRGBA_8888(pixelsARGB_8888, reverseByteOrder));
+				GLHelper.convertARGB_8888toRGBA_8888(pixelsARGB_8888, pixelCount, reverseByteOrder);
+				return IntBuffer.wrap(pixelsARGB_8888, 0, pixelCount);
 			case RGBA_4444:
-				return ShortBuffer.wrap(GLHelper.convertARGB_8888toRGBA_4444(pixelsARGB_8888, pByteOrder)); // TODO Is ShortBuffer or IntBuffer faster?
+				return IntBuffer.wrap(pixelsARGB_8888, 0, GLHelper.convertARGB_8888toRGBA_4444InPlace(pixelsARGB_8888, pixelCount, pByteOrder));
 			case A_8:
-				return ByteBuffer.wrap(GLHelper.convertARGB_8888toA_8(pixelsARGB_8888));
+				return IntBuffer.wrap(pixelsARGB_8888, 0, GLHelper.convertARGB_8888toA_8InPlace(pixelsARGB_8888, pixelCount));
 			default:
 				throw new IllegalArgumentException("Unexpected " + PixelFormat.class.getSimpleName() + ": '" + pPixelFormat + "'.");
 		}
@@ -61,8 +73,12 @@ public class GLHelper {
 	}
 
 	public static int[] convertARGB_8888toRGBA_8888(final int[] pPixelsARGB_8888, final ByteOrder pByteOrder) {
+		return GLHelper.convertARGB_8888toRGBA_8888(pPixelsARGB_8888, pPixelsARGB_8888.length, pByteOrder);
+	}
+
+	public static int[] convertARGB_8888toRGBA_8888(final int[] pPixelsARGB_8888, final int pPixelCount, final ByteOrder pByteOrder) {
 		if(pByteOrder == ByteOrder.LITTLE_ENDIAN) {
-			for(int i = pPixelsARGB_8888.length - 1; i >= 0; i--) {
+			for(int i = pPixelCount - 1; i >= 0; i--) {
 				final int pixel = pPixelsARGB_8888[i];
 
 				/* [A][R][G][B] to [A][B][G][R] */
@@ -71,7 +87,7 @@ public class GLHelper {
 				pPixelsARGB_8888[i] = (pixel & 0xFF00FF00) | ((pixel << 16) & 0x00FF0000) | ((pixel >> 16) & 0x000000FF);
 			}
 		} else {
-			for(int i = pPixelsARGB_8888.length - 1; i >= 0; i--) {
+			for(int i = pPixelCount - 1; i >= 0; i--) {
 				final int pixel = pPixelsARGB_8888[i];
 
 				/* [A][R][G][B] to [R][G][B][A] */
@@ -158,11 +174,128 @@ public class GLHelper {
 		return pixelsA_8;
 	}
 
+	/**
+	 * Same conversion as {@link GLHelper#convertARGB_8888toRGB_565(int[], ByteOrder)}, but two converted pixels are packed into each <code>int</code> at the start of <code>pPixelsARGB_8888</code>.
+	 *
+	 * @return the number of <code>int</code>s holding the converted pixels.
+	 */
+	public static int convertARGB_8888toRGB_565InPlace(final int[] pPixelsARGB_8888, final int pPixelCount, final ByteOrder pByteOrder) {
+		final int packedCount = (pPixelCount + 1) >> 1;
+
+		if(pByteOrder == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < packedCount; i++) {
+				final int pixel0 = pPixelsARGB_8888[i << 1];
+				final int pixel1 = ((i << 1) + 1 < pPixelCount) ? pPixelsARGB_8888[(i << 1) + 1] : 0;
+
+				/* [A][R][G][B] to [GB][RG] */
+				final int pixelRGB_565_0 = ((pixel0 >> 16) & 0x00F8) | ((pixel0 >> 13) & 0x07) | ((pixel0 << 3) & 0xE000) | ((pixel0 << 5) & 0x1F00);
+				final int pixelRGB_565_1 = ((pixel1 >> 16) & 0x00F8) | ((pixel1 >> 13) & 0x07) | ((pixel1 << 3) & 0xE000) | ((pixel1 << 5) & 0x1F00);
+
+				pPixelsARGB_8888[i] = GLHelper.packShorts(pixelRGB_565_0, pixelRGB_565_1);
+			}
+		} else {
+			for(int i = 0; i < packedCount; i++) {
+				final int pixel0 = pPixelsARGB_8888[i << 1];
+				final int pixel1 = ((i << 1) + 1 < pPixelCount) ? pPixelsARGB_8888[(i << 1) + 1] : 0;
+
+				/* [A][R][G][B] to [RG][GB] */
+				final int pixelRGB_565_0 = ((pixel0 >> 8) & 0xF800) | ((pixel0 >> 5) & 0x07E0) | ((pixel0 >> 3) & 0x001F);
+				final int pixelRGB_565_1 = ((pixel1 >> 8) & 0xF800) | ((pixel1 >> 5) & 0x07E0) | ((pixel1 >> 3) & 0x001F);
+
+				pPixelsARGB_8888[i] = GLHelper.packShorts(pixelRGB_565_0, pixelRGB_565_1);
+			}
+		}
+		return packedCount;
+	}
+
+	/**
+	 * Same conversion as {@link GLHelper#convertARGB_8888toRGBA_4444(int[], ByteOrder)}, but two converted pixels are packed into each <code>int</code> at the start of <code>pPixelsARGB_8888</code>.
+	 *
+	 * @return the number of <code>int</code>s holding the converted pixels.
+	 */
+	public static int convertARGB_8888toRGBA_4444InPlace(final int[] pPixelsARGB_8888, final int pPixelCount, final ByteOrder pByteOrder) {
+		final int packedCount = (pPixelCount + 1) >> 1;
+
+		if(pByteOrder == ByteOrder.LITTLE_ENDIAN) {
+			for(int i = 0; i < packedCount; i++) {
+				final int pixel0 = pPixelsARGB_8888[i << 1];
+				final int pixel1 = ((i << 1) + 1 < pPixelCount) ? pPixelsARGB_8888[(i << 1) + 1] : 0;
+
+				/* [A][R][G][B] to [BA][RG] */
+				final int pixelRGBA_4444_0 = ((pixel0 >> 16) & 0x00F0) | ((pixel0 >> 12) & 0x000F) | ((pixel0 << 8) & 0xF000) | ((pixel0 >> 20) & 0x0F00);
+				final int pixelRGBA_4444_1 = ((pixel1 >> 16) & 0x00F0) | ((pixel1 >> 12) & 0x000F) | ((pixel1 << 8) & 0xF000) | ((pixel1 >> 20) & 0x0F00);
+
+				pPixelsARGB_8888[i] = GLHelper.packShorts(pixelRGBA_4444_0, pixelRGBA_4444_1);
+			}
+		} else {
+			for(int i = 0; i < packedCount; i++) {
+				final int pixel0 = pPixelsARGB_8888[i << 1];
+				final int pixel1 = ((i << 1) + 1 < pPixelCount) ? pPixelsARGB_8888[(i << 1) + 1] : 0;
+
+				/* [A][R][G][B] to [RG][BA] */
+				final int pixelRGBA_4444_0 = ((pixel0 >> 8) & 0xF000) | ((pixel0 >> 4) & 0x0F00) | ((pixel0) & 0x00F0) | ((pixel0 >> 28) & 0x0000F);
+				final int pixelRGBA_4444_1 = ((pixel1 >> 8) & 0xF000) | ((pixel1 >> 4) & 0x0F00) | ((pixel1) & 0x00F0) | ((pixel1 >> 28) & 0x0000F);
+
+				pPixelsARGB_8888[i] = GLHelper.packShorts(pixelRGBA_4444_0, pixelRGBA_4444_1);
+			}
+		}
+		return packedCount;
+	}
+
+	/**
+	 * Same conversion as {@link GLHelper#convertARGB_8888toA_8(int[])}, but four converted pixels are packed into each <code>int</code> at the start of <code>pPixelsARGB_8888</code>.
+	 *
+	 * @return the number of <code>int</code>s holding the converted pixels.
+	 */
+	public static int convertARGB_8888toA_8InPlace(final int[] pPixelsARGB_8888, final int pPixelCount) {
+		final int packedCount = (pPixelCount + 3) >> 2;
+
+		for(int i = 0; i < packedCount; i++) {
+			final int index = i << 2;
+
+			/* [A][R][G][B] to [A] */
+			final int alpha0 = (pPixelsARGB_8888[index] >> 24) & 0xFF;
+			final int alpha1 = (index + 1 < pPixelCount) ? (pPixelsARGB_8888[index + 1] >> 24) & 0xFF : 0;
+			final int alpha2 = (index + 2 < pPixelCount) ? (pPixelsARGB_8888[index + 2] >> 24) & 0xFF : 0;
+			final int alpha3 = (index + 3 < pPixelCount) ? (pPixelsARGB_8888[index + 3] >> 24) & 0xFF : 0;
+
+			if(GLHelper.NATIVE_BYTEORDER_LITTLE_ENDIAN) {
+				pPixelsARGB_8888[i] = alpha0 | (alpha1 << 8) | (alpha2 << 16) | (alpha3 << 24);
+			} else {
+				pPixelsARGB_8888[i] = (alpha0 << 24) | (alpha1 << 16) | (alpha2 << 8) | alpha3;
+			}
+		}
+		return packedCount;
+	}
+
+	/**
+	 * Packs two <code>short</code>s into an <code>int</code>, so that they lie in memory in the same order as in a <code>short[]</code>.
+	 */
+	private static int packShorts(final int pShort0, final int pShort1) {
+		if(GLHelper.NATIVE_BYTEORDER_LITTLE_ENDIAN) {
+			return (pShort0 & 0xFFFF) | (pShort1 << 16);
+		} else {
+			return (pShort0 << 16) | (pShort1 & 0xFFFF);
+		}
+	}
+
 	public static int[] getPixelsARGB_8888(final Bitmap pBitmap) {
+		return GLHelper.getPixelsARGB_8888(pBitmap, null);
+	}
+
+	/**
+	 * @param pPixelsARGB_8888Reuse used when it can hold all pixels of <code>pBitmap</code>, otherwise a new <code>int[]</code> is allocated. May be <code>null</code>.
+	 */
+	public static int[] getPixelsARGB_8888(final Bitmap pBitmap, final int[] pPixelsARGB_8888Reuse) {
 		final int w = pBitmap.getWidth();
 		final int h = pBitmap.getHeight();
 
-		final int[] pixelsARGB_8888 = new int[w * h];
+		final int[] pixelsARGB_8888;
+		if((pPixelsARGB_8888Reuse != null) && (pPixelsARGB_8888Reuse.length >= w * h)) {
+			pixelsARGB_8888 = pPixelsARGB_8888Reuse;
+		} else {
+			pixelsARGB_8888 = new int[w * h];
+		}
 		pBitmap.getPixels(pixelsARGB_8888, 0, w, 0, 0, w, h);
 
 		return pixelsARGB_8888;
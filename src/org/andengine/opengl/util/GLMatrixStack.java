@@ -24,6 +24,8 @@ public class GLMatrixStack {
 	private static final int GLMATRIXSTACKOFFSET_UNDERFLOW = -1 * GLMatrixStack.GLMATRIX_SIZE;
 	private static final int GLMATRIXSTACKOFFSET_OVERFLOW = GLMatrixStack.GLMATRIXSTACK_DEPTH_MAX * GLMatrixStack.GLMATRIX_SIZE;
 
+	public static final int GENERATION_INVALID = -1;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -33,6 +35,13 @@ public class GLMatrixStack {
 
 	private final float[] mTemp = new float[2 * GLMatrixStack.GLMATRIX_SIZE];
 
+	/**
+	 * The generation of the matrix at each depth of the stack. Every modification of the top matrix assigns it a new, unique generation,
+	 * so two equal generations guarantee equal matrices, without having to compare the matrices themselves.
+	 */
+	private final int[] mGenerations = new int[GLMatrixStack.GLMATRIXSTACK_DEPTH_MAX];
+	private int mGenerationCounter;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -53,6 +62,13 @@ public class GLMatrixStack {
 		System.arraycopy(this.mMatrixStack, this.mMatrixStackOffset, pMatrix, 0, GLMatrixStack.GLMATRIX_SIZE);
 	}
 
+	/**
+	 * @return the generation of the current (top) matrix. Changes whenever the current matrix changes.
+	 */
+	public int getGeneration() {
+		return this.mGenerations[this.mMatrixStackOffset / GLMatrixStack.GLMATRIX_SIZE];
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -63,30 +79,36 @@ public class GLMatrixStack {
 
 	public void glLoadIdentity() {
 		Matrix.setIdentityM(this.mMatrixStack, this.mMatrixStackOffset);
+		this.onMatrixChanged();
 	}
 
 	public void glTranslatef(final float pX, final float pY, final float pZ) {
 		Matrix.translateM(this.mMatrixStack, this.mMatrixStackOffset, pX, pY, pZ);
+		this.onMatrixChanged();
 	}
 
 	public void glRotatef(final float pAngle, final float pX, final float pY, final float pZ) {
 		Matrix.setRotateM(this.mTemp, 0, pAngle, pX, pY, pZ);
 		System.arraycopy(this.mMatrixStack, this.mMatrixStackOffset, this.mTemp, GLMatrixStack.GLMATRIX_SIZE, GLMatrixStack.GLMATRIX_SIZE);
 		Matrix.multiplyMM(this.mMatrixStack, this.mMatrixStackOffset, this.mTemp, GLMatrixStack.GLMATRIX_SIZE, this.mTemp, 0);
+		this.onMatrixChanged();
 	}
 
 	public void glScalef(final float pScaleX, final float pScaleY, final float pScaleZ) {
 		Matrix.scaleM(this.mMatrixStack, this.mMatrixStackOffset, pScaleX, pScaleY, pScaleZ);
+		this.onMatrixChanged();
 	}
 
 	public void glSkewf(final float pSkewX, final float pSkewY) {
 		GLMatrixStack.setSkewM(this.mTemp, 0, pSkewX, pSkewY);
 		System.arraycopy(this.mMatrixStack, this.mMatrixStackOffset, this.mTemp, GLMatrixStack.GLMATRIX_SIZE, GLMatrixStack.GLMATRIX_SIZE);
 		Matrix.multiplyMM(this.mMatrixStack, this.mMatrixStackOffset, this.mTemp, GLMatrixStack.GLMATRIX_SIZE, this.mTemp, 0);
+		this.onMatrixChanged();
 	}
 
 	public void glOrthof(final float pLeft, final float pRight, final float pBottom, final float pTop, final float pZNear, final float pZFar) {
 		Matrix.orthoM(this.mMatrixStack, this.mMatrixStackOffset, pLeft, pRight, pBottom, pTop, pZNear, pZFar);
+		this.onMatrixChanged();
 	}
 
 	public void glPushMatrix() throws GLMatrixStackOverflowException {
@@ -95,6 +117,11 @@ public class GLMatrixStack {
 		}
 
 		System.arraycopy(this.mMatrixStack, this.mMatrixStackOffset, this.mMatrixStack, this.mMatrixStackOffset + GLMatrixStack.GLMATRIX_SIZE, GLMatrixStack.GLMATRIX_SIZE);
+
+		/* The pushed matrix is a copy of the previous one, so it also inherits its generation. */
+		final int depth = this.mMatrixStackOffset / GLMatrixStack.GLMATRIX_SIZE;
+		this.mGenerations[depth + 1] = this.mGenerations[depth];
+
 		this.mMatrixStackOffset += GLMatrixStack.GLMATRIX_SIZE;
 	}
 
@@ -111,6 +138,14 @@ public class GLMatrixStack {
 		this.glLoadIdentity();
 	}
 
+	private void onMatrixChanged() {
+		this.mGenerationCounter++;
+		if(this.mGenerationCounter == GLMatrixStack.GENERATION_INVALID) {
+			this.mGenerationCounter++;
+		}
+		this.mGenerations[this.mMatrixStackOffset / GLMatrixStack.GLMATRIX_SIZE] = this.mGenerationCounter;
+	}
+
 	private static void setSkewM(final float[] pMatrixStack, final int pOffset, final float pSkewX, final float pSkewY) {
 		pMatrixStack[pOffset + 0] = 1.0f;
 		pMatrixStack[pOffset + 1] = (float) Math.tan(-MathConstants.DEG_TO_RAD * pSkewY);
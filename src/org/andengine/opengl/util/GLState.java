@@ -19,7 +19,6 @@ import org.andengine.util.debug.Debug;
 import android.graphics.Bitmap;
 import android.opengl.GLES20;
 import android.opengl.GLUtils;
-import android.opengl.Matrix;
 
 /**
  * (c) 2010 Nicolas Gramlich
@@ -35,11 +34,22 @@ public class GLState {
 
 	public static final int GL_UNPACK_ALIGNMENT_DEFAULT = 4;
 
+	/** The number of distinct depths available to {@link DrawPass#OPAQUE} and {@link DrawPass#TRANSPARENT}, which still can be told apart with a 16 bit depth buffer. Any further entities share the farthest depth. */
+	public static final int DRAW_DEPTH_COUNT_MAXIMUM = 1 << 15;
+	private static final float DRAW_DEPTH_STEP = 2f / GLState.DRAW_DEPTH_COUNT_MAXIMUM;
+
+	/** Bitmaps with up to this many pixels are converted in an <code>int[]</code> that is kept for the next upload, i.e. for the letters of a {@link org.andengine.opengl.font.Font}. */
+	private static final int PIXELS_REUSE_COUNT_MAXIMUM = 256 * 256;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
 
+	/** <code>null</code> unless recording, so not recording only costs a <code>null</code> check per command. */
+	private static IGLRecorder sGLRecorder;
+
 	private final int[] mHardwareIDContainer = new int[1];
+	private int[] mPixelsARGB_8888Reuse;
 
 	private String mVersion;
 	private String mRenderer;
@@ -60,9 +70,11 @@ public class GLState {
 
 	private int mCurrentSourceBlendMode = -1;
 	private int mCurrentDestinationBlendMode = -1;
+	private boolean mBlendAlphaPremultiplied = false;
 
 	private boolean mDitherEnabled = true;
 	private boolean mDepthTestEnabled = true;
+	private boolean mDepthMaskEnabled = true;
 
 	private boolean mScissorTestEnabled = false;
 	private boolean mBlendEnabled = false;
@@ -70,13 +82,24 @@ public class GLState {
 
 	private float mLineWidth = 1;
 
-	private final GLMatrixStack mModelViewGLMatrixStack = new GLMatrixStack();
+	private final GLAffineMatrixStack mModelViewGLMatrixStack = new GLAffineMatrixStack();
 	private final GLMatrixStack mProjectionGLMatrixStack = new GLMatrixStack();
 
 	private final float[] mModelViewGLMatrix = new float[GLMatrixStack.GLMATRIX_SIZE];
 	private final float[] mProjectionGLMatrix = new float[GLMatrixStack.GLMATRIX_SIZE];
 	private final float[] mModelViewProjectionGLMatrix = new float[GLMatrixStack.GLMATRIX_SIZE];
 
+	private int mModelViewProjectionGLMatrixModelViewGeneration = GLMatrixStack.GENERATION_INVALID;
+	private int mModelViewProjectionGLMatrixProjectionGeneration = GLMatrixStack.GENERATION_INVALID;
+	private int mModelViewProjectionGLMatrixGeneration = GLMatrixStack.GENERATION_INVALID;
+	private boolean mModelViewProjectionGLMatrixDrawDepthApplied;
+	private float mModelViewProjectionGLMatrixDrawDepth;
+
+	private boolean mDepthSortedDrawing;
+	private DrawPass mDrawPass = DrawPass.ALL;
+	private int mDrawDepthIndex;
+	private float mDrawDepth;
+
 	// ===========================================================
 	// Getter & Setter
 	// ===========================================================
@@ -93,6 +116,28 @@ public class GLState {
 		return this.mExtensions;
 	}
 
+	public static IGLRecorder getGLRecorder() {
+		return GLState.sGLRecorder;
+	}
+
+	/**
+	 * @param pGLRecorder <code>null</code> to stop recording. The {@link IGLRecorder} is not synchronized, so it is best set on the GL thread.
+	 */
+	public static void setGLRecorder(final IGLRecorder pGLRecorder) {
+		GLState.sGLRecorder = pGLRecorder;
+	}
+
+	public boolean isExtensionSupported(final String pExtension) {
+		return (this.mExtensions != null) && this.mExtensions.contains(pExtension);
+	}
+
+	/**
+	 * @return <code>true</code> if {@link org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributesBuilder#GL_HALF_FLOAT_OES} vertex attributes are supported.
+	 */
+	public boolean isVertexHalfFloatSupported() {
+		return this.isExtensionSupported("GL_OES_vertex_half_float");
+	}
+
 	public int getMaximumVertexAttributeCount() {
 		return this.mMaximumVertexAttributeCount;
 	}
@@ -152,9 +197,14 @@ public class GLState {
 
 		this.mCurrentSourceBlendMode = -1;
 		this.mCurrentDestinationBlendMode = -1;
+		this.mBlendAlphaPremultiplied = false;
 
 		this.enableDither();
 		this.enableDepthTest();
+		this.mDepthMaskEnabled = true;
+		GLES20.glDepthMask(true);
+
+		this.mDrawPass = DrawPass.ALL;
 
 		this.disableBlend();
 		this.disableCulling();
@@ -356,6 +406,111 @@ public class GLState {
 		}
 	}
 
+	public boolean isDepthMaskEnabled() {
+		return this.mDepthMaskEnabled;
+	}
+	/**
+	 * @return the previous state.
+	 */
+	public boolean setDepthMaskEnabled(final boolean pEnabled) {
+		final boolean previous = this.mDepthMaskEnabled;
+		if(previous != pEnabled) {
+			this.mDepthMaskEnabled = pEnabled;
+			GLES20.glDepthMask(pEnabled);
+		}
+		return previous;
+	}
+
+	public boolean isDepthSortedDrawing() {
+		return this.mDepthSortedDrawing;
+	}
+
+	/**
+	 * @param pDepthSortedDrawing requires a depth buffer. See {@link RenderOptions#setDepthSortedDrawing(boolean)}.
+	 */
+	public void setDepthSortedDrawing(final boolean pDepthSortedDrawing) {
+		this.mDepthSortedDrawing = pDepthSortedDrawing;
+		if(pDepthSortedDrawing) {
+			/* Outside of the passes everything is drawn at the same depth, which must not be tested. */
+			this.disableDepthTest();
+		}
+	}
+
+	public DrawPass getDrawPass() {
+		return this.mDrawPass;
+	}
+
+	/**
+	 * Temporarily switches to another {@link DrawPass}, i.e. to {@link DrawPass#ALL} while rendering into a {@link RenderTexture} in the middle of a pass.
+	 *
+	 * @return the previous {@link DrawPass}, to be restored afterwards.
+	 */
+	public DrawPass setDrawPass(final DrawPass pDrawPass) {
+		final DrawPass previous = this.mDrawPass;
+		this.mDrawPass = pDrawPass;
+		return previous;
+	}
+
+	/**
+	 * Starts {@link DrawPass#OPAQUE}, in which the entities are traversed front to back. Clears the depth buffer.
+	 */
+	public void beginOpaqueDrawPass() {
+		this.enableDepthTest();
+		this.setDepthMaskEnabled(true);
+		GLES20.glClear(GLES20.GL_DEPTH_BUFFER_BIT);
+
+		this.mDrawPass = DrawPass.OPAQUE;
+		this.mDrawDepthIndex = 0;
+	}
+
+	/**
+	 * Starts {@link DrawPass#TRANSPARENT}, in which the entities are traversed back to front, exactly the reverse of the preceding {@link DrawPass#OPAQUE}.
+	 */
+	public void beginTransparentDrawPass() {
+		/* Only test against the opaque shapes, as transparent ones don't hide what is behind them. */
+		this.setDepthMaskEnabled(false);
+
+		this.mDrawPass = DrawPass.TRANSPARENT;
+	}
+
+	public void endDrawPasses() {
+		this.mDrawPass = DrawPass.ALL;
+
+		this.setDepthMaskEnabled(true);
+		this.disableDepthTest();
+	}
+
+	/**
+	 * To be called exactly once for every entity traversed, in each {@link DrawPass}. Entities get their depth by their position in the traversal.
+	 *
+	 * @param pOpaque whether the entity is opaque, i.e. doesn't need blending.
+	 * @return whether the entity is to be drawn in the current {@link DrawPass}.
+	 */
+	public boolean onDrawPassEntity(final boolean pOpaque) {
+		switch(this.mDrawPass) {
+			case ALL:
+				return true;
+			case OPAQUE:
+				this.setDrawDepth(this.mDrawDepthIndex++);
+				return pOpaque;
+			case TRANSPARENT:
+				this.setDrawDepth(--this.mDrawDepthIndex);
+				return !pOpaque;
+			case FLATTENED:
+				return true;
+			default:
+				throw new IllegalArgumentException("Unexpected " + DrawPass.class.getSimpleName() + ": '" + this.mDrawPass + "'.");
+		}
+	}
+
+	/**
+	 * @param pDrawDepthIndex <code>0</code> for the frontmost entity.
+	 */
+	private void setDrawDepth(final int pDrawDepthIndex) {
+		/* In normalized device coordinates, -1 is the nearest and 1 the farthest depth. */
+		this.mDrawDepth = -1 + (Math.min(pDrawDepthIndex, GLState.DRAW_DEPTH_COUNT_MAXIMUM - 2) + 1) * GLState.DRAW_DEPTH_STEP;
+	}
+
 	public int generateBuffer() {
 		GLES20.glGenBuffers(1, this.mHardwareIDContainer, 0);
 		return this.mHardwareIDContainer[0];
@@ -376,6 +531,11 @@ public class GLState {
 		if(this.mCurrentArrayBufferID != pHardwareBufferID) {
 			this.mCurrentArrayBufferID = pHardwareBufferID;
 			GLES20.glBindBuffer(GLES20.GL_ARRAY_BUFFER, pHardwareBufferID);
+
+			final IGLRecorder glRecorder = GLState.sGLRecorder;
+			if(glRecorder != null) {
+				glRecorder.onBindBuffer(GLES20.GL_ARRAY_BUFFER, pHardwareBufferID);
+			}
 		}
 	}
 
@@ -402,6 +562,11 @@ public class GLState {
 		if(this.mCurrentIndexBufferID != pHardwareBufferID) {
 			this.mCurrentIndexBufferID = pHardwareBufferID;
 			GLES20.glBindBuffer(GLES20.GL_ELEMENT_ARRAY_BUFFER, pHardwareBufferID);
+
+			final IGLRecorder glRecorder = GLState.sGLRecorder;
+			if(glRecorder != null) {
+				glRecorder.onBindBuffer(GLES20.GL_ELEMENT_ARRAY_BUFFER, pHardwareBufferID);
+			}
 		}
 	}
 
@@ -462,6 +627,11 @@ public class GLState {
 		if(this.mCurrentShaderProgramID != pShaderProgramID) {
 			this.mCurrentShaderProgramID = pShaderProgramID;
 			GLES20.glUseProgram(pShaderProgramID);
+
+			final IGLRecorder glRecorder = GLState.sGLRecorder;
+			if(glRecorder != null) {
+				glRecorder.onUseProgram(pShaderProgramID);
+			}
 		}
 	}
 
@@ -493,7 +663,7 @@ public class GLState {
 	 */
 	public void activeTexture(final int pGLActiveTexture) {
 		final int activeTextureIndex = pGLActiveTexture - GLES20.GL_TEXTURE0;
-		if(pGLActiveTexture != this.mCurrentActiveTextureIndex) {
+		if(activeTextureIndex != this.mCurrentActiveTextureIndex) {
 			this.mCurrentActiveTextureIndex = activeTextureIndex;
 			GLES20.glActiveTexture(pGLActiveTexture);
 		}
@@ -508,12 +678,21 @@ public class GLState {
 		if(this.mCurrentBoundTextureIDs[this.mCurrentActiveTextureIndex] != pHardwareTextureID) {
 			this.mCurrentBoundTextureIDs[this.mCurrentActiveTextureIndex] = pHardwareTextureID;
 			GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, pHardwareTextureID);
+
+			final IGLRecorder glRecorder = GLState.sGLRecorder;
+			if(glRecorder != null) {
+				glRecorder.onBindTexture(this.mCurrentActiveTextureIndex, pHardwareTextureID);
+			}
 		}
 	}
 
 	public void deleteTexture(final int pHardwareTextureID) {
-		if(this.mCurrentBoundTextureIDs[this.mCurrentActiveTextureIndex] == pHardwareTextureID) {
-			this.mCurrentBoundTextureIDs[this.mCurrentActiveTextureIndex] = -1;
+		/* The texture might still be bound to any of the texture units. */
+		final int[] currentBoundTextureIDs = this.mCurrentBoundTextureIDs;
+		for(int i = currentBoundTextureIDs.length - 1; i >= 0; i--) {
+			if(currentBoundTextureIDs[i] == pHardwareTextureID) {
+				currentBoundTextureIDs[i] = -1;
+			}
 		}
 		this.mHardwareIDContainer[0] = pHardwareTextureID;
 		GLES20.glDeleteTextures(1, this.mHardwareIDContainer, 0);
@@ -523,10 +702,36 @@ public class GLState {
 		if(this.mCurrentSourceBlendMode != pSourceBlendMode || this.mCurrentDestinationBlendMode != pDestinationBlendMode) {
 			this.mCurrentSourceBlendMode = pSourceBlendMode;
 			this.mCurrentDestinationBlendMode = pDestinationBlendMode;
-			GLES20.glBlendFunc(pSourceBlendMode, pDestinationBlendMode);
+			if(this.mBlendAlphaPremultiplied) {
+				GLES20.glBlendFuncSeparate(pSourceBlendMode, pDestinationBlendMode, GLES20.GL_ONE, GLES20.GL_ONE_MINUS_SRC_ALPHA);
+			} else {
+				GLES20.glBlendFunc(pSourceBlendMode, pDestinationBlendMode);
+			}
 		}
 	}
 
+	public boolean isBlendAlphaPremultiplied() {
+		return this.mBlendAlphaPremultiplied;
+	}
+
+	/**
+	 * While enabled, {@link GLState#blendFunction(int, int)} blends the alpha channel with <code>GL_ONE, GL_ONE_MINUS_SRC_ALPHA</code>, regardless of the given blend modes.
+	 * Rendering into a target that was cleared to 0 then leaves premultiplied colors with an alpha of <code>a</code> (instead of <code>a * a</code>), i.e. a cache that can be drawn with {@link org.andengine.entity.shape.IShape#BLENDFUNCTION_SOURCE_PREMULTIPLYALPHA_DEFAULT}.
+	 *
+	 * @return the previous state.
+	 */
+	public boolean setBlendAlphaPremultiplied(final boolean pBlendAlphaPremultiplied) {
+		final boolean previous = this.mBlendAlphaPremultiplied;
+		if(previous != pBlendAlphaPremultiplied) {
+			this.mBlendAlphaPremultiplied = pBlendAlphaPremultiplied;
+
+			/* The blend function needs to be set again the next time it is used. */
+			this.mCurrentSourceBlendMode = -1;
+			this.mCurrentDestinationBlendMode = -1;
+		}
+		return previous;
+	}
+
 	public void lineWidth(final float pLineWidth) {
 		if(this.mLineWidth  != pLineWidth) {
 			this.mLineWidth = pLineWidth;
@@ -546,24 +751,44 @@ public class GLState {
 		this.mModelViewGLMatrixStack.glLoadIdentity();
 	}
 
+	/**
+	 * @param pZ ignored, as the ModelView matrix is a 2D affine matrix. See {@link GLAffineMatrixStack}.
+	 */
 	public void translateModelViewGLMatrixf(final float pX, final float pY, final float pZ) {
-		this.mModelViewGLMatrixStack.glTranslatef(pX, pY, pZ);
+		this.mModelViewGLMatrixStack.glTranslatef(pX, pY);
 	}
 
+	/**
+	 * Rotations around any other axis than the z axis are projected onto the xy plane. See {@link GLAffineMatrixStack}.
+	 */
 	public void rotateModelViewGLMatrixf(final float pAngle, final float pX, final float pY, final float pZ) {
 		this.mModelViewGLMatrixStack.glRotatef(pAngle, pX, pY, pZ);
 	}
 
+	/**
+	 * @param pScaleZ ignored, as the ModelView matrix is a 2D affine matrix. See {@link GLAffineMatrixStack}.
+	 */
 	public void scaleModelViewGLMatrixf(final float pScaleX, final float pScaleY, final int pScaleZ) {
-		this.mModelViewGLMatrixStack.glScalef(pScaleX, pScaleY, pScaleZ);
+		this.mModelViewGLMatrixStack.glScalef(pScaleX, pScaleY);
 	}
 
 	public void skewModelViewGLMatrixf(final float pSkewX, final float pSkewY) {
 		this.mModelViewGLMatrixStack.glSkewf(pSkewX, pSkewY);
 	}
 
+	/**
+	 * @param pZNear ignored, as the ModelView matrix is a 2D affine matrix. See {@link GLAffineMatrixStack}.
+	 * @param pZFar ignored, as the ModelView matrix is a 2D affine matrix. See {@link GLAffineMatrixStack}.
+	 */
 	public void orthoModelViewGLMatrixf(final float pLeft, final float pRight, final float pBottom, final float pTop, final float pZNear, final float pZFar) {
-		this.mModelViewGLMatrixStack.glOrthof(pLeft, pRight, pBottom, pTop, pZNear, pZFar);
+		this.mModelViewGLMatrixStack.glOrthof(pLeft, pRight, pBottom, pTop);
+	}
+
+	/**
+	 * @see GLAffineMatrixStack#glTransformf(float, float, float, float, float, float, float, float, float, float, float, float, float)
+	 */
+	public void transformModelViewGLMatrixf(final float pX, final float pY, final float pRotation, final float pRotationCenterX, final float pRotationCenterY, final float pSkewX, final float pSkewY, final float pSkewCenterX, final float pSkewCenterY, final float pScaleX, final float pScaleY, final float pScaleCenterX, final float pScaleCenterY) {
+		this.mModelViewGLMatrixStack.glTransformf(pX, pY, pRotation, pRotationCenterX, pRotationCenterY, pSkewX, pSkewY, pSkewCenterX, pSkewCenterY, pScaleX, pScaleY, pScaleCenterX, pScaleCenterY);
 	}
 
 	public void pushProjectionGLMatrix() {
@@ -608,11 +833,54 @@ public class GLState {
 		return this.mProjectionGLMatrix;
 	}
 
+	/**
+	 * Only recalculates the ModelViewProjection matrix, when the ModelView or the Projection matrix changed since the last call.
+	 */
 	public float[] getModelViewProjectionGLMatrix() {
-		Matrix.multiplyMM(this.mModelViewProjectionGLMatrix, 0, this.mProjectionGLMatrixStack.mMatrixStack, this.mProjectionGLMatrixStack.mMatrixStackOffset, this.mModelViewGLMatrixStack.mMatrixStack, this.mModelViewGLMatrixStack.mMatrixStackOffset);
+		this.updateModelViewProjectionGLMatrix();
 		return this.mModelViewProjectionGLMatrix;
 	}
 
+	/**
+	 * @return the generation of the ModelViewProjection matrix, which only changes when the ModelViewProjection matrix changes.
+	 * Allows {@link org.andengine.opengl.shader.ShaderProgram}s to skip uploading a ModelViewProjection matrix they already hold.
+	 */
+	public int getModelViewProjectionGLMatrixGeneration() {
+		this.updateModelViewProjectionGLMatrix();
+		return this.mModelViewProjectionGLMatrixGeneration;
+	}
+
+	private void updateModelViewProjectionGLMatrix() {
+		final int modelViewGeneration = this.mModelViewGLMatrixStack.getGeneration();
+		final int projectionGeneration = this.mProjectionGLMatrixStack.getGeneration();
+
+		final boolean drawDepthApplied = (this.mDrawPass != DrawPass.ALL);
+		final float drawDepth = this.mDrawDepth;
+
+		if((modelViewGeneration != this.mModelViewProjectionGLMatrixModelViewGeneration) || (projectionGeneration != this.mModelViewProjectionGLMatrixProjectionGeneration) || (drawDepthApplied != this.mModelViewProjectionGLMatrixDrawDepthApplied) || (drawDepthApplied && (drawDepth != this.mModelViewProjectionGLMatrixDrawDepth))) {
+			final float[] modelViewProjectionGLMatrix = this.mModelViewProjectionGLMatrix;
+			this.mModelViewGLMatrixStack.multiplyProjection(modelViewProjectionGLMatrix, this.mProjectionGLMatrixStack.mMatrixStack, this.mProjectionGLMatrixStack.mMatrixStackOffset);
+
+			if(drawDepthApplied) {
+				/* Replace the z row, so that every vertex ends up at the depth of the entity. Works as the projection is orthographic (w == 1). */
+				modelViewProjectionGLMatrix[2] = 0;
+				modelViewProjectionGLMatrix[6] = 0;
+				modelViewProjectionGLMatrix[10] = 0;
+				modelViewProjectionGLMatrix[14] = drawDepth;
+			}
+
+			this.mModelViewProjectionGLMatrixModelViewGeneration = modelViewGeneration;
+			this.mModelViewProjectionGLMatrixProjectionGeneration = projectionGeneration;
+			this.mModelViewProjectionGLMatrixDrawDepthApplied = drawDepthApplied;
+			this.mModelViewProjectionGLMatrixDrawDepth = drawDepth;
+
+			this.mModelViewProjectionGLMatrixGeneration++;
+			if(this.mModelViewProjectionGLMatrixGeneration == GLMatrixStack.GENERATION_INVALID) {
+				this.mModelViewProjectionGLMatrixGeneration++;
+			}
+		}
+	}
+
 	public void resetModelViewGLMatrixStack() {
 		this.mModelViewGLMatrixStack.reset();
 	}
@@ -634,9 +902,11 @@ public class GLState {
 	 * @param pBorder
 	 */
 	public void glTexImage2D(final int pTarget, final int pLevel, final Bitmap pBitmap, final int pBorder, final PixelFormat pPixelFormat) {
-		final Buffer pixelBuffer = GLHelper.getPixels(pBitmap, pPixelFormat, ByteOrder.BIG_ENDIAN);
+		final Buffer pixelBuffer = GLHelper.getPixels(pBitmap, pPixelFormat, ByteOrder.BIG_ENDIAN, this.getPixelsARGB_8888Reuse(pBitmap));
 
 		GLES20.glTexImage2D(pTarget, pLevel, pPixelFormat.getGLInternalFormat(), pBitmap.getWidth(), pBitmap.getHeight(), pBorder, pPixelFormat.getGLFormat(), pPixelFormat.getGLType(), pixelBuffer);
+
+		GLState.recordTextureUpload(pBitmap.getWidth(), pBitmap.getHeight(), pPixelFormat);
 	}
 
 	/**
@@ -646,9 +916,98 @@ public class GLState {
 	 * See topic: '<a href="http://groups.google.com/group/android-developers/browse_thread/thread/baa6c33e63f82fca">PNG loading that doesn't premultiply alpha?</a>'
 	 */
 	public void glTexSubImage2D(final int pTarget, final int pLevel, final int pX, final int pY, final Bitmap pBitmap, final PixelFormat pPixelFormat) {
-		final Buffer pixelBuffer = GLHelper.getPixels(pBitmap, pPixelFormat, ByteOrder.BIG_ENDIAN);
+		final Buffer pixelBuffer = GLHelper.getPixels(pBitmap, pPixelFormat, ByteOrder.BIG_ENDIAN, this.getPixelsARGB_8888Reuse(pBitmap));
 
 		GLES20.glTexSubImage2D(pTarget, pLevel, pX, pY, pBitmap.getWidth(), pBitmap.getHeight(), pPixelFormat.getGLFormat(), pPixelFormat.getGLType(), pixelBuffer);
+
+		GLState.recordTextureUpload(pBitmap.getWidth(), pBitmap.getHeight(), pPixelFormat);
+	}
+
+	/**
+	 * @return <code>null</code> for big {@link Bitmap}s, so that their pixels are not kept alive after the upload.
+	 */
+	private int[] getPixelsARGB_8888Reuse(final Bitmap pBitmap) {
+		final int pixelCount = pBitmap.getWidth() * pBitmap.getHeight();
+		if(pixelCount > GLState.PIXELS_REUSE_COUNT_MAXIMUM) {
+			return null;
+		}
+
+		if((this.mPixelsARGB_8888Reuse == null) || (this.mPixelsARGB_8888Reuse.length < pixelCount)) {
+			this.mPixelsARGB_8888Reuse = new int[pixelCount];
+		}
+		return this.mPixelsARGB_8888Reuse;
+	}
+
+	/**
+	 * Same as {@link GLES20#glDrawArrays(int, int, int)}, but visible to the {@link IGLRecorder}.
+	 */
+	public static void glDrawArrays(final int pMode, final int pFirst, final int pCount) {
+		GLES20.glDrawArrays(pMode, pFirst, pCount);
+
+		final IGLRecorder glRecorder = GLState.sGLRecorder;
+		if(glRecorder != null) {
+			glRecorder.onDrawArrays(pMode, pFirst, pCount);
+		}
+	}
+
+	/**
+	 * Same as {@link GLES20#glDrawElements(int, int, int, int)}, but visible to the {@link IGLRecorder}.
+	 */
+	public static void glDrawElements(final int pMode, final int pCount, final int pType, final int pOffset) {
+		GLES20.glDrawElements(pMode, pCount, pType, pOffset);
+
+		final IGLRecorder glRecorder = GLState.sGLRecorder;
+		if(glRecorder != null) {
+			glRecorder.onDrawElements(pMode, pCount);
+		}
+	}
+
+	/**
+	 * Same as {@link GLES20#glBufferData(int, int, Buffer, int)}, but visible to the {@link IGLRecorder}.
+	 */
+	public static void glBufferData(final int pTarget, final int pSize, final Buffer pData, final int pUsage) {
+		GLES20.glBufferData(pTarget, pSize, pData, pUsage);
+
+		final IGLRecorder glRecorder = GLState.sGLRecorder;
+		if((glRecorder != null) && (pData != null)) {
+			glRecorder.onBufferUpload(pTarget, pSize);
+		}
+	}
+
+	/**
+	 * Same as {@link GLES20#glBufferSubData(int, int, int, Buffer)}, but visible to the {@link IGLRecorder}.
+	 */
+	public static void glBufferSubData(final int pTarget, final int pOffset, final int pSize, final Buffer pData) {
+		GLES20.glBufferSubData(pTarget, pOffset, pSize, pData);
+
+		final IGLRecorder glRecorder = GLState.sGLRecorder;
+		if(glRecorder != null) {
+			glRecorder.onBufferUpload(pTarget, pSize);
+		}
+	}
+
+	/**
+	 * To be called after texture data was uploaded without going through {@link GLState}, i.e. with {@link GLUtils#texImage2D(int, int, Bitmap, int)}.
+	 */
+	public static void recordTextureUpload(final int pWidth, final int pHeight, final PixelFormat pPixelFormat) {
+		final IGLRecorder glRecorder = GLState.sGLRecorder;
+		if(glRecorder != null) {
+			glRecorder.onTextureUpload(pWidth, pHeight, pPixelFormat);
+		}
+	}
+
+	/**
+	 * Reports the area from <code>(0, 0)</code> to <code>(pWidth, pHeight)</code> in the current ModelView space to the {@link IGLRecorder}, as an estimate of the fragments a shape covers.
+	 */
+	public void recordDrawArea(final float pWidth, final float pHeight, final boolean pOpaque) {
+		final IGLRecorder glRecorder = GLState.sGLRecorder;
+		if(glRecorder != null) {
+			final float[] modelViewProjectionGLMatrix = this.getModelViewProjectionGLMatrix();
+
+			/* The viewport spans an area of 2 x 2 in normalized device coordinates. */
+			final float determinant = (modelViewProjectionGLMatrix[0] * modelViewProjectionGLMatrix[5]) - (modelViewProjectionGLMatrix[1] * modelViewProjectionGLMatrix[4]);
+			glRecorder.onDrawArea((Math.abs(determinant) * pWidth * pHeight) / 4, pOpaque);
+		}
 	}
 
 	/**
@@ -696,4 +1055,22 @@ public class GLState {
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
+
+	/**
+	 * @see RenderOptions#setDepthSortedDrawing(boolean)
+	 */
+	public static enum DrawPass {
+		// ===========================================================
+		// Elements
+		// ===========================================================
+
+		/** Everything is drawn, back to front. */
+		ALL,
+		/** Only opaque entities are drawn, front to back, with depth testing and depth writes. */
+		OPAQUE,
+		/** Only non-opaque entities are drawn, back to front, with depth testing but without depth writes. */
+		TRANSPARENT,
+		/** Everything is drawn, back to front, at the depth of the entity that switched to it during {@link DrawPass#TRANSPARENT}, with depth testing but without depth writes. */
+		FLATTENED;
+	}
 }
@@ -0,0 +1,262 @@
+package org.andengine.opengl.util;
+
+import org.andengine.opengl.texture.PixelFormat;
+import org.andengine.util.adt.DataConstants;
+
+/**
+ * Counts the OpenGL commands per frame. The counts of the frame in progress are available through the <code>getCurrent...</code> methods,
+ * the counts of the last completed frame through the <code>getLast...</code> methods.
+ * <p/>
+ * Usage:
+ * <pre>
+ * final GLStatistics glStatistics = new GLStatistics();
+ * GLState.setGLRecorder(glStatistics);
+ * ...
+ * Debug.d("DrawCalls: " + glStatistics.getLastDrawCallCount());
+ * </pre>
+ *
+ * @author agent <agent@local>
+ * @since 06:27:17 - 19.10.2026
+ */
+public class GLStatistics implements IGLRecorder {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private int mFrameCount;
+
+	private int mCurrentDrawCallCount;
+	private int mCurrentVertexCount;
+	private int mCurrentProgramSwitchCount;
+	private int mCurrentTextureBindCount;
+	private int mCurrentBufferBindCount;
+	private int mCurrentBufferUploadByteCount;
+	private int mCurrentTextureUploadByteCount;
+	private float mCurrentOverdraw;
+	private float mCurrentOpaqueOverdraw;
+
+	private int mLastDrawCallCount;
+	private int mLastVertexCount;
+	private int mLastProgramSwitchCount;
+	private int mLastTextureBindCount;
+	private int mLastBufferBindCount;
+	private int mLastBufferUploadByteCount;
+	private int mLastTextureUploadByteCount;
+	private float mLastOverdraw;
+	private float mLastOpaqueOverdraw;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	/**
+	 * @return the number of completed frames.
+	 */
+	public int getFrameCount() {
+		return this.mFrameCount;
+	}
+
+	public int getCurrentDrawCallCount() {
+		return this.mCurrentDrawCallCount;
+	}
+
+	/**
+	 * @return the number of vertices (or indices, for indexed draw calls) drawn.
+	 */
+	public int getCurrentVertexCount() {
+		return this.mCurrentVertexCount;
+	}
+
+	public int getCurrentProgramSwitchCount() {
+		return this.mCurrentProgramSwitchCount;
+	}
+
+	public int getCurrentTextureBindCount() {
+		return this.mCurrentTextureBindCount;
+	}
+
+	public int getCurrentBufferBindCount() {
+		return this.mCurrentBufferBindCount;
+	}
+
+	public int getCurrentBufferUploadByteCount() {
+		return this.mCurrentBufferUploadByteCount;
+	}
+
+	public int getCurrentTextureUploadByteCount() {
+		return this.mCurrentTextureUploadByteCount;
+	}
+
+	/**
+	 * @return the estimated area drawn, in multiples of the viewport. See {@link IGLRecorder#onDrawArea(float, boolean)}.
+	 */
+	public float getCurrentOverdraw() {
+		return this.mCurrentOverdraw;
+	}
+
+	/**
+	 * @return the part of {@link GLStatistics#getCurrentOverdraw()} drawn by opaque shapes. With {@link GLState#isDepthSortedDrawing()}, everything of it beyond one layer is mostly rejected by the depth test before it is shaded.
+	 */
+	public float getCurrentOpaqueOverdraw() {
+		return this.mCurrentOpaqueOverdraw;
+	}
+
+	public int getLastDrawCallCount() {
+		return this.mLastDrawCallCount;
+	}
+
+	/**
+	 * @return the number of vertices (or indices, for indexed draw calls) drawn.
+	 */
+	public int getLastVertexCount() {
+		return this.mLastVertexCount;
+	}
+
+	public int getLastProgramSwitchCount() {
+		return this.mLastProgramSwitchCount;
+	}
+
+	public int getLastTextureBindCount() {
+		return this.mLastTextureBindCount;
+	}
+
+	public int getLastBufferBindCount() {
+		return this.mLastBufferBindCount;
+	}
+
+	public int getLastBufferUploadByteCount() {
+		return this.mLastBufferUploadByteCount;
+	}
+
+	public int getLastTextureUploadByteCount() {
+		return this.mLastTextureUploadByteCount;
+	}
+
+	/**
+	 * @return the estimated area drawn, in multiples of the viewport. See {@link IGLRecorder#onDrawArea(float, boolean)}.
+	 */
+	public float getLastOverdraw() {
+		return this.mLastOverdraw;
+	}
+
+	/**
+	 * @return the part of {@link GLStatistics#getLastOverdraw()} drawn by opaque shapes. With {@link GLState#isDepthSortedDrawing()}, everything of it beyond one layer is mostly rejected by the depth test before it is shaded.
+	 */
+	public float getLastOpaqueOverdraw() {
+		return this.mLastOpaqueOverdraw;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onFrameBegin() {
+		this.resetCurrent();
+	}
+
+	@Override
+	public void onFrameEnd() {
+		this.mLastDrawCallCount = this.mCurrentDrawCallCount;
+		this.mLastVertexCount = this.mCurrentVertexCount;
+		this.mLastProgramSwitchCount = this.mCurrentProgramSwitchCount;
+		this.mLastTextureBindCount = this.mCurrentTextureBindCount;
+		this.mLastBufferBindCount = this.mCurrentBufferBindCount;
+		this.mLastBufferUploadByteCount = this.mCurrentBufferUploadByteCount;
+		this.mLastTextureUploadByteCount = this.mCurrentTextureUploadByteCount;
+		this.mLastOverdraw = this.mCurrentOverdraw;
+		this.mLastOpaqueOverdraw = this.mCurrentOpaqueOverdraw;
+
+		this.mFrameCount++;
+
+		this.resetCurrent();
+	}
+
+	@Override
+	public void onDrawArrays(final int pMode, final int pFirst, final int pCount) {
+		this.mCurrentDrawCallCount++;
+		this.mCurrentVertexCount += pCount;
+	}
+
+	@Override
+	public void onDrawElements(final int pMode, final int pCount) {
+		this.mCurrentDrawCallCount++;
+		this.mCurrentVertexCount += pCount;
+	}
+
+	@Override
+	public void onUseProgram(final int pShaderProgramID) {
+		this.mCurrentProgramSwitchCount++;
+	}
+
+	@Override
+	public void onBindTexture(final int pTextureUnit, final int pHardwareTextureID) {
+		this.mCurrentTextureBindCount++;
+	}
+
+	@Override
+	public void onBindBuffer(final int pTarget, final int pHardwareBufferID) {
+		this.mCurrentBufferBindCount++;
+	}
+
+	@Override
+	public void onBufferUpload(final int pTarget, final int pByteCount) {
+		this.mCurrentBufferUploadByteCount += pByteCount;
+	}
+
+	@Override
+	public void onTextureUpload(final int pWidth, final int pHeight, final PixelFormat pPixelFormat) {
+		this.mCurrentTextureUploadByteCount += (pWidth * pHeight * pPixelFormat.getBitsPerPixel()) / DataConstants.BITS_PER_BYTE;
+	}
+
+	@Override
+	public void onDrawArea(final float pViewportFraction, final boolean pOpaque) {
+		this.mCurrentOverdraw += pViewportFraction;
+		if(pOpaque) {
+			this.mCurrentOpaqueOverdraw += pViewportFraction;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.getClass().getSimpleName()
+			+ "[DrawCalls: " + this.mLastDrawCallCount
+			+ ", Vertices: " + this.mLastVertexCount
+			+ ", ProgramSwitches: " + this.mLastProgramSwitchCount
+			+ ", TextureBinds: " + this.mLastTextureBindCount
+			+ ", BufferBinds: " + this.mLastBufferBindCount
+			+ ", BufferUploadBytes: " + this.mLastBufferUploadByteCount
+			+ ", TextureUploadBytes: " + this.mLastTextureUploadByteCount
+			+ ", Overdraw: " + this.mLastOverdraw
+			+ ", OpaqueOverdraw: " + this.mLastOpaqueOverdraw
+			+ "]";
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	private void resetCurrent() {
+		this.mCurrentDrawCallCount = 0;
+		this.mCurrentVertexCount = 0;
+		this.mCurrentProgramSwitchCount = 0;
+		this.mCurrentTextureBindCount = 0;
+		this.mCurrentBufferBindCount = 0;
+		this.mCurrentBufferUploadByteCount = 0;
+		this.mCurrentTextureUploadByteCount = 0;
+		this.mCurrentOverdraw = 0;
+		this.mCurrentOpaqueOverdraw = 0;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -0,0 +1,49 @@
+package org.andengine.opengl.util;
+
+import org.andengine.opengl.texture.PixelFormat;
+
+/**
+ * Is notified of the OpenGL commands that go through {@link GLState}, see {@link GLState#setGLRecorder(IGLRecorder)}.
+ * Bind and program notifications are only sent when {@link GLState} actually issues the command, not when it was skipped because the state was already set.
+ * All methods are called on the GL thread.
+ * An {@link IGLRecorder} only observes: the commands are still issued to OpenGL, see {@link GLCommandRecorder}.
+ *
+ * @author agent <agent@local>
+ * @since 06:27:17 - 19.10.2026
+ */
+public interface IGLRecorder {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public void onFrameBegin();
+	public void onFrameEnd();
+
+	public void onDrawArrays(final int pMode, final int pFirst, final int pCount);
+	public void onDrawElements(final int pMode, final int pCount);
+
+	public void onUseProgram(final int pShaderProgramID);
+	public void onBindTexture(final int pTextureUnit, final int pHardwareTextureID);
+	/**
+	 * @param pTarget either {@link android.opengl.GLES20#GL_ARRAY_BUFFER} or {@link android.opengl.GLES20#GL_ELEMENT_ARRAY_BUFFER}.
+	 */
+	public void onBindBuffer(final int pTarget, final int pHardwareBufferID);
+
+	/**
+	 * @param pTarget either {@link android.opengl.GLES20#GL_ARRAY_BUFFER} or {@link android.opengl.GLES20#GL_ELEMENT_ARRAY_BUFFER}.
+	 */
+	public void onBufferUpload(final int pTarget, final int pByteCount);
+	public void onTextureUpload(final int pWidth, final int pHeight, final PixelFormat pPixelFormat);
+
+	/**
+	 * An estimate, as OpenGL ES 2.0 can't count fragments. Neither clipping against the viewport nor fragments rejected by the depth test are taken into account.
+	 *
+	 * @param pViewportFraction the area a shape covers, relative to the area of the viewport.
+	 * @param pOpaque whether the shape is drawn without blending.
+	 */
+	public void onDrawArea(final float pViewportFraction, final boolean pOpaque);
+}
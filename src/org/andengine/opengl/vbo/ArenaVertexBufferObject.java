@@ -0,0 +1,250 @@
+package org.andengine.opengl.vbo;
+
+import org.andengine.opengl.shader.ShaderProgram;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.VertexBufferObjectArena.Allocation;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.util.adt.DataConstants;
+
+/**
+ * Compared to a {@link HighPerformanceVertexBufferObject}, the {@link ArenaVertexBufferObject} doesn't own a hardware buffer and a direct {@link java.nio.ByteBuffer},
+ * but a slice ({@link Allocation}) of a {@link VertexBufferObjectArena} that is shared with all other {@link ArenaVertexBufferObject}s of the same {@link VertexBufferObjectAttributes} and {@link DrawType}.
+ * <p/>
+ * Usually a {@link ArenaVertexBufferObject} is preferred to a {@link HighPerformanceVertexBufferObject} when the following conditions are met:
+ * <ol>
+ * <li>There is a large number of small {@link IVertexBufferObject}s, i.e. many {@link org.andengine.entity.sprite.Sprite}s that are not drawn through a {@link org.andengine.entity.sprite.batch.SpriteBatch}.</li>
+ * <li>Many of them change every frame, as the dirty vertices of all of them are uploaded at once, before the scene is drawn.</li>
+ * </ol>
+ * <p/>
+ * The {@link VertexBufferObjectArena}s are owned by the {@link VertexBufferObjectManager}, see {@link VertexBufferObjectManager#allocate(VertexBufferObjectAttributes, int, DrawType)}.
+ * Entities that draw indexed through the {@link QuadIndexBuffer} (i.e. {@link org.andengine.entity.text.Text}) need the vertex attributes to point at their {@link Allocation}, see {@link VertexBufferObjectArena#glVertexAttribPointers(Allocation)}.
+ *
+ * @author agent <agent@local>
+ * @since 06:12:28 - 19.10.2026
+ */
+public abstract class ArenaVertexBufferObject implements IVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	protected final int mCapacity;
+	protected final boolean mAutoDispose;
+
+	protected final float[] mBufferData;
+
+	protected final VertexBufferObjectArena mArena;
+	protected final Allocation mAllocation;
+
+	/** Guarded by {@link ArenaVertexBufferObject#mArena}. */
+	protected boolean mDirtyOnHardware;
+
+	protected boolean mDisposed;
+
+	protected final VertexBufferObjectManager mVertexBufferObjectManager;
+	protected final VertexBufferObjectAttributes mVertexBufferObjectAttributes;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ArenaVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		this.mVertexBufferObjectManager = pVertexBufferObjectManager;
+		this.mCapacity = pCapacity;
+		this.mAutoDispose = pAutoDispose;
+		this.mVertexBufferObjectAttributes = pVertexBufferObjectAttributes;
+
+		this.mBufferData = new float[pCapacity];
+
+		final int floatsPerVertex = pVertexBufferObjectAttributes.getStride() / DataConstants.BYTES_PER_FLOAT;
+		this.mAllocation = pVertexBufferObjectManager.allocate(pVertexBufferObjectAttributes, pCapacity / floatsPerVertex, pDrawType);
+		this.mArena = this.mAllocation.getArena();
+
+		this.setDirtyOnHardware();
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	@Override
+	public VertexBufferObjectManager getVertexBufferObjectManager() {
+		return this.mVertexBufferObjectManager;
+	}
+
+	@Override
+	public VertexBufferObjectAttributes getVertexBufferObjectAttributes() {
+		return this.mVertexBufferObjectAttributes;
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return this.mDisposed;
+	}
+
+	@Override
+	public boolean isAutoDispose() {
+		return this.mAutoDispose;
+	}
+
+	public float[] getBufferData() {
+		return this.mBufferData;
+	}
+
+	public Allocation getAllocation() {
+		return this.mAllocation;
+	}
+
+	public VertexBufferObjectArena getArena() {
+		return this.mArena;
+	}
+
+	/**
+	 * @return the hardware buffer ID of the shared {@link VertexBufferObjectArena}, or {@link IVertexBufferObject#HARDWARE_BUFFER_ID_INVALID} after {@link ArenaVertexBufferObject#dispose()}.
+	 */
+	@Override
+	public int getHardwareBufferID() {
+		if(this.mDisposed) {
+			return IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+		} else {
+			return this.mArena.getHardwareBufferID();
+		}
+	}
+
+	@Override
+	public boolean isLoadedToHardware() {
+		return !this.mDisposed && this.mArena.isLoadedToHardware();
+	}
+
+	/**
+	 * The shared {@link VertexBufferObjectArena} is reloaded by the {@link VertexBufferObjectManager}, which keeps a copy of the vertices of all of its {@link Allocation}s.
+	 */
+	@Override
+	public void setNotLoadedToHardware() {
+
+	}
+
+	@Override
+	public boolean isDirtyOnHardware() {
+		synchronized(this.mArena) {
+			return this.mDirtyOnHardware;
+		}
+	}
+
+	/**
+	 * The buffer data is written to the {@link VertexBufferObjectArena} along with the one of all other dirty {@link ArenaVertexBufferObject}s the next time it is updated on the hardware.
+	 */
+	@Override
+	public void setDirtyOnHardware() {
+		this.mArena.setDirtyOnHardware(this);
+	}
+
+	/**
+	 * {@link ArenaVertexBufferObject}s are small, so they are always written to the {@link VertexBufferObjectArena} completely.
+	 */
+	@Override
+	public void setDirtyOnHardware(final int pOffset, final int pCount) {
+		this.mArena.setDirtyOnHardware(this);
+	}
+
+	@Override
+	public int getCapacity() {
+		return this.mCapacity;
+	}
+
+	@Override
+	public int getByteCapacity() {
+		return this.mCapacity * DataConstants.BYTES_PER_FLOAT;
+	}
+
+	@Override
+	public int getHeapMemoryByteSize() {
+		return this.getByteCapacity();
+	}
+
+	/**
+	 * @return 0, as the native heap memory is accounted for by the shared {@link VertexBufferObjectArena}.
+	 */
+	@Override
+	public int getNativeHeapMemoryByteSize() {
+		return 0;
+	}
+
+	/**
+	 * @return 0, as the GPU memory is accounted for by the shared {@link VertexBufferObjectArena}.
+	 */
+	@Override
+	public int getGPUMemoryByteSize() {
+		return 0;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void bind(final GLState pGLState) {
+		this.mArena.bind(pGLState);
+	}
+
+	@Override
+	public void bind(final GLState pGLState, final ShaderProgram pShaderProgram) {
+		this.bind(pGLState);
+
+		pShaderProgram.bind(pGLState, this.mVertexBufferObjectAttributes);
+	}
+
+	@Override
+	public void unbind(final GLState pGLState, final ShaderProgram pShaderProgram) {
+		pShaderProgram.unbind(pGLState);
+	}
+
+	/**
+	 * The shared {@link VertexBufferObjectArena} is unloaded by the {@link VertexBufferObjectManager}.
+	 */
+	@Override
+	public void unloadFromHardware(final GLState pGLState) {
+
+	}
+
+	@Override
+	public void draw(final int pPrimitiveType, final int pCount) {
+		this.mArena.draw(pPrimitiveType, this.mAllocation, 0, pCount);
+	}
+
+	@Override
+	public void draw(final int pPrimitiveType, final int pOffset, final int pCount) {
+		this.mArena.draw(pPrimitiveType, this.mAllocation, pOffset, pCount);
+	}
+
+	@Override
+	public void dispose() {
+		if(!this.mDisposed) {
+			this.mDisposed = true;
+
+			this.mVertexBufferObjectManager.free(this.mAllocation);
+		} else {
+			throw new AlreadyDisposedException();
+		}
+	}
+
+	@Override
+	protected void finalize() throws Throwable {
+		super.finalize();
+
+		if(!this.mDisposed) {
+			this.dispose();
+		}
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
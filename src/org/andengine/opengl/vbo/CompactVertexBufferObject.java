@@ -0,0 +1,187 @@
+package org.andengine.opengl.vbo;
+
+import java.nio.ByteBuffer;
+
+import org.andengine.opengl.shader.constants.ShaderProgramConstants;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttribute;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributesBuilder;
+import org.andengine.util.adt.DataConstants;
+
+import android.opengl.GLES20;
+
+/**
+ * A {@link LowMemoryVertexBufferObject} for the compact vertex layout of 12 bytes per vertex (instead of 20):
+ * <ul>
+ * <li>Position: 2 <code>GL_SHORT</code>s (not normalized, so whole units only) or 2 {@link VertexBufferObjectAttributesBuilder#GL_HALF_FLOAT_OES}s.</li>
+ * <li>Color: 4 normalized <code>GL_UNSIGNED_BYTE</code>s (the packed ABGR color, as in the default layout).</li>
+ * <li>TextureCoordinates: 2 normalized <code>GL_UNSIGNED_SHORT</code>s.</li>
+ * </ul>
+ * As OpenGL converts all of them to floats before they reach the vertex shader, the regular {@link org.andengine.opengl.shader.PositionColorTextureCoordinatesShaderProgram} is used with this layout.
+ * <p/>
+ * Short positions are best suited for large static batches (i.e. tile maps), where all positions are whole numbers anyway.
+ * Half-float positions keep fractions, but require {@link org.andengine.opengl.util.GLState#isVertexHalfFloatSupported()} and lose precision beyond 2048.
+ *
+ * @author agent <agent@local>
+ * @since 06:21:27 - 19.10.2026
+ */
+public abstract class CompactVertexBufferObject extends LowMemoryVertexBufferObject {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int VERTEX_BYTE_SIZE = (2 * DataConstants.BYTES_PER_SHORT) + (4 * DataConstants.BYTES_PER_BYTE) + (2 * DataConstants.BYTES_PER_SHORT);
+	/** In <code>float</code>s, as {@link IVertexBufferObject#getCapacity()}. */
+	public static final int VERTEX_SIZE = CompactVertexBufferObject.VERTEX_BYTE_SIZE / DataConstants.BYTES_PER_FLOAT;
+
+	public static final int POSITION_BYTE_OFFSET = 0;
+	public static final int COLOR_BYTE_OFFSET = CompactVertexBufferObject.POSITION_BYTE_OFFSET + (2 * DataConstants.BYTES_PER_SHORT);
+	public static final int TEXTURECOORDINATES_BYTE_OFFSET = CompactVertexBufferObject.COLOR_BYTE_OFFSET + (4 * DataConstants.BYTES_PER_BYTE);
+
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_SHORT_POSITION = new VertexBufferObjectAttributesBuilder(3)
+		.add(ShaderProgramConstants.ATTRIBUTE_POSITION_LOCATION, ShaderProgramConstants.ATTRIBUTE_POSITION, 2, GLES20.GL_SHORT, false)
+		.add(ShaderProgramConstants.ATTRIBUTE_COLOR_LOCATION, ShaderProgramConstants.ATTRIBUTE_COLOR, 4, GLES20.GL_UNSIGNED_BYTE, true)
+		.add(ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES, 2, GLES20.GL_UNSIGNED_SHORT, true)
+		.build();
+
+	public static final VertexBufferObjectAttributes VERTEXBUFFEROBJECTATTRIBUTES_HALF_FLOAT_POSITION = new VertexBufferObjectAttributesBuilder(3)
+		.add(ShaderProgramConstants.ATTRIBUTE_POSITION_LOCATION, ShaderProgramConstants.ATTRIBUTE_POSITION, 2, VertexBufferObjectAttributesBuilder.GL_HALF_FLOAT_OES, false)
+		.add(ShaderProgramConstants.ATTRIBUTE_COLOR_LOCATION, ShaderProgramConstants.ATTRIBUTE_COLOR, 4, GLES20.GL_UNSIGNED_BYTE, true)
+		.add(ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES_LOCATION, ShaderProgramConstants.ATTRIBUTE_TEXTURECOORDINATES, 2, GLES20.GL_UNSIGNED_SHORT, true)
+		.build();
+
+	private static final float TEXTURECOORDINATES_SCALE = 0xFFFF;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	protected final boolean mHalfFloatPosition;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	/**
+	 * @param pCapacity in <code>float</code>s, i.e. <code>vertexCount * {@link CompactVertexBufferObject#VERTEX_SIZE}</code>.
+	 * @param pVertexBufferObjectAttributes either {@link CompactVertexBufferObject#VERTEXBUFFEROBJECTATTRIBUTES_SHORT_POSITION} or {@link CompactVertexBufferObject#VERTEXBUFFEROBJECTATTRIBUTES_HALF_FLOAT_POSITION}.
+	 */
+	public CompactVertexBufferObject(final VertexBufferObjectManager pVertexBufferObjectManager, final int pCapacity, final DrawType pDrawType, final boolean pAutoDispose, final VertexBufferObjectAttributes pVertexBufferObjectAttributes) {
+		super(pVertexBufferObjectManager, pCapacity, pDrawType, pAutoDispose, pVertexBufferObjectAttributes);
+
+		if(pVertexBufferObjectAttributes.getStride() != CompactVertexBufferObject.VERTEX_BYTE_SIZE) {
+			throw new IllegalArgumentException("pVertexBufferObjectAttributes must have a stride of: '" + CompactVertexBufferObject.VERTEX_BYTE_SIZE + "'.");
+		}
+
+		final VertexBufferObjectAttribute positionVertexBufferObjectAttribute = pVertexBufferObjectAttributes.getVertexBufferObjectAttributeByLocation(ShaderProgramConstants.ATTRIBUTE_POSITION_LOCATION);
+		this.mHalfFloatPosition = (positionVertexBufferObjectAttribute != null) && (positionVertexBufferObjectAttribute.getType() == VertexBufferObjectAttributesBuilder.GL_HALF_FLOAT_OES);
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public boolean isHalfFloatPosition() {
+		return this.mHalfFloatPosition;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @param pVertexIndex the index of the vertex to be written, not a <code>float</code> or <code>byte</code> offset.
+	 */
+	protected void putVertex(final int pVertexIndex, final float pX, final float pY, final float pColorABGRPackedInt, final float pU, final float pV) {
+		final ByteBuffer byteBuffer = this.mByteBuffer;
+		final int byteOffset = pVertexIndex * CompactVertexBufferObject.VERTEX_BYTE_SIZE;
+
+		this.putPosition(byteBuffer, byteOffset, pX, pY);
+		byteBuffer.putFloat(byteOffset + CompactVertexBufferObject.COLOR_BYTE_OFFSET, pColorABGRPackedInt);
+		CompactVertexBufferObject.putTextureCoordinates(byteBuffer, byteOffset, pU, pV);
+	}
+
+	/**
+	 * @param pVertexIndex the index of the vertex to be written, not a <code>float</code> or <code>byte</code> offset.
+	 */
+	protected void putVertex(final int pVertexIndex, final float pX, final float pY, final float pU, final float pV) {
+		final ByteBuffer byteBuffer = this.mByteBuffer;
+		final int byteOffset = pVertexIndex * CompactVertexBufferObject.VERTEX_BYTE_SIZE;
+
+		this.putPosition(byteBuffer, byteOffset, pX, pY);
+		CompactVertexBufferObject.putTextureCoordinates(byteBuffer, byteOffset, pU, pV);
+	}
+
+	/**
+	 * Like {@link CompactVertexBufferObject#putVertex(int, float, float, float, float)}, but compares the stored position and texture coordinates, so callers can mark only the changed vertices dirty.
+	 *
+	 * @param pVertexIndex the index of the vertex to be written, not a <code>float</code> or <code>byte</code> offset.
+	 * @return whether the position or the texture coordinates of the vertex changed.
+	 */
+	protected boolean updateVertex(final int pVertexIndex, final float pX, final float pY, final float pU, final float pV) {
+		final ByteBuffer byteBuffer = this.mByteBuffer;
+		final int byteOffset = pVertexIndex * CompactVertexBufferObject.VERTEX_BYTE_SIZE;
+
+		/* Both the position and the texture coordinates are 2 shorts, so they can be compared as one int each. */
+		final int position = byteBuffer.getInt(byteOffset + CompactVertexBufferObject.POSITION_BYTE_OFFSET);
+		final int textureCoordinates = byteBuffer.getInt(byteOffset + CompactVertexBufferObject.TEXTURECOORDINATES_BYTE_OFFSET);
+
+		this.putPosition(byteBuffer, byteOffset, pX, pY);
+		CompactVertexBufferObject.putTextureCoordinates(byteBuffer, byteOffset, pU, pV);
+
+		return (byteBuffer.getInt(byteOffset + CompactVertexBufferObject.POSITION_BYTE_OFFSET) != position) || (byteBuffer.getInt(byteOffset + CompactVertexBufferObject.TEXTURECOORDINATES_BYTE_OFFSET) != textureCoordinates);
+	}
+
+	/**
+	 * @param pVertexIndex the index of the vertex to be written, not a <code>float</code> or <code>byte</code> offset.
+	 */
+	protected void putColor(final int pVertexIndex, final float pColorABGRPackedInt) {
+		this.mByteBuffer.putFloat(pVertexIndex * CompactVertexBufferObject.VERTEX_BYTE_SIZE + CompactVertexBufferObject.COLOR_BYTE_OFFSET, pColorABGRPackedInt);
+	}
+
+	private void putPosition(final ByteBuffer pByteBuffer, final int pByteOffset, final float pX, final float pY) {
+		final int byteOffset = pByteOffset + CompactVertexBufferObject.POSITION_BYTE_OFFSET;
+		if(this.mHalfFloatPosition) {
+			pByteBuffer.putShort(byteOffset, CompactVertexBufferObject.toHalfFloat(pX));
+			pByteBuffer.putShort(byteOffset + DataConstants.BYTES_PER_SHORT, CompactVertexBufferObject.toHalfFloat(pY));
+		} else {
+			pByteBuffer.putShort(byteOffset, (short)Math.round(pX));
+			pByteBuffer.putShort(byteOffset + DataConstants.BYTES_PER_SHORT, (short)Math.round(pY));
+		}
+	}
+
+	private static void putTextureCoordinates(final ByteBuffer pByteBuffer, final int pByteOffset, final float pU, final float pV) {
+		final int byteOffset = pByteOffset + CompactVertexBufferObject.TEXTURECOORDINATES_BYTE_OFFSET;
+		pByteBuffer.putShort(byteOffset, (short)Math.round(pU * CompactVertexBufferObject.TEXTURECOORDINATES_SCALE));
+		pByteBuffer.putShort(byteOffset + DataConstants.BYTES_PER_SHORT, (short)Math.round(pV * CompactVertexBufferObject.TEXTURECOORDINATES_SCALE));
+	}
+
+	/**
+	 * Converts to an IEEE 754 half-precision float, rounding to the nearest representable value. Values out of range become infinity, very small values become zero.
+	 */
+	public static short toHalfFloat(final float pValue) {
+		final int bits = Float.floatToRawIntBits(pValue);
+		final int sign = (bits >>> 16) & 0x8000;
+		final int exponent = ((bits >>> 23) & 0xFF) - 127 + 15;
+		final int mantissa = bits & 0x007FFFFF;
+
+		if(exponent <= 0) {
+			/* Too small for a normalized half-float. */
+			return (short)sign;
+		} else if(exponent >= 0x1F) {
+			/* Too big (or NaN/infinity). */
+			return (short)(sign | 0x7C00);
+		} else {
+			/* Round to nearest, which may carry over into the exponent, which is correct. */
+			return (short)(sign | ((exponent << 10) + ((mantissa + 0x1000) >> 13)));
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -15,6 +15,7 @@ public enum DrawType {
 
 	STATIC(GLES20.GL_STATIC_DRAW),
 	DYNAMIC(GLES20.GL_DYNAMIC_DRAW),
+	/** Rewritten (nearly) every frame. Such {@link VertexBufferObject}s rotate through multiple hardware buffers, so they never write into one the GPU might still be reading from. */
 	STREAM(GLES20.GL_STREAM_DRAW);
 
 	// ===========================================================
@@ -1,9 +1,12 @@
 package org.andengine.opengl.vbo;
 
+import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
 
 import org.andengine.opengl.util.BufferUtils;
+import org.andengine.opengl.util.GLState;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.util.adt.DataConstants;
 import org.andengine.util.system.SystemUtils;
 
 import android.opengl.GLES20;
@@ -87,13 +90,31 @@ public class HighPerformanceVertexBufferObject extends VertexBufferObject {
 			this.mFloatBuffer.position(0);
 			this.mFloatBuffer.put(this.mBufferData);
 
-			GLES20.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.capacity(), this.mByteBuffer, this.mUsage);
+			GLState.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.capacity(), this.mByteBuffer, this.mUsage);
 		} else {
 			BufferUtils.put(this.mByteBuffer, this.mBufferData, this.mBufferData.length, 0);
-			GLES20.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.limit(), this.mByteBuffer, this.mUsage);
+			GLState.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.limit(), this.mByteBuffer, this.mUsage);
 		}
 	}
 
+	@Override
+	protected void onBufferSubData(final int pOffset, final int pCount) {
+		final float[] bufferData = this.mBufferData;
+
+		if(SystemUtils.SDK_VERSION_HONEYCOMB_OR_LATER) {
+			this.mFloatBuffer.position(pOffset);
+			this.mFloatBuffer.put(bufferData, pOffset, pCount);
+		} else {
+			final ByteBuffer byteBuffer = this.mByteBuffer;
+			byteBuffer.clear();
+			for(int i = pOffset; i < (pOffset + pCount); i++) {
+				byteBuffer.putFloat(i * DataConstants.BYTES_PER_FLOAT, bufferData[i]);
+			}
+		}
+
+		super.onBufferSubData(pOffset, pCount);
+	}
+
 	// ===========================================================
 	// Methods
 	// ===========================================================
@@ -4,6 +4,7 @@ import java.nio.ByteBuffer;
 
 import org.andengine.opengl.shader.ShaderProgram;
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
 import org.andengine.util.IDisposable;
 
 /**
@@ -38,6 +39,12 @@ public interface IVertexBufferObject extends IDisposable {
 	public boolean isDirtyOnHardware();
 	/** Mark this {@link VertexBufferObject} dirty so it gets updated on the hardware. */
 	public void setDirtyOnHardware();
+	/**
+	 * Mark only a part of this {@link VertexBufferObject} dirty, so only that part gets updated on the hardware (if supported by the implementation).
+	 * @param pOffset in <code>float</code>s.
+	 * @param pCount in <code>float</code>s.
+	 */
+	public void setDirtyOnHardware(final int pOffset, final int pCount);
 
 	/**
 	 * @return the number of <code>float</code>s that fit into this {@link IVertexBufferObject}.
@@ -66,6 +73,7 @@ public interface IVertexBufferObject extends IDisposable {
 	public void unbind(final GLState pGLState, final ShaderProgram pShaderProgram);
 
 	public VertexBufferObjectManager getVertexBufferObjectManager();
+	public VertexBufferObjectAttributes getVertexBufferObjectAttributes();
 
 	public void draw(final int pPrimitiveType, final int pCount);
 	public void draw(final int pPrimitiveType, final int pOffset, final int pCount);
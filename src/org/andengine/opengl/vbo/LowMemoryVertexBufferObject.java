@@ -2,6 +2,7 @@ package org.andengine.opengl.vbo;
 
 import java.nio.FloatBuffer;
 
+import org.andengine.opengl.util.GLState;
 import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
 
 import android.opengl.GLES20;
@@ -67,7 +68,7 @@ public class LowMemoryVertexBufferObject extends VertexBufferObject {
 
 	@Override
 	protected void onBufferData() {
-		GLES20.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.limit(), this.mByteBuffer, this.mUsage);
+		GLState.glBufferData(GLES20.GL_ARRAY_BUFFER, this.mByteBuffer.limit(), this.mByteBuffer, this.mUsage);
 	}
 
 	// ===========================================================
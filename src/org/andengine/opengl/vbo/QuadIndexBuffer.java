@@ -0,0 +1,162 @@
+package org.andengine.opengl.vbo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+
+import org.andengine.opengl.util.BufferUtils;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.util.adt.DataConstants;
+
+import android.opengl.GLES20;
+
+/**
+ * A single, process-wide, static index buffer that allows any {@link IVertexBufferObject} consisting of consecutive quads of 4 vertices each
+ * to be drawn as <code>GL_TRIANGLES</code>, without duplicating 2 vertices per quad.
+ *
+ * The vertices of a quad are expected in the same order as for a <code>GL_TRIANGLE_STRIP</code>:
+ * <pre>
+ * 0-2
+ * |/|
+ * 1-3
+ * </pre>
+ * which are indexed as <code>0, 1, 2, 2, 1, 3</code>.
+ *
+ * As the indices are <code>unsigned short</code>s, at most {@link QuadIndexBuffer#QUADS_MAXIMUM} quads can be drawn with a single draw call.
+ * Larger {@link IVertexBufferObject}s are drawn in multiple draw calls, by moving the vertex attribute pointers ahead.
+ *
+ * @author agent <agent@local>
+ * @since 06:16:24 - 19.10.2026
+ */
+public class QuadIndexBuffer {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	public static final int VERTICES_PER_QUAD = 4;
+	public static final int INDICES_PER_QUAD = 6;
+
+	/** Limited by the maximum vertex index representable by an <code>unsigned short</code>. */
+	public static final int QUADS_MAXIMUM = (1 << DataConstants.BITS_PER_SHORT) / QuadIndexBuffer.VERTICES_PER_QUAD;
+
+	private static final short[] INDICES_PER_QUAD_PATTERN = new short[] {0, 1, 2, 2, 1, 3};
+
+	private static QuadIndexBuffer INSTANCE;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private int mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	private QuadIndexBuffer() {
+
+	}
+
+	public static QuadIndexBuffer getInstance() {
+		if(QuadIndexBuffer.INSTANCE == null) {
+			QuadIndexBuffer.INSTANCE = new QuadIndexBuffer();
+		}
+		return QuadIndexBuffer.INSTANCE;
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getHardwareBufferID() {
+		return this.mHardwareBufferID;
+	}
+
+	public boolean isLoadedToHardware() {
+		return this.mHardwareBufferID != IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+	}
+
+	public void setNotLoadedToHardware() {
+		this.mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	public void bind(final GLState pGLState) {
+		if(this.mHardwareBufferID == IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
+			this.loadToHardware(pGLState);
+		}
+
+		pGLState.bindIndexBuffer(this.mHardwareBufferID);
+	}
+
+	/**
+	 * Draws <code>pQuadCount</code> quads of the currently bound {@link IVertexBufferObject}, starting at its first vertex.
+	 * The {@link IVertexBufferObject} and the {@link org.andengine.opengl.shader.ShaderProgram} need to be bound already.
+	 */
+	public void draw(final GLState pGLState, final VertexBufferObjectAttributes pVertexBufferObjectAttributes, final int pQuadCount) {
+		this.draw(pGLState, pVertexBufferObjectAttributes, 0, pQuadCount);
+	}
+
+	/**
+	 * Draws <code>pQuadCount</code> quads of the currently bound {@link IVertexBufferObject}, starting at quad <code>pQuadOffset</code>.
+	 * The {@link IVertexBufferObject} and the {@link org.andengine.opengl.shader.ShaderProgram} need to be bound already.
+	 */
+	public void draw(final GLState pGLState, final VertexBufferObjectAttributes pVertexBufferObjectAttributes, final int pQuadOffset, final int pQuadCount) {
+		this.bind(pGLState);
+
+		if(pQuadOffset + pQuadCount <= QuadIndexBuffer.QUADS_MAXIMUM) {
+			GLState.glDrawElements(GLES20.GL_TRIANGLES, pQuadCount * QuadIndexBuffer.INDICES_PER_QUAD, GLES20.GL_UNSIGNED_SHORT, pQuadOffset * QuadIndexBuffer.INDICES_PER_QUAD * DataConstants.BYTES_PER_SHORT);
+		} else {
+			final int quadByteSize = QuadIndexBuffer.VERTICES_PER_QUAD * pVertexBufferObjectAttributes.getStride();
+
+			final int quadEnd = pQuadOffset + pQuadCount;
+			for(int quadOffset = pQuadOffset; quadOffset < quadEnd; quadOffset += QuadIndexBuffer.QUADS_MAXIMUM) {
+				final int quadCount = Math.min(QuadIndexBuffer.QUADS_MAXIMUM, quadEnd - quadOffset);
+
+				pVertexBufferObjectAttributes.glVertexAttribPointers(quadOffset * quadByteSize);
+				GLState.glDrawElements(GLES20.GL_TRIANGLES, quadCount * QuadIndexBuffer.INDICES_PER_QUAD, GLES20.GL_UNSIGNED_SHORT, 0);
+			}
+
+			/* Restore the vertex attribute pointers for following draw calls. */
+			pVertexBufferObjectAttributes.glVertexAttribPointers();
+		}
+	}
+
+	private void loadToHardware(final GLState pGLState) {
+		final int indexCount = QuadIndexBuffer.QUADS_MAXIMUM * QuadIndexBuffer.INDICES_PER_QUAD;
+		final int byteCount = indexCount * DataConstants.BYTES_PER_SHORT;
+
+		this.mHardwareBufferID = pGLState.generateIndexBuffer(byteCount, GLES20.GL_STATIC_DRAW);
+
+		final ByteBuffer byteBuffer = BufferUtils.allocateDirectByteBuffer(byteCount);
+		try {
+			byteBuffer.order(ByteOrder.nativeOrder());
+			final ShortBuffer shortBuffer = byteBuffer.asShortBuffer();
+
+			final short[] pattern = QuadIndexBuffer.INDICES_PER_QUAD_PATTERN;
+			for(int quad = 0; quad < QuadIndexBuffer.QUADS_MAXIMUM; quad++) {
+				final int vertexOffset = quad * QuadIndexBuffer.VERTICES_PER_QUAD;
+				for(int i = 0; i < QuadIndexBuffer.INDICES_PER_QUAD; i++) {
+					shortBuffer.put((short)(vertexOffset + pattern[i]));
+				}
+			}
+
+			pGLState.bindIndexBuffer(this.mHardwareBufferID);
+			GLState.glBufferSubData(GLES20.GL_ELEMENT_ARRAY_BUFFER, 0, byteCount, byteBuffer);
+		} finally {
+			BufferUtils.freeDirectByteBuffer(byteBuffer);
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+}
@@ -26,6 +26,19 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 	// Constants
 	// ===========================================================
 
+	/** The maximum number of disjoint dirty ranges that are tracked, before all of them are merged into a single one. */
+	public static final int DIRTY_RANGES_MAXIMUM = 8;
+	/** Dirty ranges that are closer than this number of <code>float</code>s are merged, as a single slightly larger upload is cheaper than two separate ones. */
+	public static final int DIRTY_RANGE_MERGE_DISTANCE_DEFAULT = 64;
+	/** When more than this fraction of the buffer is dirty, the whole buffer is uploaded with <code>glBufferData</code>. */
+	public static final float DIRTY_RANGE_FULL_UPLOAD_RATIO_DEFAULT = 0.5f;
+
+	/** The number of hardware buffers a {@link DrawType#STREAM} {@link VertexBufferObject} rotates through. */
+	public static final int STREAMING_HARDWARE_BUFFER_COUNT = 3;
+	/** The number of frames the GPU is assumed to lag behind, i.e. how long a hardware buffer is considered to be in use after it was bound. */
+	public static final int STREAMING_FRAMES_IN_FLIGHT = 2;
+	private static final int STREAMING_FRAME_NEVER = Integer.MIN_VALUE;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -38,6 +51,21 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 	protected int mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
 	protected boolean mDirtyOnHardware = true;
 
+	/** When <code>true</code>, the whole buffer needs to be uploaded, regardless of the dirty ranges. */
+	private boolean mDirtyOnHardwareCompletely = true;
+	/** Sorted, disjoint, in <code>float</code>s. */
+	private final int[] mDirtyRangeStarts = new int[VertexBufferObject.DIRTY_RANGES_MAXIMUM];
+	private final int[] mDirtyRangeEnds = new int[VertexBufferObject.DIRTY_RANGES_MAXIMUM];
+	private int mDirtyRangeCount;
+	private int mDirtyRangeMergeDistance = VertexBufferObject.DIRTY_RANGE_MERGE_DISTANCE_DEFAULT;
+	private float mDirtyRangeFullUploadRatio = VertexBufferObject.DIRTY_RANGE_FULL_UPLOAD_RATIO_DEFAULT;
+
+	/** Only used for {@link DrawType#STREAM}, otherwise <code>null</code>. */
+	private final int[] mStreamingHardwareBufferIDs;
+	/** The frame ({@link VertexBufferObjectManager#getFrame()}) in which each of the {@link VertexBufferObject#mStreamingHardwareBufferIDs} was bound the last time. */
+	private final int[] mStreamingHardwareBufferFrames;
+	private int mStreamingHardwareBufferIndex;
+
 	protected boolean mDisposed;
 
 	protected final VertexBufferObjectManager mVertexBufferObjectManager;
@@ -61,6 +89,15 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 		this.mAutoDispose = pAutoDispose;
 		this.mVertexBufferObjectAttributes = pVertexBufferObjectAttributes;
 
+		if(pDrawType == DrawType.STREAM) {
+			this.mStreamingHardwareBufferIDs = new int[VertexBufferObject.STREAMING_HARDWARE_BUFFER_COUNT];
+			this.mStreamingHardwareBufferFrames = new int[VertexBufferObject.STREAMING_HARDWARE_BUFFER_COUNT];
+			this.resetStreamingHardwareBuffers();
+		} else {
+			this.mStreamingHardwareBufferIDs = null;
+			this.mStreamingHardwareBufferFrames = null;
+		}
+
 		this.mByteBuffer = BufferUtils.allocateDirectByteBuffer(pCapacity * DataConstants.BYTES_PER_FLOAT);
 
 		this.mByteBuffer.order(ByteOrder.nativeOrder());
@@ -75,6 +112,11 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 		return this.mVertexBufferObjectManager;
 	}
 
+	@Override
+	public VertexBufferObjectAttributes getVertexBufferObjectAttributes() {
+		return this.mVertexBufferObjectAttributes;
+	}
+
 	@Override
 	public boolean isDisposed() {
 		return this.mDisposed;
@@ -99,6 +141,18 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 	public void setNotLoadedToHardware() {
 		this.mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
 		this.mDirtyOnHardware = true;
+		this.mDirtyOnHardwareCompletely = true;
+
+		if(this.mStreamingHardwareBufferIDs != null) {
+			this.resetStreamingHardwareBuffers();
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if this {@link VertexBufferObject} was created with {@link DrawType#STREAM} and rotates through {@link VertexBufferObject#STREAMING_HARDWARE_BUFFER_COUNT} hardware buffers.
+	 */
+	public boolean isStreaming() {
+		return this.mStreamingHardwareBufferIDs != null;
 	}
 
 	@Override
@@ -109,6 +163,40 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 	@Override
 	public void setDirtyOnHardware() {
 		this.mDirtyOnHardware = true;
+		this.mDirtyOnHardwareCompletely = true;
+	}
+
+	@Override
+	public void setDirtyOnHardware(final int pOffset, final int pCount) {
+		this.mDirtyOnHardware = true;
+
+		if(this.mDirtyOnHardwareCompletely || (pCount <= 0)) {
+			return;
+		}
+
+		this.addDirtyRange(pOffset, Math.min(pOffset + pCount, this.mCapacity));
+	}
+
+	public int getDirtyRangeMergeDistance() {
+		return this.mDirtyRangeMergeDistance;
+	}
+
+	/**
+	 * @param pDirtyRangeMergeDistance in <code>float</code>s.
+	 */
+	public void setDirtyRangeMergeDistance(final int pDirtyRangeMergeDistance) {
+		this.mDirtyRangeMergeDistance = pDirtyRangeMergeDistance;
+	}
+
+	public float getDirtyRangeFullUploadRatio() {
+		return this.mDirtyRangeFullUploadRatio;
+	}
+
+	/**
+	 * @param pDirtyRangeFullUploadRatio [0, 1]
+	 */
+	public void setDirtyRangeFullUploadRatio(final float pDirtyRangeFullUploadRatio) {
+		this.mDirtyRangeFullUploadRatio = pDirtyRangeFullUploadRatio;
 	}
 
 	@Override
@@ -123,7 +211,15 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 
 	@Override
 	public int getGPUMemoryByteSize() {
-		if(this.isLoadedToHardware()) {
+		if(this.mStreamingHardwareBufferIDs != null) {
+			int byteSize = 0;
+			for(int i = 0; i < this.mStreamingHardwareBufferIDs.length; i++) {
+				if(this.mStreamingHardwareBufferIDs[i] != IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
+					byteSize += this.getByteCapacity();
+				}
+			}
+			return byteSize;
+		} else if(this.isLoadedToHardware()) {
 			return this.getByteCapacity();
 		} else {
 			return 0;
@@ -136,8 +232,31 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 
 	protected abstract void onBufferData();
 
+	/**
+	 * Uploads a part of the buffer with <code>glBufferSubData</code>. Only called when the buffer was previously uploaded as a whole by {@link VertexBufferObject#onBufferData()}.
+	 * The default implementation uploads from {@link VertexBufferObject#mByteBuffer}. Subclasses that keep the bufferdata elsewhere need to copy it there first.
+	 *
+	 * @param pOffset in <code>float</code>s.
+	 * @param pCount in <code>float</code>s.
+	 */
+	protected void onBufferSubData(final int pOffset, final int pCount) {
+		final ByteBuffer byteBuffer = this.mByteBuffer;
+		final int byteOffset = pOffset * DataConstants.BYTES_PER_FLOAT;
+		final int byteCount = pCount * DataConstants.BYTES_PER_FLOAT;
+
+		byteBuffer.limit(byteOffset + byteCount);
+		byteBuffer.position(byteOffset);
+		GLState.glBufferSubData(GLES20.GL_ARRAY_BUFFER, byteOffset, byteCount, byteBuffer);
+		byteBuffer.clear();
+	}
+
 	@Override
 	public void bind(final GLState pGLState) {
+		if(this.mStreamingHardwareBufferIDs != null) {
+			this.bindStreaming(pGLState);
+			return;
+		}
+
 		if(this.mHardwareBufferID == IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
 			this.loadToHardware(pGLState);
 
@@ -149,9 +268,19 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 		pGLState.bindArrayBuffer(this.mHardwareBufferID);
 
 		if(this.mDirtyOnHardware) {
-			this.onBufferData();
+			if(this.mDirtyOnHardwareCompletely || (this.getDirtyRangesFloatCount() > this.mCapacity * this.mDirtyRangeFullUploadRatio)) {
+				this.onBufferData();
+			} else {
+				final int[] dirtyRangeStarts = this.mDirtyRangeStarts;
+				final int[] dirtyRangeEnds = this.mDirtyRangeEnds;
+				for(int i = 0; i < this.mDirtyRangeCount; i++) {
+					this.onBufferSubData(dirtyRangeStarts[i], dirtyRangeEnds[i] - dirtyRangeStarts[i]);
+				}
+			}
 
 			this.mDirtyOnHardware = false;
+			this.mDirtyOnHardwareCompletely = false;
+			this.mDirtyRangeCount = 0;
 		}
 	}
 
@@ -172,19 +301,28 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 
 	@Override
 	public void unloadFromHardware(final GLState pGLState) {
-		pGLState.deleteArrayBuffer(this.mHardwareBufferID);
+		if(this.mStreamingHardwareBufferIDs != null) {
+			for(int i = 0; i < this.mStreamingHardwareBufferIDs.length; i++) {
+				if(this.mStreamingHardwareBufferIDs[i] != IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
+					pGLState.deleteArrayBuffer(this.mStreamingHardwareBufferIDs[i]);
+				}
+			}
+			this.resetStreamingHardwareBuffers();
+		} else {
+			pGLState.deleteArrayBuffer(this.mHardwareBufferID);
+		}
 
 		this.mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
 	}
 
 	@Override
 	public void draw(final int pPrimitiveType, final int pCount) {
-		GLES20.glDrawArrays(pPrimitiveType, 0, pCount);
+		GLState.glDrawArrays(pPrimitiveType, 0, pCount);
 	}
 
 	@Override
 	public void draw(final int pPrimitiveType, final int pOffset, final int pCount) {
-		GLES20.glDrawArrays(pPrimitiveType, pOffset, pCount);
+		GLState.glDrawArrays(pPrimitiveType, pOffset, pCount);
 	}
 
 	@Override
@@ -218,6 +356,120 @@ public abstract class VertexBufferObject implements IVertexBufferObject {
 	private void loadToHardware(final GLState pGLState) {
 		this.mHardwareBufferID = pGLState.generateBuffer();
 		this.mDirtyOnHardware = true;
+		this.mDirtyOnHardwareCompletely = true;
+	}
+
+	/**
+	 * Every upload goes to the next of the {@link VertexBufferObject#mStreamingHardwareBufferIDs}, so the hardware buffer that the GPU might still be reading from (for a previous frame) is never written to.
+	 * When the next hardware buffer was bound less than {@link VertexBufferObject#STREAMING_FRAMES_IN_FLIGHT} frames ago (i.e. when uploading more often than once per frame),
+	 * its storage is orphaned with <code>glBufferData</code> instead of overwritten with <code>glBufferSubData</code>.
+	 */
+	private void bindStreaming(final GLState pGLState) {
+		final int[] hardwareBufferIDs = this.mStreamingHardwareBufferIDs;
+		final int[] hardwareBufferFrames = this.mStreamingHardwareBufferFrames;
+
+		final int frame = (this.mVertexBufferObjectManager != null) ? this.mVertexBufferObjectManager.getFrame() : 0;
+
+		if(this.mDirtyOnHardware || (this.mHardwareBufferID == IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID)) {
+			final int index = (this.mStreamingHardwareBufferIndex + 1) % hardwareBufferIDs.length;
+			this.mStreamingHardwareBufferIndex = index;
+
+			final boolean loaded = this.mHardwareBufferID != IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+
+			final boolean created;
+			if(hardwareBufferIDs[index] == IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
+				hardwareBufferIDs[index] = pGLState.generateBuffer();
+				created = true;
+			} else {
+				created = false;
+			}
+			this.mHardwareBufferID = hardwareBufferIDs[index];
+
+			if(!loaded && (this.mVertexBufferObjectManager != null)) {
+				this.mVertexBufferObjectManager.onVertexBufferObjectLoaded(this);
+			}
+
+			pGLState.bindArrayBuffer(this.mHardwareBufferID);
+
+			/* Without a VertexBufferObjectManager there is no frame counter, so the hardware buffer always has to be assumed to be in use. */
+			final boolean inFlight = (this.mVertexBufferObjectManager == null) || ((hardwareBufferFrames[index] != VertexBufferObject.STREAMING_FRAME_NEVER) && (frame - hardwareBufferFrames[index] < VertexBufferObject.STREAMING_FRAMES_IN_FLIGHT));
+			if(created || inFlight) {
+				this.onBufferData();
+			} else {
+				/* The hardware buffer holds the data of an earlier upload, so it needs to be written completely, not only the dirty ranges. */
+				this.onBufferSubData(0, this.mCapacity);
+			}
+
+			this.mDirtyOnHardware = false;
+			this.mDirtyOnHardwareCompletely = false;
+			this.mDirtyRangeCount = 0;
+		} else {
+			pGLState.bindArrayBuffer(this.mHardwareBufferID);
+		}
+
+		hardwareBufferFrames[this.mStreamingHardwareBufferIndex] = frame;
+	}
+
+	private void resetStreamingHardwareBuffers() {
+		for(int i = 0; i < this.mStreamingHardwareBufferIDs.length; i++) {
+			this.mStreamingHardwareBufferIDs[i] = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+			this.mStreamingHardwareBufferFrames[i] = VertexBufferObject.STREAMING_FRAME_NEVER;
+		}
+		this.mStreamingHardwareBufferIndex = 0;
+	}
+
+	private int getDirtyRangesFloatCount() {
+		int floatCount = 0;
+		for(int i = 0; i < this.mDirtyRangeCount; i++) {
+			floatCount += this.mDirtyRangeEnds[i] - this.mDirtyRangeStarts[i];
+		}
+		return floatCount;
+	}
+
+	/**
+	 * Inserts [<code>pStart</code>, <code>pEnd</code>) into the sorted list of dirty ranges, merging it with all ranges that are closer than {@link VertexBufferObject#mDirtyRangeMergeDistance}.
+	 */
+	private void addDirtyRange(final int pStart, final int pEnd) {
+		final int[] dirtyRangeStarts = this.mDirtyRangeStarts;
+		final int[] dirtyRangeEnds = this.mDirtyRangeEnds;
+		final int mergeDistance = this.mDirtyRangeMergeDistance;
+
+		int start = pStart;
+		int end = pEnd;
+
+		/* Find the first range that ends close enough before or after pStart. */
+		int first = 0;
+		while((first < this.mDirtyRangeCount) && (dirtyRangeEnds[first] + mergeDistance < start)) {
+			first++;
+		}
+
+		/* Find the range after the last one that starts close enough before pEnd. */
+		int last = first;
+		while((last < this.mDirtyRangeCount) && (dirtyRangeStarts[last] <= end + mergeDistance)) {
+			start = Math.min(start, dirtyRangeStarts[last]);
+			end = Math.max(end, dirtyRangeEnds[last]);
+			last++;
+		}
+
+		final int mergedCount = last - first;
+		if((mergedCount == 0) && (this.mDirtyRangeCount == VertexBufferObject.DIRTY_RANGES_MAXIMUM)) {
+			/* Out of slots: collapse everything into a single range. */
+			dirtyRangeStarts[0] = Math.min(start, dirtyRangeStarts[0]);
+			dirtyRangeEnds[0] = Math.max(end, dirtyRangeEnds[this.mDirtyRangeCount - 1]);
+			this.mDirtyRangeCount = 1;
+			return;
+		}
+
+		/* Replace the merged ranges [first, last) with a single one. */
+		final int shift = 1 - mergedCount;
+		final int tailCount = this.mDirtyRangeCount - last;
+		if((shift != 0) && (tailCount > 0)) {
+			System.arraycopy(dirtyRangeStarts, last, dirtyRangeStarts, last + shift, tailCount);
+			System.arraycopy(dirtyRangeEnds, last, dirtyRangeEnds, last + shift, tailCount);
+		}
+		dirtyRangeStarts[first] = start;
+		dirtyRangeEnds[first] = end;
+		this.mDirtyRangeCount += shift;
 	}
 
 	// ===========================================================
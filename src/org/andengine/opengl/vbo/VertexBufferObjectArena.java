@@ -0,0 +1,494 @@
+package org.andengine.opengl.vbo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import org.andengine.opengl.util.BufferUtils;
+import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
+import org.andengine.util.adt.DataConstants;
+
+import android.opengl.GLES20;
+
+/**
+ * A single, large hardware buffer that is carved into {@link Allocation}s for many small {@link ArenaVertexBufferObject}s sharing the same {@link VertexBufferObjectAttributes}.
+ * Instead of one hardware buffer, one <code>glBindBuffer</code> and one direct {@link ByteBuffer} per entity, all of them share the ones of the {@link VertexBufferObjectArena}
+ * and draw with a vertex offset into it.
+ *
+ * Free space is managed with a first-fit free-list. When an allocation doesn't fit into any free block, but would fit into the total free space, the {@link VertexBufferObjectArena} is compacted.
+ * Dirty {@link ArenaVertexBufferObject}s are collected and written to the hardware buffer once per frame, before the scene is drawn (see {@link VertexBufferObjectManager#updateVertexBufferObjects(GLState)}),
+ * with one <code>glBufferSubData</code> per run of nearby dirty {@link Allocation}s.
+ *
+ * {@link VertexBufferObjectArena}s are created and managed by the {@link VertexBufferObjectManager}.
+ *
+ * @author agent <agent@local>
+ * @since 06:12:28 - 19.10.2026
+ */
+public class VertexBufferObjectArena {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	/** Dirty {@link Allocation}s that are closer than this number of vertices are uploaded together, as a single slightly larger upload is cheaper than two separate ones. */
+	private static final int DIRTY_RUN_MERGE_DISTANCE = 16;
+
+	private static final Comparator<ArenaVertexBufferObject> VERTEXOFFSET_COMPARATOR = new Comparator<ArenaVertexBufferObject>() {
+		@Override
+		public int compare(final ArenaVertexBufferObject pArenaVertexBufferObjectA, final ArenaVertexBufferObject pArenaVertexBufferObjectB) {
+			return pArenaVertexBufferObjectA.getAllocation().mVertexOffset - pArenaVertexBufferObjectB.getAllocation().mVertexOffset;
+		}
+	};
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final VertexBufferObjectAttributes mVertexBufferObjectAttributes;
+	private final int mUsage;
+
+	private final int mStride;
+	private final int mFloatsPerVertex;
+	private final int mVertexCapacity;
+
+	private final ByteBuffer mByteBuffer;
+	private final FloatBuffer mFloatBuffer;
+
+	private int mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+
+	/** Sorted by {@link Allocation#getVertexOffset()}. */
+	private final ArrayList<Allocation> mAllocations = new ArrayList<Allocation>();
+	/** Sorted by {@link Allocation#getVertexOffset()}. Adjacent free blocks are always merged. */
+	private final ArrayList<Allocation> mFreeBlocks = new ArrayList<Allocation>();
+	private int mFreeVertexCount;
+
+	/** The {@link ArenaVertexBufferObject}s whose buffer data still needs to be written to this {@link VertexBufferObjectArena}. */
+	private final ArrayList<ArenaVertexBufferObject> mDirtyArenaVertexBufferObjects = new ArrayList<ArenaVertexBufferObject>();
+	/** Vertices that were moved by {@link VertexBufferObjectArena#compact()} or need to be uploaded to a new hardware buffer. */
+	private int mDirtyVertexFrom;
+	private int mDirtyVertexTo;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public VertexBufferObjectArena(final VertexBufferObjectAttributes pVertexBufferObjectAttributes, final int pVertexCapacity, final DrawType pDrawType) {
+		this.mVertexBufferObjectAttributes = pVertexBufferObjectAttributes;
+		this.mUsage = pDrawType.getUsage();
+
+		this.mStride = pVertexBufferObjectAttributes.getStride();
+		this.mFloatsPerVertex = this.mStride / DataConstants.BYTES_PER_FLOAT;
+		this.mVertexCapacity = pVertexCapacity;
+
+		this.mByteBuffer = BufferUtils.allocateDirectByteBuffer(pVertexCapacity * this.mStride);
+		this.mByteBuffer.order(ByteOrder.nativeOrder());
+		this.mFloatBuffer = this.mByteBuffer.asFloatBuffer();
+
+		this.mFreeBlocks.add(new Allocation(0, pVertexCapacity));
+		this.mFreeVertexCount = pVertexCapacity;
+
+		this.clearDirtyRange();
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public VertexBufferObjectAttributes getVertexBufferObjectAttributes() {
+		return this.mVertexBufferObjectAttributes;
+	}
+
+	public int getUsage() {
+		return this.mUsage;
+	}
+
+	public int getVertexCapacity() {
+		return this.mVertexCapacity;
+	}
+
+	public int getStride() {
+		return this.mStride;
+	}
+
+	public synchronized int getFreeVertexCount() {
+		return this.mFreeVertexCount;
+	}
+
+	public synchronized int getAllocationCount() {
+		return this.mAllocations.size();
+	}
+
+	public synchronized int getHardwareBufferID() {
+		return this.mHardwareBufferID;
+	}
+
+	public synchronized boolean isLoadedToHardware() {
+		return this.mHardwareBufferID != IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+	}
+
+	/**
+	 * @return <code>true</code> if there are vertices that still need to be uploaded, or the hardware buffer still needs to be created.
+	 */
+	public synchronized boolean isDirtyOnHardware() {
+		return (this.mHardwareBufferID == IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) || !this.mDirtyArenaVertexBufferObjects.isEmpty() || (this.mDirtyVertexFrom < this.mDirtyVertexTo);
+	}
+
+	public int getByteCapacity() {
+		return this.mByteBuffer.capacity();
+	}
+
+	public int getGPUMemoryByteSize() {
+		if(this.isLoadedToHardware()) {
+			return this.getByteCapacity();
+		} else {
+			return 0;
+		}
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * @return <code>null</code> if there is not enough free space left in this {@link VertexBufferObjectArena}.
+	 */
+	public synchronized Allocation allocate(final int pVertexCount) {
+		if(pVertexCount > this.mFreeVertexCount) {
+			return null;
+		}
+
+		int freeBlockIndex = this.findFreeBlock(pVertexCount);
+		if(freeBlockIndex < 0) {
+			/* There is enough free space, it is just fragmented. */
+			this.compact();
+			freeBlockIndex = this.findFreeBlock(pVertexCount);
+		}
+
+		final Allocation freeBlock = this.mFreeBlocks.get(freeBlockIndex);
+		final Allocation allocation = new Allocation(freeBlock.mVertexOffset, pVertexCount);
+
+		if(freeBlock.mVertexCount == pVertexCount) {
+			this.mFreeBlocks.remove(freeBlockIndex);
+		} else {
+			freeBlock.mVertexOffset += pVertexCount;
+			freeBlock.mVertexCount -= pVertexCount;
+		}
+		this.mFreeVertexCount -= pVertexCount;
+
+		this.mAllocations.add(VertexBufferObjectArena.findInsertionIndex(this.mAllocations, allocation.mVertexOffset), allocation);
+
+		return allocation;
+	}
+
+	public synchronized void free(final Allocation pAllocation) {
+		if(pAllocation.mArena != this) {
+			throw new IllegalArgumentException("pAllocation was not allocated from this " + this.getClass().getSimpleName() + ".");
+		}
+		if(!this.mAllocations.remove(pAllocation)) {
+			throw new IllegalStateException("pAllocation was already freed.");
+		}
+
+		final ArrayList<Allocation> freeBlocks = this.mFreeBlocks;
+		final int index = VertexBufferObjectArena.findInsertionIndex(freeBlocks, pAllocation.mVertexOffset);
+		final Allocation freeBlock = new Allocation(pAllocation.mVertexOffset, pAllocation.mVertexCount);
+		freeBlocks.add(index, freeBlock);
+		this.mFreeVertexCount += pAllocation.mVertexCount;
+
+		/* Merge with the following free block. */
+		if(index + 1 < freeBlocks.size()) {
+			final Allocation next = freeBlocks.get(index + 1);
+			if(freeBlock.mVertexOffset + freeBlock.mVertexCount == next.mVertexOffset) {
+				freeBlock.mVertexCount += next.mVertexCount;
+				freeBlocks.remove(index + 1);
+			}
+		}
+
+		/* Merge with the preceding free block. */
+		if(index > 0) {
+			final Allocation previous = freeBlocks.get(index - 1);
+			if(previous.mVertexOffset + previous.mVertexCount == freeBlock.mVertexOffset) {
+				previous.mVertexCount += freeBlock.mVertexCount;
+				freeBlocks.remove(index);
+			}
+		}
+
+		pAllocation.mArena = null;
+	}
+
+	/**
+	 * Moves all {@link Allocation}s to the front of this {@link VertexBufferObjectArena}, so that all free space forms a single block.
+	 */
+	public synchronized void compact() {
+		final ArrayList<Allocation> allocations = this.mAllocations;
+		final FloatBuffer floatBuffer = this.mFloatBuffer;
+		final int floatsPerVertex = this.mFloatsPerVertex;
+
+		float[] temp = null;
+		int vertexOffset = 0;
+		final int allocationCount = allocations.size();
+		for(int i = 0; i < allocationCount; i++) {
+			final Allocation allocation = allocations.get(i);
+			if(allocation.mVertexOffset != vertexOffset) {
+				final int floatCount = allocation.mVertexCount * floatsPerVertex;
+				if((temp == null) || (temp.length < floatCount)) {
+					temp = new float[floatCount];
+				}
+
+				floatBuffer.position(allocation.mVertexOffset * floatsPerVertex);
+				floatBuffer.get(temp, 0, floatCount);
+				floatBuffer.position(vertexOffset * floatsPerVertex);
+				floatBuffer.put(temp, 0, floatCount);
+
+				allocation.mVertexOffset = vertexOffset;
+			}
+			vertexOffset += allocation.mVertexCount;
+		}
+
+		this.mFreeBlocks.clear();
+		if(vertexOffset < this.mVertexCapacity) {
+			this.mFreeBlocks.add(new Allocation(vertexOffset, this.mVertexCapacity - vertexOffset));
+		}
+
+		this.setDirty(0, vertexOffset);
+	}
+
+	/**
+	 * Queues the buffer data of <code>pArenaVertexBufferObject</code> to be written to this {@link VertexBufferObjectArena} the next time it is updated on the hardware.
+	 */
+	synchronized void setDirtyOnHardware(final ArenaVertexBufferObject pArenaVertexBufferObject) {
+		if(!pArenaVertexBufferObject.mDirtyOnHardware) {
+			pArenaVertexBufferObject.mDirtyOnHardware = true;
+			this.mDirtyArenaVertexBufferObjects.add(pArenaVertexBufferObject);
+		}
+	}
+
+	/**
+	 * Called by the {@link VertexBufferObjectManager} once per frame, before the scene is drawn, so all dirty vertices are uploaded at once.
+	 */
+	public synchronized void updateHardwareBuffer(final GLState pGLState) {
+		if(this.isDirtyOnHardware()) {
+			this.bind(pGLState);
+		}
+	}
+
+	/**
+	 * Uploads vertices that were changed after {@link VertexBufferObjectArena#updateHardwareBuffer(GLState)}, i.e. while the scene is drawn, right away.
+	 */
+	public synchronized void bind(final GLState pGLState) {
+		if(this.mHardwareBufferID == IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
+			this.mHardwareBufferID = pGLState.generateArrayBuffer(this.mByteBuffer.capacity(), this.mUsage);
+			this.setDirty(0, this.mVertexCapacity);
+		}
+
+		pGLState.bindArrayBuffer(this.mHardwareBufferID);
+
+		this.uploadDirtyVertices();
+	}
+
+	/**
+	 * Needs to be called right after {@link VertexBufferObjectArena#bind(GLState)}. Reads the vertex offset of <code>pAllocation</code> in sync with {@link VertexBufferObjectArena#compact()}.
+	 *
+	 * @param pVertexOffset relative to the vertex offset of <code>pAllocation</code>.
+	 */
+	public synchronized void draw(final int pPrimitiveType, final Allocation pAllocation, final int pVertexOffset, final int pVertexCount) {
+		/* An allocation on another thread might have compacted this VertexBufferObjectArena since it was bound. */
+		this.uploadDirtyVertices();
+
+		GLState.glDrawArrays(pPrimitiveType, pAllocation.mVertexOffset + pVertexOffset, pVertexCount);
+	}
+
+	public synchronized void setNotLoadedToHardware() {
+		this.mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+	}
+
+	public synchronized void unloadFromHardware(final GLState pGLState) {
+		if(this.mHardwareBufferID != IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID) {
+			pGLState.deleteArrayBuffer(this.mHardwareBufferID);
+			this.mHardwareBufferID = IVertexBufferObject.HARDWARE_BUFFER_ID_INVALID;
+		}
+	}
+
+	/**
+	 * Needs to be called right after the {@link org.andengine.opengl.shader.ShaderProgram} was bound. Lets the vertex attributes start at the first vertex of <code>pAllocation</code>,
+	 * so that indices starting at 0 (i.e. of the {@link QuadIndexBuffer}) address its vertices. Reads the vertex offset of <code>pAllocation</code> in sync with {@link VertexBufferObjectArena#compact()}.
+	 */
+	public synchronized void glVertexAttribPointers(final Allocation pAllocation) {
+		/* An allocation on another thread might have compacted this VertexBufferObjectArena since it was bound. */
+		this.uploadDirtyVertices();
+
+		this.mVertexBufferObjectAttributes.glVertexAttribPointers(pAllocation.mVertexOffset * this.mStride);
+	}
+
+	private void uploadDirtyVertices() {
+		final ArrayList<ArenaVertexBufferObject> dirtyArenaVertexBufferObjects = this.mDirtyArenaVertexBufferObjects;
+		final int dirtyArenaVertexBufferObjectCount = dirtyArenaVertexBufferObjects.size();
+		if(dirtyArenaVertexBufferObjectCount > 0) {
+			Collections.sort(dirtyArenaVertexBufferObjects, VertexBufferObjectArena.VERTEXOFFSET_COMPARATOR);
+
+			final FloatBuffer floatBuffer = this.mFloatBuffer;
+			final int floatsPerVertex = this.mFloatsPerVertex;
+
+			int runFrom = 0;
+			int runTo = 0;
+			for(int i = 0; i < dirtyArenaVertexBufferObjectCount; i++) {
+				final ArenaVertexBufferObject arenaVertexBufferObject = dirtyArenaVertexBufferObjects.get(i);
+				arenaVertexBufferObject.mDirtyOnHardware = false;
+
+				final Allocation allocation = arenaVertexBufferObject.getAllocation();
+				if(allocation.mArena != this) {
+					/* Already freed. */
+					continue;
+				}
+
+				floatBuffer.position(allocation.mVertexOffset * floatsPerVertex);
+				floatBuffer.put(arenaVertexBufferObject.getBufferData(), 0, arenaVertexBufferObject.getCapacity());
+
+				final int from = allocation.mVertexOffset;
+				final int to = from + allocation.mVertexCount;
+				if((runTo > runFrom) && (from <= runTo + VertexBufferObjectArena.DIRTY_RUN_MERGE_DISTANCE)) {
+					runTo = Math.max(runTo, to);
+				} else {
+					this.uploadDirtyRun(runFrom, runTo);
+					runFrom = from;
+					runTo = to;
+				}
+			}
+			this.uploadDirtyRun(runFrom, runTo);
+
+			dirtyArenaVertexBufferObjects.clear();
+		}
+
+		if(this.mDirtyVertexFrom < this.mDirtyVertexTo) {
+			this.uploadVertices(this.mDirtyVertexFrom, this.mDirtyVertexTo);
+			this.clearDirtyRange();
+		}
+	}
+
+	private void uploadDirtyRun(final int pVertexFrom, final int pVertexTo) {
+		/* Runs within the dirty range are uploaded along with it anyway. */
+		if((pVertexTo > pVertexFrom) && ((pVertexFrom < this.mDirtyVertexFrom) || (pVertexTo > this.mDirtyVertexTo))) {
+			this.uploadVertices(pVertexFrom, pVertexTo);
+		}
+	}
+
+	private void uploadVertices(final int pVertexFrom, final int pVertexTo) {
+		final ByteBuffer byteBuffer = this.mByteBuffer;
+		final int byteOffset = pVertexFrom * this.mStride;
+		final int byteCount = (pVertexTo - pVertexFrom) * this.mStride;
+
+		byteBuffer.limit(byteOffset + byteCount);
+		byteBuffer.position(byteOffset);
+		GLState.glBufferSubData(GLES20.GL_ARRAY_BUFFER, byteOffset, byteCount, byteBuffer);
+		byteBuffer.clear();
+	}
+
+	private void setDirty(final int pVertexFrom, final int pVertexTo) {
+		if(pVertexFrom < this.mDirtyVertexFrom) {
+			this.mDirtyVertexFrom = pVertexFrom;
+		}
+		if(pVertexTo > this.mDirtyVertexTo) {
+			this.mDirtyVertexTo = pVertexTo;
+		}
+	}
+
+	private void clearDirtyRange() {
+		this.mDirtyVertexFrom = Integer.MAX_VALUE;
+		this.mDirtyVertexTo = 0;
+	}
+
+	private int findFreeBlock(final int pVertexCount) {
+		final ArrayList<Allocation> freeBlocks = this.mFreeBlocks;
+		final int freeBlockCount = freeBlocks.size();
+		for(int i = 0; i < freeBlockCount; i++) {
+			if(freeBlocks.get(i).mVertexCount >= pVertexCount) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int findInsertionIndex(final ArrayList<Allocation> pAllocations, final int pVertexOffset) {
+		int low = 0;
+		int high = pAllocations.size();
+		while(low < high) {
+			final int mid = (low + high) >>> 1;
+			if(pAllocations.get(mid).mVertexOffset < pVertexOffset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	public class Allocation {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private VertexBufferObjectArena mArena;
+
+		/** Can change when the {@link VertexBufferObjectArena} is compacted. */
+		private int mVertexOffset;
+		/** Only changes for free blocks. */
+		private int mVertexCount;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		private Allocation(final int pVertexOffset, final int pVertexCount) {
+			this.mArena = VertexBufferObjectArena.this;
+			this.mVertexOffset = pVertexOffset;
+			this.mVertexCount = pVertexCount;
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		/**
+		 * @return <code>null</code> after the {@link Allocation} was freed.
+		 */
+		public VertexBufferObjectArena getArena() {
+			return this.mArena;
+		}
+
+		public int getVertexOffset() {
+			synchronized(VertexBufferObjectArena.this) {
+				return this.mVertexOffset;
+			}
+		}
+
+		public int getVertexCount() {
+			return this.mVertexCount;
+		}
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		// ===========================================================
+		// Inner and Anonymous Classes
+		// ===========================================================
+	}
+}
@@ -3,6 +3,8 @@ package org.andengine.opengl.vbo;
 import java.util.ArrayList;
 
 import org.andengine.opengl.util.GLState;
+import org.andengine.opengl.vbo.VertexBufferObjectArena.Allocation;
+import org.andengine.opengl.vbo.attribute.VertexBufferObjectAttributes;
 
 /**
  * (c) 2010 Nicolas Gramlich
@@ -16,6 +18,8 @@ public class VertexBufferObjectManager {
 	// Constants
 	// ===========================================================
 
+	public static final int VERTEXBUFFEROBJECTARENA_VERTEX_CAPACITY_DEFAULT = 8192;
+
 	// ===========================================================
 	// Fields
 	// ===========================================================
@@ -24,6 +28,13 @@ public class VertexBufferObjectManager {
 
 	private final ArrayList<IVertexBufferObject> mVertexBufferObjectsToBeUnloaded = new ArrayList<IVertexBufferObject>();
 
+	private final ArrayList<VertexBufferObjectArena> mVertexBufferObjectArenas = new ArrayList<VertexBufferObjectArena>();
+	/** Arenas whose last {@link Allocation} was freed. */
+	private final ArrayList<VertexBufferObjectArena> mVertexBufferObjectArenasToBeUnloaded = new ArrayList<VertexBufferObjectArena>();
+	private int mVertexBufferObjectArenaVertexCapacity = VertexBufferObjectManager.VERTEXBUFFEROBJECTARENA_VERTEX_CAPACITY_DEFAULT;
+
+	private int mFrame;
+
 	// ===========================================================
 	// Constructors
 	// ===========================================================
@@ -32,6 +43,28 @@ public class VertexBufferObjectManager {
 	// Getter & Setter
 	// ===========================================================
 
+	public synchronized int getVertexBufferObjectArenaVertexCapacity() {
+		return this.mVertexBufferObjectArenaVertexCapacity;
+	}
+
+	/**
+	 * Only affects {@link VertexBufferObjectArena}s that are created afterwards.
+	 */
+	public synchronized void setVertexBufferObjectArenaVertexCapacity(final int pVertexBufferObjectArenaVertexCapacity) {
+		this.mVertexBufferObjectArenaVertexCapacity = pVertexBufferObjectArenaVertexCapacity;
+	}
+
+	/**
+	 * @return the number of frames this {@link VertexBufferObjectManager} was updated for. Used by {@link DrawType#STREAM} {@link VertexBufferObject}s to emulate fences.
+	 */
+	public int getFrame() {
+		return this.mFrame;
+	}
+
+	public synchronized int getVertexBufferObjectArenaCount() {
+		return this.mVertexBufferObjectArenas.size();
+	}
+
 	public synchronized int getHeapMemoryByteSize() {
 		int byteSize = 0;
 		final ArrayList<IVertexBufferObject> vertexBufferObjectsLoaded = this.mVertexBufferObjectsLoaded;
@@ -47,6 +80,10 @@ public class VertexBufferObjectManager {
 		for(int i = vertexBufferObjectsLoaded.size() - 1; i >= 0; i--) {
 			byteSize += vertexBufferObjectsLoaded.get(i).getNativeHeapMemoryByteSize();
 		}
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenas = this.mVertexBufferObjectArenas;
+		for(int i = vertexBufferObjectArenas.size() - 1; i >= 0; i--) {
+			byteSize += vertexBufferObjectArenas.get(i).getByteCapacity();
+		}
 		return byteSize;
 	}
 
@@ -56,6 +93,10 @@ public class VertexBufferObjectManager {
 		for(int i = vertexBufferObjectsLoaded.size() - 1; i >= 0; i--) {
 			byteSize += vertexBufferObjectsLoaded.get(i).getGPUMemoryByteSize();
 		}
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenas = this.mVertexBufferObjectArenas;
+		for(int i = vertexBufferObjectArenas.size() - 1; i >= 0; i--) {
+			byteSize += vertexBufferObjectArenas.get(i).getGPUMemoryByteSize();
+		}
 		return byteSize;
 	}
 
@@ -78,6 +119,15 @@ public class VertexBufferObjectManager {
 		}
 
 		vertexBufferObjectsLoaded.clear();
+
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenas = this.mVertexBufferObjectArenas;
+		for(int i = vertexBufferObjectArenas.size() - 1; i >= 0; i--) {
+			vertexBufferObjectArenas.get(i).setNotLoadedToHardware();
+		}
+
+		this.mVertexBufferObjectArenasToBeUnloaded.clear();
+
+		QuadIndexBuffer.getInstance().setNotLoadedToHardware();
 	}
 
 	public synchronized void onVertexBufferObjectLoaded(final IVertexBufferObject pVertexBufferObject) {
@@ -90,6 +140,49 @@ public class VertexBufferObjectManager {
 		}
 	}
 
+	/**
+	 * Allocates <code>pVertexCount</code> vertices from a {@link VertexBufferObjectArena} matching the given {@link VertexBufferObjectAttributes} and {@link DrawType}.
+	 * A new {@link VertexBufferObjectArena} is created when none of the existing ones has enough free space left.
+	 *
+	 * @see ArenaVertexBufferObject
+	 */
+	public synchronized Allocation allocate(final VertexBufferObjectAttributes pVertexBufferObjectAttributes, final int pVertexCount, final DrawType pDrawType) {
+		final int usage = pDrawType.getUsage();
+
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenas = this.mVertexBufferObjectArenas;
+		final int vertexBufferObjectArenaCount = vertexBufferObjectArenas.size();
+		for(int i = 0; i < vertexBufferObjectArenaCount; i++) {
+			final VertexBufferObjectArena vertexBufferObjectArena = vertexBufferObjectArenas.get(i);
+			if((vertexBufferObjectArena.getVertexBufferObjectAttributes() == pVertexBufferObjectAttributes) && (vertexBufferObjectArena.getUsage() == usage)) {
+				final Allocation allocation = vertexBufferObjectArena.allocate(pVertexCount);
+				if(allocation != null) {
+					return allocation;
+				}
+			}
+		}
+
+		final int vertexCapacity = Math.max(pVertexCount, this.mVertexBufferObjectArenaVertexCapacity);
+		final VertexBufferObjectArena vertexBufferObjectArena = new VertexBufferObjectArena(pVertexBufferObjectAttributes, vertexCapacity, pDrawType);
+		vertexBufferObjectArenas.add(vertexBufferObjectArena);
+
+		return vertexBufferObjectArena.allocate(pVertexCount);
+	}
+
+	/**
+	 * A {@link VertexBufferObjectArena} is released as soon as its last {@link Allocation} is freed.
+	 */
+	public synchronized void free(final Allocation pAllocation) {
+		final VertexBufferObjectArena vertexBufferObjectArena = pAllocation.getArena();
+		if(vertexBufferObjectArena != null) {
+			vertexBufferObjectArena.free(pAllocation);
+
+			if(vertexBufferObjectArena.getAllocationCount() == 0) {
+				this.mVertexBufferObjectArenas.remove(vertexBufferObjectArena);
+				this.mVertexBufferObjectArenasToBeUnloaded.add(vertexBufferObjectArena);
+			}
+		}
+	}
+
 	public synchronized void onReload() {
 		final ArrayList<IVertexBufferObject> vertexBufferObjectsLoaded = this.mVertexBufferObjectsLoaded;
 		for(int i = vertexBufferObjectsLoaded.size() - 1; i >= 0; i--) {
@@ -97,12 +190,23 @@ public class VertexBufferObjectManager {
 		}
 
 		vertexBufferObjectsLoaded.clear();
+
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenas = this.mVertexBufferObjectArenas;
+		for(int i = vertexBufferObjectArenas.size() - 1; i >= 0; i--) {
+			vertexBufferObjectArenas.get(i).setNotLoadedToHardware();
+		}
+
+		this.mVertexBufferObjectArenasToBeUnloaded.clear();
+
+		QuadIndexBuffer.getInstance().setNotLoadedToHardware();
 	}
 
 	public synchronized void updateVertexBufferObjects(final GLState pGLState) {
 		final ArrayList<IVertexBufferObject> vertexBufferObjectsLoaded = this.mVertexBufferObjectsLoaded;
 		final ArrayList<IVertexBufferObject> vertexBufferObjectsToBeUnloaded = this.mVertexBufferObjectsToBeUnloaded;
 
+		this.mFrame++;
+
 		/* Unload pending VertexBufferObjects. */
 		for(int i = vertexBufferObjectsToBeUnloaded.size() - 1; i >= 0; i--){
 			final IVertexBufferObject vertexBufferObjectToBeUnloaded = vertexBufferObjectsToBeUnloaded.remove(i);
@@ -111,6 +215,18 @@ public class VertexBufferObjectManager {
 			}
 			vertexBufferObjectsLoaded.remove(vertexBufferObjectToBeUnloaded);
 		}
+
+		/* Unload empty VertexBufferObjectArenas. */
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenasToBeUnloaded = this.mVertexBufferObjectArenasToBeUnloaded;
+		for(int i = vertexBufferObjectArenasToBeUnloaded.size() - 1; i >= 0; i--) {
+			vertexBufferObjectArenasToBeUnloaded.remove(i).unloadFromHardware(pGLState);
+		}
+
+		/* Upload the dirty vertices of all VertexBufferObjectArenas at once, before anything is drawn. */
+		final ArrayList<VertexBufferObjectArena> vertexBufferObjectArenas = this.mVertexBufferObjectArenas;
+		for(int i = vertexBufferObjectArenas.size() - 1; i >= 0; i--) {
+			vertexBufferObjectArenas.get(i).updateHardwareBuffer(pGLState);
+		}
 	}
 
 	// ===========================================================
@@ -70,6 +70,11 @@ public abstract class ZeroMemoryVertexBufferObject implements IVertexBufferObjec
 		return this.mVertexBufferObjectManager;
 	}
 
+	@Override
+	public VertexBufferObjectAttributes getVertexBufferObjectAttributes() {
+		return this.mVertexBufferObjectAttributes;
+	}
+
 	@Override
 	public boolean isDisposed() {
 		return this.mDisposed;
@@ -106,6 +111,14 @@ public abstract class ZeroMemoryVertexBufferObject implements IVertexBufferObjec
 		this.mDirtyOnHardware = true;
 	}
 
+	/**
+	 * As a {@link ZeroMemoryVertexBufferObject} doesn't keep its bufferdata around, it is always updated completely.
+	 */
+	@Override
+	public void setDirtyOnHardware(final int pOffset, final int pCount) {
+		this.mDirtyOnHardware = true;
+	}
+
 	@Override
 	public int getCapacity() {
 		return this.mCapacity;
@@ -157,7 +170,7 @@ public abstract class ZeroMemoryVertexBufferObject implements IVertexBufferObjec
 
 				this.onPopulateBufferData(byteBuffer);
 	
-				GLES20.glBufferData(GLES20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, this.mUsage);
+				GLState.glBufferData(GLES20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, this.mUsage);
 			} finally {
 				if(byteBuffer != null) {
 					this.releaseByteBuffer(byteBuffer);
@@ -191,12 +204,12 @@ public abstract class ZeroMemoryVertexBufferObject implements IVertexBufferObjec
 
 	@Override
 	public void draw(final int pPrimitiveType, final int pCount) {
-		GLES20.glDrawArrays(pPrimitiveType, 0, pCount);
+		GLState.glDrawArrays(pPrimitiveType, 0, pCount);
 	}
 
 	@Override
 	public void draw(final int pPrimitiveType, final int pOffset, final int pCount) {
-		GLES20.glDrawArrays(pPrimitiveType, pOffset, pCount);
+		GLState.glDrawArrays(pPrimitiveType, pOffset, pCount);
 	}
 
 	@Override
@@ -73,6 +73,13 @@ public class VertexBufferObjectAttribute {
 		GLES20.glVertexAttribPointer(this.mLocation, this.mSize, this.mType, this.mNormalized, pStride, this.mOffset);
 	}
 
+	/**
+	 * @param pByteOffset added to the offset of this {@link VertexBufferObjectAttribute}, i.e. to start reading at a later vertex.
+	 */
+	public void glVertexAttribPointer(final int pStride, final int pByteOffset) {
+		GLES20.glVertexAttribPointer(this.mLocation, this.mSize, this.mType, this.mNormalized, pStride, this.mOffset + pByteOffset);
+	}
+
 	// ===========================================================
 	// Methods
 	// ===========================================================
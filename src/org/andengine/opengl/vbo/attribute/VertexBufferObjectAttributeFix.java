@@ -39,6 +39,11 @@ public class VertexBufferObjectAttributeFix extends VertexBufferObjectAttribute
 		GLES20Fix.glVertexAttribPointer(this.mLocation, this.mSize, this.mType, this.mNormalized, pStride, this.mOffset);
 	}
 
+	@Override
+	public void glVertexAttribPointer(final int pStride, final int pByteOffset) {
+		GLES20Fix.glVertexAttribPointer(this.mLocation, this.mSize, this.mType, this.mNormalized, pStride, this.mOffset + pByteOffset);
+	}
+
 	// ===========================================================
 	// Methods
 	// ===========================================================
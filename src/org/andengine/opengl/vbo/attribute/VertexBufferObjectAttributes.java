@@ -32,6 +32,31 @@ public class VertexBufferObjectAttributes {
 	// Getter & Setter
 	// ===========================================================
 
+	public int getStride() {
+		return this.mStride;
+	}
+
+	public int getVertexBufferObjectAttributeCount() {
+		return this.mVertexBufferObjectAttributes.length;
+	}
+
+	public VertexBufferObjectAttribute getVertexBufferObjectAttribute(final int pIndex) {
+		return this.mVertexBufferObjectAttributes[pIndex];
+	}
+
+	/**
+	 * @return <code>null</code> if there is no {@link VertexBufferObjectAttribute} bound to <code>pLocation</code>.
+	 */
+	public VertexBufferObjectAttribute getVertexBufferObjectAttributeByLocation(final int pLocation) {
+		final VertexBufferObjectAttribute[] vertexBufferObjectAttributes = this.mVertexBufferObjectAttributes;
+		for(int i = 0; i < vertexBufferObjectAttributes.length; i++) {
+			if(vertexBufferObjectAttributes[i].getLocation() == pLocation) {
+				return vertexBufferObjectAttributes[i];
+			}
+		}
+		return null;
+	}
+
 	// ===========================================================
 	// Methods for/from SuperClass/Interfaces
 	// ===========================================================
@@ -51,6 +76,20 @@ public class VertexBufferObjectAttributes {
 		}
 	}
 
+	/**
+	 * @param pByteOffset where the first vertex starts in the bound buffer.
+	 */
+	public void glVertexAttribPointers(final int pByteOffset) {
+		final VertexBufferObjectAttribute[] vertexBufferObjectAttributes = this.mVertexBufferObjectAttributes;
+
+		final int stride = this.mStride;
+
+		final int vertexBufferObjectAttributeCount = vertexBufferObjectAttributes.length;
+		for(int i = 0; i < vertexBufferObjectAttributeCount; i++) {
+			vertexBufferObjectAttributes[i].glVertexAttribPointer(stride, pByteOffset);
+		}
+	}
+
 	// ===========================================================
 	// Inner and Anonymous Classes
 	// ===========================================================
@@ -18,6 +18,9 @@ public class VertexBufferObjectAttributesBuilder {
 	// Constants
 	// ===========================================================
 
+	/** From the <code>GL_OES_vertex_half_float</code> extension, which is not part of {@link GLES20}. */
+	public static final int GL_HALF_FLOAT_OES = 0x8D61;
+
 	/** Android issue 8931. */
 	private static final boolean WORAROUND_GLES2_GLVERTEXATTRIBPOINTER_MISSING;
 
@@ -65,6 +68,12 @@ public class VertexBufferObjectAttributesBuilder {
 			case GLES20.GL_FLOAT:
 				this.mOffset += pSize * DataConstants.BYTES_PER_FLOAT;
 				break;
+			case GLES20.GL_SHORT:
+			case GLES20.GL_UNSIGNED_SHORT:
+			case VertexBufferObjectAttributesBuilder.GL_HALF_FLOAT_OES:
+				this.mOffset += pSize * DataConstants.BYTES_PER_SHORT;
+				break;
+			case GLES20.GL_BYTE:
 			case GLES20.GL_UNSIGNED_BYTE:
 				this.mOffset += pSize * DataConstants.BYTES_PER_BYTE;
 				break;
@@ -23,6 +23,7 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 	private static final int GREEN_SIZE = 6;
 	private static final int BLUE_SIZE = 5;
 	private static final int DEPTH_SIZE = 0;
+	private static final int DEPTH_SIZE_DEPTHBUFFER = 16;
 	private static final int ALPHA_SIZE = 0;
 	private static final int STENCIL_SIZE = 0;
 
@@ -75,6 +76,11 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 	// ===========================================================
 
 	private final boolean mMultiSamplingRequested;
+	private final int mDepthSizeRequested;
+
+	private final int[] mEGLConfigAttributesMultiSample;
+	private final int[] mEGLConfigAttributesCoverageMultiSampleNvidia;
+	private final int[] mEGLConfigAttributesFallback;
 
 	private boolean mMultiSampling;
 	private boolean mCoverageMultiSampling;
@@ -91,7 +97,19 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 	// ===========================================================
 
 	public ConfigChooser(final boolean pMultiSamplingRequested) {
+		this(pMultiSamplingRequested, false);
+	}
+
+	/**
+	 * @param pDepthBufferRequested whether a depth buffer is requested, i.e. for {@link org.andengine.engine.options.RenderOptions#isDepthSortedDrawing()}. Configs without one are still accepted as a last resort, so check {@link ConfigChooser#getDepthSize()}.
+	 */
+	public ConfigChooser(final boolean pMultiSamplingRequested, final boolean pDepthBufferRequested) {
 		this.mMultiSamplingRequested = pMultiSamplingRequested;
+		this.mDepthSizeRequested = (pDepthBufferRequested) ? ConfigChooser.DEPTH_SIZE_DEPTHBUFFER : ConfigChooser.DEPTH_SIZE;
+
+		this.mEGLConfigAttributesMultiSample = ConfigChooser.withDepthSize(ConfigChooser.EGLCONFIG_ATTRIBUTES_MULTISAMPLE, this.mDepthSizeRequested);
+		this.mEGLConfigAttributesCoverageMultiSampleNvidia = ConfigChooser.withDepthSize(ConfigChooser.EGLCONFIG_ATTRIBUTES_COVERAGEMULTISAMPLE_NVIDIA, this.mDepthSizeRequested);
+		this.mEGLConfigAttributesFallback = ConfigChooser.withDepthSize(ConfigChooser.EGLCONFIG_ATTRIBUTES_FALLBACK, this.mDepthSizeRequested);
 	}
 
 	// ===========================================================
@@ -163,22 +181,22 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 		int eglConfigCount;
 
 		if(this.mMultiSamplingRequested) {
-			eglConfigCount = ConfigChooser.getEGLConfigCount(pEGL, pEGLDisplay, ConfigChooser.EGLCONFIG_ATTRIBUTES_MULTISAMPLE);
+			eglConfigCount = ConfigChooser.getEGLConfigCount(pEGL, pEGLDisplay, this.mEGLConfigAttributesMultiSample);
 			if(eglConfigCount > 0) {
 				this.mMultiSampling = true;
-				return this.findEGLConfig(pEGL, pEGLDisplay, ConfigChooser.EGLCONFIG_ATTRIBUTES_MULTISAMPLE, eglConfigCount, pConfigChooserMatcher);
+				return this.findEGLConfig(pEGL, pEGLDisplay, this.mEGLConfigAttributesMultiSample, eglConfigCount, pConfigChooserMatcher);
 			}
 
-			eglConfigCount = ConfigChooser.getEGLConfigCount(pEGL, pEGLDisplay, ConfigChooser.EGLCONFIG_ATTRIBUTES_COVERAGEMULTISAMPLE_NVIDIA);
+			eglConfigCount = ConfigChooser.getEGLConfigCount(pEGL, pEGLDisplay, this.mEGLConfigAttributesCoverageMultiSampleNvidia);
 			if(eglConfigCount > 0) {
 				this.mCoverageMultiSampling = true;
-				return this.findEGLConfig(pEGL, pEGLDisplay, ConfigChooser.EGLCONFIG_ATTRIBUTES_COVERAGEMULTISAMPLE_NVIDIA, eglConfigCount, pConfigChooserMatcher);
+				return this.findEGLConfig(pEGL, pEGLDisplay, this.mEGLConfigAttributesCoverageMultiSampleNvidia, eglConfigCount, pConfigChooserMatcher);
 			}
 		}
 
-		eglConfigCount = ConfigChooser.getEGLConfigCount(pEGL, pEGLDisplay, ConfigChooser.EGLCONFIG_ATTRIBUTES_FALLBACK);
+		eglConfigCount = ConfigChooser.getEGLConfigCount(pEGL, pEGLDisplay, this.mEGLConfigAttributesFallback);
 		if(eglConfigCount > 0) {
-			return this.findEGLConfig(pEGL, pEGLDisplay, ConfigChooser.EGLCONFIG_ATTRIBUTES_FALLBACK, eglConfigCount, pConfigChooserMatcher);
+			return this.findEGLConfig(pEGL, pEGLDisplay, this.mEGLConfigAttributesFallback, eglConfigCount, pConfigChooserMatcher);
 		} else {
 			throw new IllegalArgumentException("No " + EGLConfig.class.getSimpleName() + " found!");
 		}
@@ -188,6 +206,16 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 	// Methods
 	// ===========================================================
 
+	private static int[] withDepthSize(final int[] pEGLConfigAttributes, final int pDepthSize) {
+		final int[] eglConfigAttributes = pEGLConfigAttributes.clone();
+		for(int i = 0; i < eglConfigAttributes.length; i += 2) {
+			if(eglConfigAttributes[i] == EGL10.EGL_DEPTH_SIZE) {
+				eglConfigAttributes[i + 1] = pDepthSize;
+			}
+		}
+		return eglConfigAttributes;
+	}
+
 	private static int getEGLConfigCount(final EGL10 pEGL, final EGLDisplay pEGLDisplay, final int[] pEGLConfigAttributes) {
 		if(pEGL.eglChooseConfig(pEGLDisplay, pEGLConfigAttributes, null, 0, ConfigChooser.BUFFER) == false) {
 			throw new IllegalArgumentException("EGLCONFIG_FALLBACK failed!");
@@ -215,7 +243,7 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 				final int depthSize = ConfigChooser.getConfigAttrib(pEGL, pEGLDisplay, config, EGL10.EGL_DEPTH_SIZE, 0);
 				final int stencilSize = ConfigChooser.getConfigAttrib(pEGL, pEGLDisplay, config, EGL10.EGL_STENCIL_SIZE, 0);
 
-				if(pConfigChooserMatcher.matches(redSize, greenSize, blueSize, alphaSize, depthSize, stencilSize)) {
+				if(pConfigChooserMatcher.matches(redSize, greenSize, blueSize, alphaSize, depthSize, stencilSize, this.mDepthSizeRequested)) {
 					this.mRedSize = redSize;
 					this.mGreenSize = greenSize;
 					this.mBlueSize = blueSize;
@@ -248,8 +276,8 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 
 		STRICT() {
 			@Override
-			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize) {
-				if(pDepthSize == ConfigChooser.DEPTH_SIZE && pStencilSize == ConfigChooser.STENCIL_SIZE) {
+			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize, final int pDepthSizeRequested) {
+				if(pDepthSize == pDepthSizeRequested && pStencilSize == ConfigChooser.STENCIL_SIZE) {
 					if(pRedSize == ConfigChooser.RED_SIZE && pGreenSize == ConfigChooser.GREEN_SIZE && pBlueSize == ConfigChooser.BLUE_SIZE && pAlphaSize == ConfigChooser.ALPHA_SIZE) {
 						return true;
 					}
@@ -259,8 +287,8 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 		},
 		LOOSE_STENCIL() {
 			@Override
-			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize) {
-				if(pDepthSize == ConfigChooser.DEPTH_SIZE && pStencilSize >= ConfigChooser.STENCIL_SIZE) {
+			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize, final int pDepthSizeRequested) {
+				if(pDepthSize == pDepthSizeRequested && pStencilSize >= ConfigChooser.STENCIL_SIZE) {
 					if(pRedSize == ConfigChooser.RED_SIZE && pGreenSize == ConfigChooser.GREEN_SIZE && pBlueSize == ConfigChooser.BLUE_SIZE && pAlphaSize == ConfigChooser.ALPHA_SIZE) {
 						return true;
 					}
@@ -270,8 +298,8 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 		},
 		LOOSE_DEPTH_AND_STENCIL() {
 			@Override
-			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize) {
-				if(pDepthSize >= ConfigChooser.DEPTH_SIZE && pStencilSize >= ConfigChooser.STENCIL_SIZE) {
+			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize, final int pDepthSizeRequested) {
+				if(pDepthSize >= pDepthSizeRequested && pStencilSize >= ConfigChooser.STENCIL_SIZE) {
 					if(pRedSize == ConfigChooser.RED_SIZE && pGreenSize == ConfigChooser.GREEN_SIZE && pBlueSize == ConfigChooser.BLUE_SIZE && pAlphaSize == ConfigChooser.ALPHA_SIZE) {
 						return true;
 					}
@@ -281,7 +309,7 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 		},
 		ANY() {
 			@Override
-			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize) {
+			public boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize, final int pDepthSizeRequested) {
 				return true;
 			}
 		};
@@ -306,7 +334,7 @@ public class ConfigChooser implements GLSurfaceView.EGLConfigChooser {
 		// Methods for/from SuperClass/Interfaces
 		// ===========================================================
 
-		public abstract boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize);
+		public abstract boolean matches(final int pRedSize, final int pGreenSize, final int pBlueSize, final int pAlphaSize, final int pDepthSize, final int pStencilSize, final int pDepthSizeRequested);
 
 		// ===========================================================
 		// Methods
@@ -71,6 +71,14 @@ public class EngineRenderer implements GLSurfaceView.Renderer {
 			this.mGLState.enableBlend();
 			this.mGLState.setDitherEnabled(renderOptions.isDithering());
 
+			if(renderOptions.isDepthSortedDrawing()) {
+				if(this.mConfigChooser.getDepthSize() > 0) {
+					this.mGLState.setDepthSortedDrawing(true);
+				} else {
+					Debug.w("Depth sorted drawing was requested, but no depth buffer is available.");
+				}
+			}
+
 			/* Enabling culling doesn't really make sense, because triangles are never drawn 'backwards' on purpose. */
 //			this.mGLState.enableCulling();
 //			GLES20.glFrontFace(GLES20.GL_CCW);
@@ -79,7 +79,8 @@ public class RenderSurfaceView extends GLSurfaceView {
 	public void setRenderer(final Engine pEngine, final IRendererListener pRendererListener) {
 		if(this.mConfigChooser == null) {
 			final boolean multiSampling = pEngine.getEngineOptions().getRenderOptions().isMultiSampling();
-			this.mConfigChooser = new ConfigChooser(multiSampling);
+			final boolean depthSortedDrawing = pEngine.getEngineOptions().getRenderOptions().isDepthSortedDrawing();
+			this.mConfigChooser = new ConfigChooser(multiSampling, depthSortedDrawing);
 		}
 		this.setEGLConfigChooser(this.mConfigChooser);
 
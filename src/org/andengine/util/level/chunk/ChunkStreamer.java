@@ -0,0 +1,345 @@
+package org.andengine.util.level.chunk;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.andengine.engine.camera.Camera;
+import org.andengine.engine.handler.IUpdateHandler;
+import org.andengine.entity.IEntity;
+import org.andengine.util.adt.map.LongSparseArray;
+import org.andengine.util.debug.Debug;
+
+/**
+ * Streams a world that is partitioned into a regular grid of chunks in and out around a {@link Camera}.
+ *
+ * Chunks that come within <code>pLoadMargin</code> chunks of the visible area of the {@link Camera} are loaded on background threads through an {@link IChunkLoader}.
+ * The loaded {@link IEntity}s are attached to the parent {@link IEntity} on the update thread, at most {@link ChunkStreamer#getChunkAttachCountPerUpdateMaximum()} per update.
+ * Chunks are only detached (and handed back to the {@link IChunkLoader} for recycling) once they are farther than <code>pUnloadMargin</code> chunks away,
+ * so a {@link Camera} moving back and forth along a chunk border doesn't cause chunks to be loaded and unloaded over and over again.
+ *
+ * Register the {@link ChunkStreamer} as an {@link IUpdateHandler} with the {@link org.andengine.engine.Engine} or a {@link org.andengine.entity.scene.Scene}
+ * and {@link ChunkStreamer#dispose()} it when the world is left.
+ *
+ * @author agent <agent@local>
+ * @since 06:05:00 - 19.10.2026
+ */
+public class ChunkStreamer implements IUpdateHandler {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	private static final int THREAD_COUNT_DEFAULT = 1;
+	private static final int CHUNK_ATTACH_COUNT_PER_UPDATE_MAXIMUM_DEFAULT = 2;
+
+	// ===========================================================
+	// Fields
+	// ===========================================================
+
+	private final Camera mCamera;
+	private final IEntity mParentEntity;
+	private final IChunkLoader mChunkLoader;
+
+	private final float mChunkWidth;
+	private final float mChunkHeight;
+	private final int mLoadMargin;
+	private final int mUnloadMargin;
+
+	private final ExecutorService mExecutorService;
+
+	private final LongSparseArray<Chunk> mChunkMap = new LongSparseArray<Chunk>();
+	private final ArrayList<Chunk> mChunks = new ArrayList<Chunk>();
+	private final ConcurrentLinkedQueue<Chunk> mLoadedChunks = new ConcurrentLinkedQueue<Chunk>();
+
+	private int mChunkAttachCountPerUpdateMaximum = ChunkStreamer.CHUNK_ATTACH_COUNT_PER_UPDATE_MAXIMUM_DEFAULT;
+
+	private int mChunkXMin = Integer.MAX_VALUE;
+	private int mChunkYMin = Integer.MAX_VALUE;
+	private int mChunkXMax = Integer.MIN_VALUE;
+	private int mChunkYMax = Integer.MIN_VALUE;
+
+	private boolean mDisposed;
+
+	// ===========================================================
+	// Constructors
+	// ===========================================================
+
+	public ChunkStreamer(final Camera pCamera, final IEntity pParentEntity, final float pChunkWidth, final float pChunkHeight, final int pLoadMargin, final int pUnloadMargin, final IChunkLoader pChunkLoader) {
+		this(pCamera, pParentEntity, pChunkWidth, pChunkHeight, pLoadMargin, pUnloadMargin, pChunkLoader, ChunkStreamer.THREAD_COUNT_DEFAULT);
+	}
+
+	/**
+	 * @param pLoadMargin the number of chunks around the visible area that are loaded ahead of time.
+	 * @param pUnloadMargin the number of chunks around the visible area that are kept loaded. Must be at least <code>pLoadMargin</code>.
+	 */
+	public ChunkStreamer(final Camera pCamera, final IEntity pParentEntity, final float pChunkWidth, final float pChunkHeight, final int pLoadMargin, final int pUnloadMargin, final IChunkLoader pChunkLoader, final int pThreadCount) {
+		if(pUnloadMargin < pLoadMargin) {
+			throw new IllegalArgumentException("pUnloadMargin must be at least pLoadMargin.");
+		}
+
+		this.mCamera = pCamera;
+		this.mParentEntity = pParentEntity;
+		this.mChunkWidth = pChunkWidth;
+		this.mChunkHeight = pChunkHeight;
+		this.mLoadMargin = pLoadMargin;
+		this.mUnloadMargin = pUnloadMargin;
+		this.mChunkLoader = pChunkLoader;
+
+		this.mExecutorService = Executors.newFixedThreadPool(pThreadCount, new ThreadFactory() {
+			@Override
+			public Thread newThread(final Runnable pRunnable) {
+				final Thread thread = new Thread(pRunnable, ChunkStreamer.class.getSimpleName());
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}
+		});
+	}
+
+	// ===========================================================
+	// Getter & Setter
+	// ===========================================================
+
+	public int getChunkAttachCountPerUpdateMaximum() {
+		return this.mChunkAttachCountPerUpdateMaximum;
+	}
+
+	public void setChunkAttachCountPerUpdateMaximum(final int pChunkAttachCountPerUpdateMaximum) {
+		this.mChunkAttachCountPerUpdateMaximum = pChunkAttachCountPerUpdateMaximum;
+	}
+
+	/**
+	 * @return the number of chunks that are either loaded or being loaded.
+	 */
+	public int getChunkCount() {
+		return this.mChunks.size();
+	}
+
+	public boolean isDisposed() {
+		return this.mDisposed;
+	}
+
+	// ===========================================================
+	// Methods for/from SuperClass/Interfaces
+	// ===========================================================
+
+	@Override
+	public void onUpdate(final float pSecondsElapsed) {
+		if(this.mDisposed) {
+			return;
+		}
+
+		this.attachLoadedChunks();
+
+		final Camera camera = this.mCamera;
+		final int chunkXMin = this.getChunkX(camera.getXMin());
+		final int chunkYMin = this.getChunkY(camera.getYMin());
+		final int chunkXMax = this.getChunkX(camera.getXMax());
+		final int chunkYMax = this.getChunkY(camera.getYMax());
+
+		/* Only when the visible chunk range changed, chunks have to be loaded or unloaded. */
+		if((chunkXMin != this.mChunkXMin) || (chunkYMin != this.mChunkYMin) || (chunkXMax != this.mChunkXMax) || (chunkYMax != this.mChunkYMax)) {
+			this.mChunkXMin = chunkXMin;
+			this.mChunkYMin = chunkYMin;
+			this.mChunkXMax = chunkXMax;
+			this.mChunkYMax = chunkYMax;
+
+			this.unloadChunks(chunkXMin - this.mUnloadMargin, chunkYMin - this.mUnloadMargin, chunkXMax + this.mUnloadMargin, chunkYMax + this.mUnloadMargin);
+			this.loadChunks(chunkXMin - this.mLoadMargin, chunkYMin - this.mLoadMargin, chunkXMax + this.mLoadMargin, chunkYMax + this.mLoadMargin);
+		}
+	}
+
+	@Override
+	public void reset() {
+
+	}
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Unloads all chunks and stops the background threads. Must be called from the update thread.
+	 * Blocks until the chunks that are being loaded at that moment are done, so that they can be handed back to the {@link IChunkLoader} as well.
+	 */
+	public void dispose() {
+		if(this.mDisposed) {
+			throw new IllegalStateException(this.getClass().getSimpleName() + " was already disposed.");
+		}
+		this.mDisposed = true;
+
+		this.mExecutorService.shutdownNow();
+		try {
+			this.mExecutorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		} catch (final InterruptedException e) {
+			Debug.e("Interrupted while waiting for the chunks being loaded.", e);
+			Thread.currentThread().interrupt();
+		}
+
+		final ArrayList<Chunk> chunks = this.mChunks;
+		for(int i = chunks.size() - 1; i >= 0; i--) {
+			this.unloadChunk(chunks.get(i));
+		}
+		chunks.clear();
+		this.mChunkMap.clear();
+
+		/* Hand back chunks that were loaded, but not yet attached. */
+		Chunk chunk;
+		while((chunk = this.mLoadedChunks.poll()) != null) {
+			if(chunk.mChunkEntity != null) {
+				this.mChunkLoader.onUnloadChunk(chunk.mChunkX, chunk.mChunkY, chunk.mChunkEntity);
+				chunk.mChunkEntity = null;
+			}
+		}
+	}
+
+	private int getChunkX(final float pX) {
+		return (int) Math.floor(pX / this.mChunkWidth);
+	}
+
+	private int getChunkY(final float pY) {
+		return (int) Math.floor(pY / this.mChunkHeight);
+	}
+
+	private static long getChunkKey(final int pChunkX, final int pChunkY) {
+		return (((long) pChunkX) << 32) | (pChunkY & 0xFFFFFFFFL);
+	}
+
+	private void loadChunks(final int pChunkXMin, final int pChunkYMin, final int pChunkXMax, final int pChunkYMax) {
+		final LongSparseArray<Chunk> chunkMap = this.mChunkMap;
+
+		for(int chunkX = pChunkXMin; chunkX <= pChunkXMax; chunkX++) {
+			for(int chunkY = pChunkYMin; chunkY <= pChunkYMax; chunkY++) {
+				final long chunkKey = ChunkStreamer.getChunkKey(chunkX, chunkY);
+				if(chunkMap.get(chunkKey) == null) {
+					final Chunk chunk = new Chunk(chunkX, chunkY);
+					chunkMap.put(chunkKey, chunk);
+					this.mChunks.add(chunk);
+
+					this.mExecutorService.execute(chunk);
+				}
+			}
+		}
+	}
+
+	private void unloadChunks(final int pChunkXMin, final int pChunkYMin, final int pChunkXMax, final int pChunkYMax) {
+		final ArrayList<Chunk> chunks = this.mChunks;
+		for(int i = chunks.size() - 1; i >= 0; i--) {
+			final Chunk chunk = chunks.get(i);
+			if((chunk.mChunkX < pChunkXMin) || (chunk.mChunkX > pChunkXMax) || (chunk.mChunkY < pChunkYMin) || (chunk.mChunkY > pChunkYMax)) {
+				chunks.remove(i);
+				this.mChunkMap.remove(ChunkStreamer.getChunkKey(chunk.mChunkX, chunk.mChunkY));
+
+				this.unloadChunk(chunk);
+			}
+		}
+	}
+
+	private void unloadChunk(final Chunk pChunk) {
+		pChunk.mDiscarded = true;
+
+		/* Chunks that are still loading are unloaded once their result arrives in attachLoadedChunks. */
+		if(pChunk.mAttached) {
+			pChunk.mAttached = false;
+
+			final IEntity chunkEntity = pChunk.mChunkEntity;
+			pChunk.mChunkEntity = null;
+			if(chunkEntity != null) {
+				chunkEntity.detachSelf();
+				this.mChunkLoader.onUnloadChunk(pChunk.mChunkX, pChunk.mChunkY, chunkEntity);
+			}
+		}
+	}
+
+	private void attachLoadedChunks() {
+		final ConcurrentLinkedQueue<Chunk> loadedChunks = this.mLoadedChunks;
+
+		int chunkAttachCount = 0;
+		while(chunkAttachCount < this.mChunkAttachCountPerUpdateMaximum) {
+			final Chunk chunk = loadedChunks.poll();
+			if(chunk == null) {
+				return;
+			}
+
+			if(chunk.mDiscarded) {
+				final IEntity chunkEntity = chunk.mChunkEntity;
+				chunk.mChunkEntity = null;
+				if(chunkEntity != null) {
+					this.mChunkLoader.onUnloadChunk(chunk.mChunkX, chunk.mChunkY, chunkEntity);
+				}
+			} else {
+				chunk.mAttached = true;
+				if(chunk.mChunkEntity != null) {
+					this.mParentEntity.attachChild(chunk.mChunkEntity);
+					chunkAttachCount++;
+				}
+			}
+		}
+	}
+
+	// ===========================================================
+	// Inner and Anonymous Classes
+	// ===========================================================
+
+	private class Chunk implements Runnable {
+		// ===========================================================
+		// Constants
+		// ===========================================================
+
+		// ===========================================================
+		// Fields
+		// ===========================================================
+
+		private final int mChunkX;
+		private final int mChunkY;
+
+		/** Written by the loading thread and published through {@link ChunkStreamer#mLoadedChunks}. */
+		private IEntity mChunkEntity;
+
+		/** Only accessed on the update thread. */
+		private boolean mAttached;
+		/** Set on the update thread, checked by the loading thread to skip chunks that are no longer needed. */
+		private volatile boolean mDiscarded;
+
+		// ===========================================================
+		// Constructors
+		// ===========================================================
+
+		public Chunk(final int pChunkX, final int pChunkY) {
+			this.mChunkX = pChunkX;
+			this.mChunkY = pChunkY;
+		}
+
+		// ===========================================================
+		// Getter & Setter
+		// ===========================================================
+
+		// ===========================================================
+		// Methods for/from SuperClass/Interfaces
+		// ===========================================================
+
+		@Override
+		public void run() {
+			/* Skip chunks that went out of range while they were waiting to be loaded. */
+			if(!this.mDiscarded) {
+				try {
+					this.mChunkEntity = ChunkStreamer.this.mChunkLoader.onLoadChunk(this.mChunkX, this.mChunkY);
+				} catch (final Throwable t) {
+					Debug.e("Error loading chunk: [" + this.mChunkX + ", " + this.mChunkY + "]", t);
+				}
+			}
+			ChunkStreamer.this.mLoadedChunks.add(this);
+		}
+
+		// ===========================================================
+		// Methods
+		// ===========================================================
+
+		// ===========================================================
+		// Inner and Anonymous Classes
+		// ===========================================================
+	}
+}
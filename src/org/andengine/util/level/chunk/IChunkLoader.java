@@ -0,0 +1,30 @@
+package org.andengine.util.level.chunk;
+
+import org.andengine.entity.IEntity;
+
+/**
+ * @author agent <agent@local>
+ * @since 06:05:00 - 19.10.2026
+ */
+public interface IChunkLoader {
+	// ===========================================================
+	// Constants
+	// ===========================================================
+
+	// ===========================================================
+	// Methods
+	// ===========================================================
+
+	/**
+	 * Called on a background thread of the {@link ChunkStreamer}. Must not touch the scene graph, except for the returned {@link IEntity} itself.
+	 *
+	 * @return the {@link IEntity} holding the contents of the chunk, positioned in world coordinates, or <code>null</code> if the chunk is empty.
+	 */
+	public IEntity onLoadChunk(final int pChunkX, final int pChunkY);
+
+	/**
+	 * Called on the update thread after the {@link IEntity} of the chunk has been detached (or was discarded before it was ever attached).
+	 * This is the place to recycle the {@link IEntity} and its children.
+	 */
+	public void onUnloadChunk(final int pChunkX, final int pChunkY, final IEntity pChunkEntity);
+}